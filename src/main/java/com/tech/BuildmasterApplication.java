@@ -2,10 +2,10 @@ package com.tech;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.data.mongodb.repository.config.EnableMongoRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableMongoRepositories
+@EnableScheduling
 public class BuildmasterApplication {
 
     public static void main(String[] args) {
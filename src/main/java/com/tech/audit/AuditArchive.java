@@ -0,0 +1,322 @@
+package com.tech.audit;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.tech.dto.AuditLogFilter;
+import com.tech.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Cold tier for audit entries that have aged out of Mongo. Entries are stored in
+ * immutable segment files, each a run of deflate-compressed NDJSON blocks followed
+ * by a per-block time-range index and a fixed-size footer:
+ *
+ * <pre>
+ * block*  index(minTs, maxTs, offset, compressedLength, rawLength, count)*  footer(indexOffset, blockCount, minTs, maxTs, magic)
+ * </pre>
+ *
+ * Segments are memory-mapped read-only, so a query only inflates the blocks whose
+ * time range overlaps it.
+ */
+@Component
+public class AuditArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchive.class);
+
+    private static final int MAGIC = 0x41534731; // "ASG1"
+    private static final int INDEX_ENTRY_BYTES = Long.BYTES * 3 + Integer.BYTES * 3;
+    private static final int FOOTER_BYTES = Long.BYTES + Integer.BYTES + Long.BYTES * 2 + Integer.BYTES;
+    private static final String SEGMENT_SUFFIX = ".aseg";
+
+    public static final Comparator<AuditLog> NEWEST_FIRST = Comparator
+            .<AuditLog, LocalDateTime>comparing(AuditLog::getTimestamp, Comparator.reverseOrder())
+            .thenComparing(AuditLog::getId, Comparator.reverseOrder());
+
+    private record Block(long minTs, long maxTs, int offset, int compressedLength, int rawLength, int count) {
+    }
+
+    private record Segment(Path path, MappedByteBuffer buffer, long minTs, long maxTs, List<Block> blocks) {
+    }
+
+    private final Path directory;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader logReader;
+    private final int blockEvents;
+    private final List<Segment> segments = new CopyOnWriteArrayList<>();
+
+    public AuditArchive(ObjectMapper objectMapper,
+                        @Value("${tech.audit.retention.archive-dir:./audit-archive}") String directory,
+                        @Value("${tech.audit.retention.block-events:1024}") int blockEvents) {
+        this.objectMapper = objectMapper;
+        this.logReader = objectMapper.readerFor(AuditLog.class);
+        this.directory = Path.of(directory);
+        this.blockEvents = blockEvents;
+    }
+
+    @PostConstruct
+    void loadSegments() throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    segments.add(open(file));
+                } catch (IOException | RuntimeException e) {
+                    logger.error("Skipping unreadable audit segment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        logger.info("Loaded {} audit archive segments from {}", segments.size(), directory);
+    }
+
+    public Optional<LocalDateTime> newestTimestamp() {
+        return segments.stream().mapToLong(Segment::maxTs).max().stream().mapToObj(AuditArchive::toTimestamp).findFirst();
+    }
+
+    /**
+     * Writes a new immutable segment. The file is built under a temporary name,
+     * forced to disk and then atomically renamed, so readers never see a partial
+     * segment and the caller may safely delete the source documents afterwards.
+     */
+    public synchronized void writeSegment(List<AuditLog> logs) throws IOException {
+        if (logs.isEmpty()) {
+            return;
+        }
+        List<AuditLog> sorted = new ArrayList<>(logs);
+        sorted.sort(NEWEST_FIRST.reversed());
+
+        Files.createDirectories(directory);
+        String name = "seg-" + millis(sorted.get(0)) + "-" + millis(sorted.get(sorted.size() - 1)) + "-" + UUID.randomUUID();
+        Path temp = directory.resolve(name + ".tmp");
+        Path target = directory.resolve(name + SEGMENT_SUFFIX);
+
+        List<Block> blocks = new ArrayList<>();
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            int offset = 0;
+            for (int from = 0; from < sorted.size(); from += blockEvents) {
+                List<AuditLog> chunk = sorted.subList(from, Math.min(from + blockEvents, sorted.size()));
+                ByteArrayOutputStream raw = new ByteArrayOutputStream();
+                for (AuditLog log : chunk) {
+                    raw.write(objectMapper.writeValueAsBytes(log));
+                    raw.write('\n');
+                }
+                byte[] rawBytes = raw.toByteArray();
+                byte[] compressed = deflate(rawBytes);
+                writeFully(channel, ByteBuffer.wrap(compressed));
+                blocks.add(new Block(millis(chunk.get(0)), millis(chunk.get(chunk.size() - 1)),
+                        offset, compressed.length, rawBytes.length, chunk.size()));
+                offset += compressed.length;
+            }
+
+            ByteBuffer trailer = ByteBuffer.allocate(blocks.size() * INDEX_ENTRY_BYTES + FOOTER_BYTES);
+            for (Block block : blocks) {
+                trailer.putLong(block.minTs()).putLong(block.maxTs()).putLong(block.offset())
+                        .putInt(block.compressedLength()).putInt(block.rawLength()).putInt(block.count());
+            }
+            trailer.putLong(offset).putInt(blocks.size())
+                    .putLong(blocks.get(0).minTs()).putLong(blocks.get(blocks.size() - 1).maxTs())
+                    .putInt(MAGIC);
+            trailer.flip();
+            writeFully(channel, trailer);
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        segments.add(open(target));
+    }
+
+    /**
+     * Returns up to {@code limit} archived entries matching the filter that sort
+     * after the given (timestamp, id) position in newest-first order.
+     */
+    public List<AuditLog> searchBefore(AuditLogFilter filter, LocalDateTime beforeTimestamp, String beforeId, int limit) {
+        long upper = beforeTimestamp != null ? toMillis(beforeTimestamp) : Long.MAX_VALUE;
+        List<Segment> candidates = segments.stream()
+                .filter(segment -> segment.minTs() <= upper && overlaps(filter, segment.minTs(), segment.maxTs()))
+                .sorted(Comparator.comparingLong(Segment::maxTs).reversed())
+                .toList();
+
+        List<AuditLog> results = new ArrayList<>();
+        for (Segment segment : candidates) {
+            if (results.size() >= limit && segment.maxTs() < millis(results.get(limit - 1))) {
+                break;
+            }
+            for (Block block : segment.blocks()) {
+                if (block.minTs() > upper || !overlaps(filter, block.minTs(), block.maxTs())) {
+                    continue;
+                }
+                for (AuditLog log : readBlock(segment, block)) {
+                    if (matches(filter, log) && isBefore(log, beforeTimestamp, beforeId)) {
+                        results.add(log);
+                    }
+                }
+            }
+            results.sort(NEWEST_FIRST);
+            if (results.size() > limit) {
+                results.subList(limit, results.size()).clear();
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Feeds every archived entry matching the filter to {@code sink}, oldest segment
+     * first, inflating one block at a time.
+     */
+    public void forEach(AuditLogFilter filter, Consumer<AuditLog> sink) {
+        segments.stream()
+                .filter(segment -> overlaps(filter, segment.minTs(), segment.maxTs()))
+                .sorted(Comparator.comparingLong(Segment::minTs))
+                .forEach(segment -> {
+                    for (Block block : segment.blocks()) {
+                        if (!overlaps(filter, block.minTs(), block.maxTs())) {
+                            continue;
+                        }
+                        for (AuditLog log : readBlock(segment, block)) {
+                            if (matches(filter, log)) {
+                                sink.accept(log);
+                            }
+                        }
+                    }
+                });
+    }
+
+    private Segment open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int footerAt = buffer.capacity() - FOOTER_BYTES;
+            if (footerAt < 0 || buffer.getInt(footerAt + FOOTER_BYTES - Integer.BYTES) != MAGIC) {
+                throw new IOException("Not an audit segment: " + file);
+            }
+            int indexOffset = (int) buffer.getLong(footerAt);
+            int blockCount = buffer.getInt(footerAt + Long.BYTES);
+            long minTs = buffer.getLong(footerAt + Long.BYTES + Integer.BYTES);
+            long maxTs = buffer.getLong(footerAt + Long.BYTES * 2 + Integer.BYTES);
+
+            List<Block> blocks = new ArrayList<>(blockCount);
+            for (int i = 0; i < blockCount; i++) {
+                int at = indexOffset + i * INDEX_ENTRY_BYTES;
+                blocks.add(new Block(buffer.getLong(at), buffer.getLong(at + 8), (int) buffer.getLong(at + 16),
+                        buffer.getInt(at + 24), buffer.getInt(at + 28), buffer.getInt(at + 32)));
+            }
+            return new Segment(file, buffer, minTs, maxTs, List.copyOf(blocks));
+        }
+    }
+
+    private List<AuditLog> readBlock(Segment segment, Block block) {
+        byte[] raw = new byte[block.rawLength()];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(segment.buffer().slice(block.offset(), block.compressedLength()));
+            int read = 0;
+            while (read < raw.length && !inflater.finished()) {
+                int n = inflater.inflate(raw, read, raw.length - read);
+                if (n == 0 && inflater.needsInput()) {
+                    break;
+                }
+                read += n;
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt block in audit segment " + segment.path(), e);
+        } finally {
+            inflater.end();
+        }
+        List<AuditLog> logs = new ArrayList<>(block.count());
+        try (MappingIterator<AuditLog> iterator = logReader.readValues(raw)) {
+            while (iterator.hasNext()) {
+                logs.add(iterator.next());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable block in audit segment " + segment.path(), e);
+        }
+        return logs;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 4));
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static boolean overlaps(AuditLogFilter filter, long minTs, long maxTs) {
+        return (filter.getFrom() == null || maxTs >= toMillis(filter.getFrom()))
+                && (filter.getTo() == null || minTs < toMillis(filter.getTo()));
+    }
+
+    private static boolean isBefore(AuditLog log, LocalDateTime timestamp, String id) {
+        if (timestamp == null) {
+            return true;
+        }
+        int byTime = log.getTimestamp().compareTo(timestamp);
+        return byTime < 0 || (byTime == 0 && id != null && log.getId().compareTo(id) < 0);
+    }
+
+    static boolean matches(AuditLogFilter filter, AuditLog log) {
+        return (filter.getFrom() == null || !log.getTimestamp().isBefore(filter.getFrom()))
+                && (filter.getTo() == null || log.getTimestamp().isBefore(filter.getTo()))
+                && (filter.getActorType() == null || filter.getActorType().equals(log.getActorType()))
+                && (filter.getActionType() == null || filter.getActionType().equals(log.getActionType()))
+                && (filter.getEntityType() == null || filter.getEntityType().equals(log.getEntityType()))
+                && (filter.getEntityId() == null || filter.getEntityId().equals(log.getEntityId()))
+                && (filter.getActor() == null || filter.getActor().equals(log.getActor()))
+                && (filter.getUsername() == null || filter.getUsername().equals(log.getUsername()));
+    }
+
+    private static long millis(AuditLog log) {
+        return toMillis(Objects.requireNonNull(log.getTimestamp(), "audit entry without timestamp"));
+    }
+
+    private static long toMillis(LocalDateTime timestamp) {
+        return timestamp.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime toTimestamp(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,72 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Moves audit entries older than {@code hot-days} out of Mongo into archive
+ * segments, oldest first. Documents are removed only after their segment is durable
+ * on disk; a crash in between leaves the entries in both tiers, which readers
+ * tolerate by deduplicating on id.
+ */
+@Component
+public class AuditArchiver {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditArchiver.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditArchive auditArchive;
+    private final int hotDays;
+    private final int segmentEvents;
+
+    public AuditArchiver(MongoTemplate mongoTemplate,
+                         AuditArchive auditArchive,
+                         @Value("${tech.audit.retention.hot-days:30}") int hotDays,
+                         @Value("${tech.audit.retention.segment-events:20000}") int segmentEvents) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditArchive = auditArchive;
+        this.hotDays = hotDays;
+        this.segmentEvents = segmentEvents;
+    }
+
+    @Scheduled(cron = "${tech.audit.retention.cron:0 15 3 * * *}")
+    public void archiveExpired() {
+        LocalDateTime cutoff = LocalDateTime.now(ZoneOffset.UTC).minusDays(hotDays);
+        int archived = 0;
+        try {
+            List<AuditLog> batch;
+            do {
+                Query query = new Query(Criteria.where("timestamp").lt(cutoff))
+                        .with(Sort.by(Sort.Direction.ASC, "timestamp", "id"))
+                        .limit(segmentEvents);
+                batch = mongoTemplate.find(query, AuditLog.class);
+                if (batch.isEmpty()) {
+                    break;
+                }
+                auditArchive.writeSegment(batch);
+                List<String> ids = batch.stream().map(AuditLog::getId).toList();
+                mongoTemplate.remove(new Query(Criteria.where("id").in(ids)), AuditLog.class);
+                archived += batch.size();
+            } while (batch.size() == segmentEvents);
+        } catch (IOException | RuntimeException e) {
+            logger.error("Audit archiving stopped after {} entries: {}", archived, e.getMessage(), e);
+            return;
+        }
+        if (archived > 0) {
+            logger.info("Archived {} audit entries older than {}", archived, cutoff);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.tech.audit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Guards audit writes to Mongo. Consecutive failures, or flushes slower than
+ * {@code slow-call-ms}, open the breaker; while it is open the writer spools
+ * events locally instead of waiting on Mongo. After {@code open-ms} one trial
+ * flush is let through, and its outcome closes or re-opens the breaker.
+ */
+@Component
+public class AuditCircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public AuditCircuitBreaker(@Value("${tech.audit.circuit.failure-threshold:3}") int failureThreshold,
+                               @Value("${tech.audit.circuit.slow-call-ms:2000}") long slowCallMs,
+                               @Value("${tech.audit.circuit.open-ms:30000}") long openMs) {
+        this.failureThreshold = failureThreshold;
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(slowCallMs);
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMs);
+    }
+
+    public synchronized boolean allowRequest() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+        }
+        return state != State.OPEN;
+    }
+
+    public synchronized void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            onFailure();
+            return;
+        }
+        consecutiveFailures = 0;
+        state = State.CLOSED;
+    }
+
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+}
@@ -0,0 +1,11 @@
+package com.tech.audit;
+
+/**
+ * How audit events raised inside a database transaction reach Mongo.
+ */
+public enum AuditDelivery {
+    /** Queued on the background writer once the surrounding transaction commits. */
+    ASYNC,
+    /** Stored in the Postgres outbox table within the transaction and relayed after commit. */
+    OUTBOX
+}
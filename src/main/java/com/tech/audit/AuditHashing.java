@@ -0,0 +1,87 @@
+package com.tech.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.tech.model.AuditLog;
+import com.tech.model.AuditSeal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Canonical hashing for audit sealing. An event's digest covers its content
+ * fields only (not the seal fields added afterwards), serialized as JSON with
+ * map keys sorted, so it is stable across Mongo and archive round trips.
+ */
+public final class AuditHashing {
+
+    /** Chain hash the very first sealed event links to. */
+    public static final String GENESIS = "0".repeat(64);
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final JsonMapper CANONICAL = JsonMapper.builder()
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private AuditHashing() {
+    }
+
+    public static String digest(AuditLog log) {
+        Map<String, Object> content = new TreeMap<>();
+        content.put("id", log.getId());
+        content.put("actorType", log.getActorType());
+        content.put("actionType", log.getActionType());
+        content.put("timestamp", log.getTimestamp() == null ? null : DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(log.getTimestamp()));
+        content.put("entityType", log.getEntityType());
+        content.put("entityId", log.getEntityId());
+        content.put("actor", log.getActor());
+        content.put("username", log.getUsername());
+        content.put("dataSnapshot", log.getDataSnapshot());
+        content.put("changes", log.getChanges());
+        try {
+            return HEX.formatHex(sha256(CANONICAL.writeValueAsBytes(content)));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize audit event " + log.getId() + " for hashing", e);
+        }
+    }
+
+    /**
+     * Links an event to its predecessor: {@code sha256(prevHash || digest(event))}.
+     */
+    public static String chain(String prevHash, AuditLog log) {
+        return HEX.formatHex(sha256(HEX.parseHex(prevHash), HEX.parseHex(digest(log))));
+    }
+
+    /**
+     * Bytes covered by a seal's signature. Event ids are covered through the root.
+     */
+    public static byte[] signingPayload(AuditSeal seal) {
+        return String.join("|",
+                Long.toString(seal.getSequence()),
+                seal.getPrevRoot(),
+                seal.getRoot(),
+                seal.getPrevLeafHash(),
+                seal.getLastLeafHash(),
+                Integer.toString(seal.getLeafCount()),
+                String.valueOf(seal.getFromTimestamp()),
+                String.valueOf(seal.getToTimestamp())).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static byte[] sha256(byte[]... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (byte[] part : parts) {
+                digest.update(part);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.tech.model.AuditRollup;
+import com.tech.model.AuditSeal;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.PartialIndexFilter;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Creates the {@code audit_logs} indexes backing the audit search API, plus the
+ * {@code audit_rollups} indexes used by the stats endpoint. Each index
+ * follows equality fields first, then the (timestamp, _id) sort used for keyset
+ * paging, so a page is a bounded index range scan whatever its depth.
+ */
+@Component
+@RequiredArgsConstructor
+public class AuditIndexInitializer implements CommandLineRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditIndexInitializer.class);
+
+    // Dropped if an earlier version created it: audit entries leave Mongo only once AuditArchiver has written them
+    private static final String LEGACY_TTL_INDEX = "timestamp_ttl";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${tech.audit.rollup.minute-retention-days:7}")
+    private int minuteRollupRetentionDays;
+
+    @Override
+    public void run(String... args) {
+        try {
+            IndexOperations indexOps = mongoTemplate.indexOps(AuditLog.class);
+            indexOps.createIndex(byTimestamp(new Index()).named("timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index().on("entityType", Sort.Direction.ASC)).named("entityType_timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index()
+                    .on("entityType", Sort.Direction.ASC)
+                    .on("entityId", Sort.Direction.ASC)).named("entityType_entityId_timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index().on("actor", Sort.Direction.ASC)).named("actor_timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index().on("username", Sort.Direction.ASC)).named("username_timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index().on("actionType", Sort.Direction.ASC)).named("actionType_timestamp_id"));
+            indexOps.createIndex(byTimestamp(new Index()
+                    .on("actorType", Sort.Direction.ASC)
+                    .on("actionType", Sort.Direction.ASC)).named("actorType_actionType_timestamp_id"));
+            if (indexOps.getIndexInfo().stream().anyMatch(index -> LEGACY_TTL_INDEX.equals(index.getName()))) {
+                indexOps.dropIndex(LEGACY_TTL_INDEX);
+            }
+
+            IndexOperations rollupIndexOps = mongoTemplate.indexOps(AuditRollup.class);
+            rollupIndexOps.createIndex(new Index()
+                    .on("granularity", Sort.Direction.ASC)
+                    .on("bucketStart", Sort.Direction.ASC).named("granularity_bucketStart"));
+            // per-minute buckets are only useful for recent dashboards; hour and day buckets are kept
+            rollupIndexOps.createIndex(new Index().on("bucketStart", Sort.Direction.ASC)
+                    .expire(Duration.ofDays(minuteRollupRetentionDays))
+                    .partial(PartialIndexFilter.of(Criteria.where("granularity").is(RollupGranularity.MINUTE.name())))
+                    .named("minute_bucket_ttl"));
+
+            // the sealer scans unsealed events oldest first; verification loads one seal's events
+            indexOps.createIndex(new Index()
+                    .on("sealId", Sort.Direction.ASC)
+                    .on("timestamp", Sort.Direction.ASC)
+                    .on("_id", Sort.Direction.ASC).named("sealId_timestamp_id"));
+            IndexOperations sealIndexOps = mongoTemplate.indexOps(AuditSeal.class);
+            sealIndexOps.createIndex(new Index().on("sequence", Sort.Direction.ASC).unique().named("sequence_unique"));
+            sealIndexOps.createIndex(new Index()
+                    .on("toTimestamp", Sort.Direction.ASC)
+                    .on("fromTimestamp", Sort.Direction.ASC).named("toTimestamp_fromTimestamp"));
+            // verifying a single archived event finds it through the seal that lists it
+            sealIndexOps.createIndex(new Index().on("eventIds", Sort.Direction.ASC).named("eventIds"));
+        } catch (RuntimeException e) {
+            // Mongo being down must not stop the application from serving Postgres-backed requests
+            logger.error("Failed to create audit indexes: {}", e.getMessage());
+        }
+    }
+
+    private static Index byTimestamp(Index index) {
+        return index.on("timestamp", Sort.Direction.DESC).on("_id", Sort.Direction.DESC);
+    }
+}
@@ -0,0 +1,305 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer for audit events. Request threads hand events to a bounded
+ * queue via {@link #submit(AuditLog)}; a single writer thread drains the queue and
+ * flushes to Mongo with unordered bulk inserts once a batch is full or the oldest
+ * queued event has waited {@code flush-interval-ms}.
+ *
+ * <p>Batches that cannot be written, or that arrive while {@link AuditCircuitBreaker}
+ * is open, go to the local {@link AuditSpool} instead, so a slow or unavailable Mongo
+ * never backs up into request threads. The spool is replayed a few batches at a time
+ * whenever the queue is (nearly) idle and the breaker lets writes through.
+ */
+@Component
+public class AuditLogWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogWriter.class);
+
+    private static final int DUPLICATE_KEY = 11000;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int REPLAY_BATCHES_PER_IDLE_TICK = 4;
+
+    public enum OverflowPolicy {
+        /** Caller waits for queue space. */
+        BLOCK,
+        /** Oldest queued event is discarded to make room. */
+        DROP_OLDEST,
+        /** Event is appended to the local spool and replayed when the queue is idle. */
+        SPILL
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditRollupAggregator rollupAggregator;
+    private final AuditSpool spool;
+    private final AuditCircuitBreaker circuitBreaker;
+    private final BlockingQueue<AuditLog> queue;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Timer flushTimer;
+    private final Counter flushedCounter;
+    private final Counter droppedCounter;
+    private final Counter spooledCounter;
+    private final Counter replayedCounter;
+
+    private volatile boolean running;
+    private Thread worker;
+
+    public AuditLogWriter(MongoTemplate mongoTemplate,
+                          AuditRollupAggregator rollupAggregator,
+                          AuditSpool spool,
+                          AuditCircuitBreaker circuitBreaker,
+                          MeterRegistry meterRegistry,
+                          @Value("${tech.audit.writer.queue-capacity:10000}") int queueCapacity,
+                          @Value("${tech.audit.writer.batch-size:500}") int batchSize,
+                          @Value("${tech.audit.writer.flush-interval-ms:200}") long flushIntervalMs,
+                          @Value("${tech.audit.writer.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy) {
+        this.mongoTemplate = mongoTemplate;
+        this.rollupAggregator = rollupAggregator;
+        this.spool = spool;
+        this.circuitBreaker = circuitBreaker;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("audit.writer.queue.depth", queue, BlockingQueue::size)
+                .description("Audit events waiting to be flushed")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.writer.flush.latency")
+                .description("Time taken to bulk insert one batch of audit events")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.flushedCounter = meterRegistry.counter("audit.writer.events.flushed");
+        this.droppedCounter = meterRegistry.counter("audit.writer.events.dropped");
+        this.spooledCounter = meterRegistry.counter("audit.writer.events.spooled");
+        this.replayedCounter = meterRegistry.counter("audit.writer.events.replayed");
+        Gauge.builder("audit.writer.circuit.open", circuitBreaker, breaker -> breaker.getState() == AuditCircuitBreaker.State.OPEN ? 1 : 0)
+                .description("1 while audit writes are diverted to the local spool")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues an event for the background writer, applying the configured overflow
+     * policy when the queue is full. Never performs Mongo I/O on the caller's thread.
+     */
+    public void submit(AuditLog log) {
+        if (queue.offer(log)) {
+            return;
+        }
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    queue.put(log);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCounter.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(log)) {
+                    if (queue.poll() != null) {
+                        droppedCounter.increment();
+                    }
+                }
+            }
+            case SPILL -> toSpool(List.of(log));
+        }
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Bulk inserts a batch synchronously on the calling thread. Events carry
+     * client-assigned ids, so documents that already exist are skipped rather than
+     * failing the batch, which keeps retries idempotent. Only the documents actually
+     * inserted are counted towards the rollups and the flushed-events metric.
+     */
+    public void writeBatch(List<AuditLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        flushTimer.record(() -> {
+            try {
+                mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class)
+                        .insert(batch)
+                        .execute();
+                rollupAggregator.record(batch);
+                flushedCounter.increment(batch.size());
+            } catch (BulkOperationException e) {
+                // unordered: every document without an error was inserted, even if the batch is retried
+                Set<Integer> failed = new HashSet<>();
+                e.getErrors().forEach(error -> failed.add(error.getIndex()));
+                List<AuditLog> inserted = new ArrayList<>(batch.size() - failed.size());
+                for (int i = 0; i < batch.size(); i++) {
+                    if (!failed.contains(i)) {
+                        inserted.add(batch.get(i));
+                    }
+                }
+                rollupAggregator.record(inserted);
+                flushedCounter.increment(inserted.size());
+
+                boolean onlyDuplicates = e.getErrors().stream().allMatch(error -> error.getCode() == DUPLICATE_KEY);
+                if (!onlyDuplicates) {
+                    throw e;
+                }
+            }
+        });
+    }
+
+    private void runLoop() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                AuditLog first = queue.poll(flushIntervalNanos, TimeUnit.NANOSECONDS);
+                if (first == null) {
+                    replaySpool();
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    AuditLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // treat as a shutdown request; the loop keeps draining until the queue is empty
+                running = false;
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+            flush(batch);
+            batch.clear();
+            if (running && queue.size() < batchSize) {
+                // keep draining the spool under steady traffic, not only when fully idle
+                replaySpool();
+            }
+        }
+    }
+
+    /**
+     * Writes a batch to Mongo while the circuit breaker allows it, retrying a few
+     * times, and spools it locally otherwise. Every attempt feeds the breaker, so a
+     * run of failed or slow flushes opens it and later batches skip Mongo entirely.
+     */
+    private void flush(List<AuditLog> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS && circuitBreaker.allowRequest(); attempt++) {
+            long start = System.nanoTime();
+            try {
+                writeBatch(batch);
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+                return;
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure();
+                logger.warn("Audit flush of {} events failed (attempt {}/{}): {}", batch.size(), attempt, MAX_ATTEMPTS, e.getMessage());
+            }
+        }
+        toSpool(batch);
+    }
+
+    private void toSpool(List<AuditLog> logs) {
+        try {
+            spool.append(logs);
+            spooledCounter.increment(logs.size());
+        } catch (IOException e) {
+            logger.error("Failed to spool {} audit events", logs.size(), e);
+            droppedCounter.increment(logs.size());
+        }
+    }
+
+    /**
+     * Drains a bounded amount of the spool back into Mongo so that new events are
+     * not held up behind a long replay. Only called from the writer thread, while
+     * the queue is idle or nearly so.
+     */
+    private void replaySpool() {
+        if (!spool.hasPending() || !circuitBreaker.allowRequest()) {
+            return;
+        }
+        try {
+            int replayed = spool.replay(batchSize, REPLAY_BATCHES_PER_IDLE_TICK, batch -> {
+                long start = System.nanoTime();
+                writeBatch(batch);
+                circuitBreaker.onSuccess(System.nanoTime() - start);
+            });
+            replayedCounter.increment(replayed);
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure();
+            logger.warn("Audit spool replay failed, will retry: {}", e.getMessage());
+        } catch (IOException e) {
+            logger.error("Failed to read audit spool", e);
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        worker = new Thread(this::runLoop, "audit-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (worker == null) {
+            return;
+        }
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            logger.warn("Audit writer stopped with {} events still queued", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Starts before and stops after the embedded web server, so requests still in
+     * flight during a graceful shutdown can enqueue their events and have them flushed.
+     */
+    @Override
+    public int getPhase() {
+        return DEFAULT_PHASE - 4096;
+    }
+}
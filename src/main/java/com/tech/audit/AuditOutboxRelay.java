@@ -0,0 +1,77 @@
+package com.tech.audit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.model.AuditLog;
+import com.tech.model.AuditOutboxEvent;
+import com.tech.repository.AuditOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ships committed outbox rows to the {@code audit_logs} collection. Delivery is
+ * at-least-once: rows are deleted only after the Mongo bulk insert succeeds, and a
+ * redelivered event is deduplicated by its id.
+ */
+@Component
+@ConditionalOnProperty(name = "tech.audit.delivery", havingValue = "OUTBOX")
+public class AuditOutboxRelay {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditOutboxRelay.class);
+
+    private final AuditOutboxRepository outboxRepository;
+    private final AuditLogWriter auditLogWriter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public AuditOutboxRelay(AuditOutboxRepository outboxRepository,
+                            AuditLogWriter auditLogWriter,
+                            ObjectMapper objectMapper,
+                            TransactionTemplate transactionTemplate,
+                            @Value("${tech.audit.outbox.batch-size:500}") int batchSize) {
+        this.outboxRepository = outboxRepository;
+        this.auditLogWriter = auditLogWriter;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tech.audit.outbox.poll-interval-ms:500}")
+    public void relay() {
+        try {
+            Integer shipped;
+            do {
+                shipped = transactionTemplate.execute(status -> relayBatch());
+            } while (shipped != null && shipped == batchSize);
+        } catch (RuntimeException e) {
+            logger.warn("Audit outbox relay failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    private int relayBatch() {
+        List<AuditOutboxEvent> events = outboxRepository.lockNextBatch(batchSize);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<AuditLog> logs = new ArrayList<>(events.size());
+        for (AuditOutboxEvent event : events) {
+            try {
+                logs.add(objectMapper.readValue(event.getPayload(), AuditLog.class));
+            } catch (JsonProcessingException e) {
+                logger.error("Discarding unreadable audit outbox event {}", event.getEventId(), e);
+            }
+        }
+        auditLogWriter.writeBatch(logs);
+        outboxRepository.deleteAllInBatch(events);
+        return events.size();
+    }
+}
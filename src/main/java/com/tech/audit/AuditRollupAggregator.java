@@ -0,0 +1,123 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.tech.model.AuditRollup;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Maintains the {@code audit_rollups} counters. Events persisted by
+ * {@link AuditLogWriter} are tallied in memory per bucket, and the tallies are
+ * applied on a fixed delay as one unordered bulk of {@code $inc} upserts, so the
+ * write cost depends on the number of distinct buckets rather than on event volume.
+ */
+@Component
+public class AuditRollupAggregator {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditRollupAggregator.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private Map<RollupKey, Long> pending = new HashMap<>();
+
+    public AuditRollupAggregator(MongoTemplate mongoTemplate) {
+        this.mongoTemplate = mongoTemplate;
+    }
+
+    record RollupKey(RollupGranularity granularity, LocalDateTime bucketStart,
+                     String actionType, String actorType, String username) {
+
+        String id() {
+            return String.join("|", granularity.name(), bucketStart.toString(),
+                    nullToEmpty(actionType), nullToEmpty(actorType), nullToEmpty(username));
+        }
+
+        private static String nullToEmpty(String value) {
+            return value == null ? "" : value;
+        }
+    }
+
+    /**
+     * Counts events that have just been stored in {@code audit_logs}. Callers must
+     * pass only newly inserted events so that retried batches are not counted twice.
+     */
+    public synchronized void record(Collection<AuditLog> logs) {
+        for (AuditLog log : logs) {
+            if (log.getTimestamp() == null) {
+                continue;
+            }
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                RollupKey key = new RollupKey(granularity, granularity.bucketStart(log.getTimestamp()),
+                        log.getActionType(), log.getActorType(), log.getUsername());
+                pending.merge(key, 1L, Long::sum);
+            }
+        }
+    }
+
+    synchronized int getPendingBuckets() {
+        return pending.size();
+    }
+
+    @Scheduled(fixedDelayString = "${tech.audit.rollup.flush-interval-ms:1000}")
+    public void flush() {
+        Map<RollupKey, Long> batch;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = pending;
+            pending = new HashMap<>();
+        }
+
+        List<RollupKey> keys = new ArrayList<>(batch.keySet());
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class);
+        for (RollupKey key : keys) {
+            ops.upsert(Query.query(Criteria.where("_id").is(key.id())),
+                    new Update().inc("count", batch.get(key))
+                            .setOnInsert("granularity", key.granularity())
+                            .setOnInsert("bucketStart", key.bucketStart())
+                            .setOnInsert("actionType", key.actionType())
+                            .setOnInsert("actorType", key.actorType())
+                            .setOnInsert("username", key.username()));
+        }
+        try {
+            ops.execute();
+        } catch (BulkOperationException e) {
+            // unordered: everything except the reported operations was applied
+            logger.warn("Failed to apply {} of {} audit rollup increments, retrying on next flush",
+                    e.getErrors().size(), keys.size());
+            synchronized (this) {
+                e.getErrors().forEach(error -> {
+                    RollupKey key = keys.get(error.getIndex());
+                    pending.merge(key, batch.get(key), Long::sum);
+                });
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to flush audit rollups, retrying on next flush: {}", e.getMessage());
+            synchronized (this) {
+                batch.forEach((key, count) -> pending.merge(key, count, Long::sum));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
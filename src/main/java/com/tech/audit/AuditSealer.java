@@ -0,0 +1,183 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.tech.model.AuditSeal;
+import org.bson.types.ObjectId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Seals audit events after they have been stored. Unsealed events are taken in
+ * (timestamp, id) order in batches of {@code tech.audit.seal.batch-size}, each
+ * event's chain hash links it to the one before, and a Merkle root over the chain
+ * hashes is signed once per batch. Every event is then stamped with its chain
+ * hash and Merkle proof.
+ *
+ * <p>Sealing runs on its own schedule and reads back what the writer already
+ * inserted, so it adds nothing to the request path or the writer's bulk inserts.
+ * A partial batch is sealed once its oldest event is {@code max-delay-ms} old.
+ */
+@Component
+public class AuditSealer {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSealer.class);
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditSigner signer;
+    private final int batchSize;
+    private final long maxDelayMs;
+
+    public AuditSealer(MongoTemplate mongoTemplate,
+                       AuditSigner signer,
+                       @Value("${tech.audit.seal.batch-size:1024}") int batchSize,
+                       @Value("${tech.audit.seal.max-delay-ms:60000}") long maxDelayMs) {
+        this.mongoTemplate = mongoTemplate;
+        this.signer = signer;
+        this.batchSize = batchSize;
+        this.maxDelayMs = maxDelayMs;
+    }
+
+    @Scheduled(fixedDelayString = "${tech.audit.seal.interval-ms:5000}")
+    public void sealPending() {
+        try {
+            completePendingSeals();
+            while (sealNextBatch()) {
+                // keep going while full batches are waiting
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Audit sealing failed, will retry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Seals the oldest unsealed events.
+     *
+     * @return {@code true} if a full batch was sealed and more may be waiting
+     */
+    boolean sealNextBatch() {
+        // Read the latest seal before the batch. While it is PENDING its events may still be unstamped and
+        // would be sealed twice; once it is COMPLETE they are stamped and drop out of the query below. A seal
+        // inserted by another instance after this read takes our sequence number, and the insert below fails.
+        AuditSeal previous = mongoTemplate.findOne(new Query().with(Sort.by(Sort.Direction.DESC, "sequence")).limit(1), AuditSeal.class);
+        if (previous != null && previous.getStatus() == AuditSeal.Status.PENDING) {
+            logger.debug("Audit seal {} is still pending; not sealing past it", previous.getSequence());
+            return false;
+        }
+
+        Query unsealed = Query.query(Criteria.where("sealId").is(null))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp", "id"))
+                .limit(batchSize);
+        List<AuditLog> batch = mongoTemplate.find(unsealed, AuditLog.class);
+        if (batch.isEmpty()) {
+            return false;
+        }
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        if (batch.size() < batchSize && batch.get(0).getTimestamp().isAfter(now.minusNanos(maxDelayMs * 1_000_000))) {
+            return false;
+        }
+
+        List<String> chain = chain(previous == null ? AuditHashing.GENESIS : previous.getLastLeafHash(), batch);
+        MerkleTree tree = MerkleTree.build(chain);
+        AuditSeal seal = AuditSeal.builder()
+                .id(ObjectId.get().toHexString())
+                .sequence(previous == null ? 0 : previous.getSequence() + 1)
+                .status(AuditSeal.Status.PENDING)
+                .prevRoot(previous == null ? AuditHashing.GENESIS : previous.getRoot())
+                .root(tree.root())
+                .prevLeafHash(previous == null ? AuditHashing.GENESIS : previous.getLastLeafHash())
+                .lastLeafHash(chain.get(chain.size() - 1))
+                .leafCount(batch.size())
+                .eventIds(batch.stream().map(AuditLog::getId).toList())
+                .fromTimestamp(batch.get(0).getTimestamp())
+                .toTimestamp(batch.get(batch.size() - 1).getTimestamp())
+                .sealedAt(now)
+                .algorithm(AuditSigner.ALGORITHM)
+                .publicKey(signer.getPublicKey())
+                .build();
+        seal.setSignature(signer.sign(AuditHashing.signingPayload(seal)));
+
+        try {
+            // the unique sequence index rejects a seal whose sequence another instance took after we read previous
+            mongoTemplate.insert(seal);
+        } catch (DuplicateKeyException e) {
+            logger.info("Audit seal {} was taken by another instance", seal.getSequence());
+            return false;
+        }
+        stamp(seal, batch, chain, tree);
+        return batch.size() == batchSize;
+    }
+
+    /**
+     * Finishes seals whose events were not stamped, e.g. after a crash between
+     * storing the seal and updating the events.
+     */
+    void completePendingSeals() {
+        Query pending = Query.query(Criteria.where("status").is(AuditSeal.Status.PENDING))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"));
+        for (AuditSeal seal : mongoTemplate.find(pending, AuditSeal.class)) {
+            Map<String, AuditLog> byId = mongoTemplate.find(Query.query(Criteria.where("id").in(seal.getEventIds())), AuditLog.class)
+                    .stream()
+                    .collect(Collectors.toMap(AuditLog::getId, Function.identity()));
+            List<AuditLog> batch = new ArrayList<>(seal.getLeafCount());
+            for (String id : seal.getEventIds()) {
+                AuditLog log = byId.get(id);
+                if (log != null) {
+                    batch.add(log);
+                }
+            }
+            List<String> chain = batch.size() == seal.getLeafCount() ? chain(seal.getPrevLeafHash(), batch) : List.of();
+            MerkleTree tree = chain.isEmpty() ? null : MerkleTree.build(chain);
+            if (tree == null || !tree.root().equals(seal.getRoot())) {
+                logger.error("Audit seal {} no longer matches its events; marking it abandoned", seal.getSequence());
+                mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(seal.getId())),
+                        new Update().set("status", AuditSeal.Status.ABANDONED), AuditSeal.class);
+                continue;
+            }
+            stamp(seal, batch, chain, tree);
+        }
+    }
+
+    static List<String> chain(String prevLeafHash, List<AuditLog> batch) {
+        List<String> chain = new ArrayList<>(batch.size());
+        String previous = prevLeafHash;
+        for (AuditLog log : batch) {
+            previous = AuditHashing.chain(previous, log);
+            chain.add(previous);
+        }
+        return chain;
+    }
+
+    private void stamp(AuditSeal seal, List<AuditLog> batch, List<String> chain, MerkleTree tree) {
+        BulkOperations ops = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class);
+        for (int i = 0; i < batch.size(); i++) {
+            ops.updateOne(Query.query(Criteria.where("id").is(batch.get(i).getId())), new Update()
+                    .set("sealId", seal.getId())
+                    .set("leafIndex", i)
+                    .set("prevHash", i == 0 ? seal.getPrevLeafHash() : chain.get(i - 1))
+                    .set("chainHash", chain.get(i))
+                    .set("proof", tree.proof(i)));
+        }
+        ops.execute();
+        mongoTemplate.updateFirst(Query.query(Criteria.where("id").is(seal.getId())),
+                new Update().set("status", AuditSeal.Status.COMPLETE), AuditSeal.class);
+    }
+}
@@ -0,0 +1,99 @@
+package com.tech.audit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Ed25519 signing of seal roots. The key pair comes from
+ * {@code tech.audit.seal.private-key}/{@code public-key} (base64 PKCS#8 and X.509);
+ * without them an ephemeral pair is generated, which still detects tampering but
+ * cannot vouch for seals made before a restart.
+ */
+@Component
+public class AuditSigner {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSigner.class);
+
+    public static final String ALGORITHM = "Ed25519";
+
+    private final PrivateKey privateKey;
+    private final String publicKey;
+    private final Set<String> trustedKeys = new HashSet<>();
+
+    public AuditSigner(@Value("${tech.audit.seal.private-key:}") String privateKeyBase64,
+                       @Value("${tech.audit.seal.public-key:}") String publicKeyBase64,
+                       @Value("${tech.audit.seal.trusted-public-keys:}") String trustedPublicKeys) {
+        try {
+            KeyPair keyPair;
+            if (privateKeyBase64.isBlank()) {
+                keyPair = KeyPairGenerator.getInstance(ALGORITHM).generateKeyPair();
+                logger.warn("No audit seal key configured, signing with an ephemeral {} key", ALGORITHM);
+            } else {
+                KeyFactory keyFactory = KeyFactory.getInstance(ALGORITHM);
+                PrivateKey configuredPrivate = keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Base64.getDecoder().decode(privateKeyBase64)));
+                PublicKey configuredPublic = keyFactory.generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyBase64)));
+                keyPair = new KeyPair(configuredPublic, configuredPrivate);
+            }
+            this.privateKey = keyPair.getPrivate();
+            this.publicKey = Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded());
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid audit seal key configuration", e);
+        }
+        trustedKeys.add(publicKey);
+        Arrays.stream(trustedPublicKeys.split(","))
+                .map(String::trim)
+                .filter(key -> !key.isEmpty())
+                .forEach(trustedKeys::add);
+    }
+
+    public String getPublicKey() {
+        return publicKey;
+    }
+
+    public String sign(byte[] payload) {
+        try {
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initSign(privateKey);
+            signature.update(payload);
+            return Base64.getEncoder().encodeToString(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to sign audit seal", e);
+        }
+    }
+
+    public boolean verify(String publicKeyBase64, byte[] payload, String signatureBase64) {
+        if (publicKeyBase64 == null || signatureBase64 == null) {
+            return false;
+        }
+        try {
+            PublicKey key = KeyFactory.getInstance(ALGORITHM)
+                    .generatePublic(new X509EncodedKeySpec(Base64.getDecoder().decode(publicKeyBase64)));
+            Signature signature = Signature.getInstance(ALGORITHM);
+            signature.initVerify(key);
+            signature.update(payload);
+            return signature.verify(Base64.getDecoder().decode(signatureBase64));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public boolean isTrusted(String publicKeyBase64) {
+        return trustedKeys.contains(publicKeyBase64);
+    }
+}
@@ -0,0 +1,221 @@
+package com.tech.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.tech.model.AuditLog;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+/**
+ * Durable local log for audit events that could not be written to Mongo. Events
+ * are appended to pre-allocated, memory-mapped segment files as checksummed
+ * records:
+ *
+ * <pre>
+ * record*  where record = length(int) crc32(int) json(length bytes)
+ * </pre>
+ *
+ * The length is written last, so a record torn by a crash reads as the end of
+ * the segment. Appends only touch the page cache and survive a process crash;
+ * set {@code tech.audit.spool.fsync=true} to also survive power loss at the cost
+ * of a disk flush per append. Segments are replayed oldest first and deleted once
+ * fully replayed; replaying a segment twice is harmless because events carry
+ * client-assigned ids.
+ */
+@Component
+public class AuditSpool {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditSpool.class);
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final String SEGMENT_PREFIX = "spool-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private final Path directory;
+    private final ObjectWriter logWriter;
+    private final ObjectReader logReader;
+    private final int segmentBytes;
+    private final boolean fsync;
+
+    // sealed segments awaiting replay, oldest first
+    private final Deque<Path> sealed = new ArrayDeque<>();
+    private long nextSequence;
+    private Path activePath;
+    private MappedByteBuffer active;
+
+    // replay position within the head of the sealed queue; only touched by the replaying thread
+    private Path replayPath;
+    private int replayOffset;
+
+    public AuditSpool(ObjectMapper objectMapper,
+                      @Value("${tech.audit.spool.dir:./audit-spool}") String directory,
+                      @Value("${tech.audit.spool.segment-size-mb:64}") int segmentSizeMb,
+                      @Value("${tech.audit.spool.fsync:false}") boolean fsync) {
+        this.directory = Path.of(directory);
+        this.logWriter = objectMapper.writer();
+        this.logReader = objectMapper.readerFor(AuditLog.class);
+        this.segmentBytes = segmentSizeMb * 1024 * 1024;
+        this.fsync = fsync;
+    }
+
+    /**
+     * Picks up segments left by a previous run; they are replayed before anything
+     * appended from now on.
+     */
+    @PostConstruct
+    public synchronized void open() throws IOException {
+        Files.createDirectories(directory);
+        List<Path> existing = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+            files.forEach(existing::add);
+        }
+        existing.sort((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)));
+        sealed.addAll(existing);
+        nextSequence = existing.isEmpty() ? 0 : sequenceOf(existing.get(existing.size() - 1)) + 1;
+        if (!existing.isEmpty()) {
+            logger.info("Found {} audit spool segments to replay in {}", existing.size(), directory);
+        }
+    }
+
+    public synchronized void append(List<AuditLog> logs) throws IOException {
+        for (AuditLog log : logs) {
+            byte[] payload = logWriter.writeValueAsBytes(log);
+            if (active == null || active.remaining() < HEADER_BYTES + payload.length) {
+                roll(HEADER_BYTES + payload.length);
+            }
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            int position = active.position();
+            active.put(position + HEADER_BYTES, payload);
+            active.putInt(position + Integer.BYTES, (int) crc.getValue());
+            active.putInt(position, payload.length);
+            active.position(position + HEADER_BYTES + payload.length);
+        }
+        if (fsync) {
+            active.force();
+        }
+    }
+
+    public synchronized boolean hasPending() {
+        return !sealed.isEmpty() || (active != null && active.position() > 0);
+    }
+
+    /**
+     * Feeds up to {@code maxBatches} batches of spooled events to {@code sink},
+     * oldest first. A batch only counts as replayed once the sink returns; if it
+     * throws, the same events are offered again on the next call.
+     *
+     * @return the number of events replayed
+     */
+    public int replay(int batchSize, int maxBatches, Consumer<List<AuditLog>> sink) throws IOException {
+        int replayed = 0;
+        for (int batches = 0; batches < maxBatches; batches++) {
+            Path segment = headSegment();
+            if (segment == null) {
+                break;
+            }
+            if (!segment.equals(replayPath)) {
+                replayPath = segment;
+                replayOffset = 0;
+            }
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            int end = read(segment, replayOffset, batchSize, batch);
+            if (!batch.isEmpty()) {
+                sink.accept(batch);
+                replayed += batch.size();
+            }
+            if (batch.size() < batchSize) {
+                finishSegment(segment);
+            } else {
+                replayOffset = end;
+            }
+        }
+        return replayed;
+    }
+
+    private synchronized Path headSegment() throws IOException {
+        if (sealed.isEmpty() && active != null && active.position() > 0) {
+            seal();
+        }
+        return sealed.peekFirst();
+    }
+
+    private synchronized void finishSegment(Path segment) throws IOException {
+        sealed.remove(segment);
+        Files.deleteIfExists(segment);
+        replayPath = null;
+        replayOffset = 0;
+    }
+
+    /**
+     * Reads up to {@code limit} records starting at {@code offset}, stopping at the
+     * end of the written data or at the first record whose checksum does not match.
+     *
+     * @return the offset just past the last record read
+     */
+    private int read(Path segment, int offset, int limit, List<AuditLog> out) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        int position = offset;
+        while (out.size() < limit && position + HEADER_BYTES <= buffer.limit()) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + HEADER_BYTES + length > buffer.limit()) {
+                break;
+            }
+            byte[] payload = new byte[length];
+            buffer.get(position + HEADER_BYTES, payload);
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                logger.warn("Checksum mismatch in audit spool segment {} at offset {}, skipping the rest of it", segment, position);
+                break;
+            }
+            out.add(logReader.readValue(payload));
+            position += HEADER_BYTES + length;
+        }
+        return position;
+    }
+
+    private void roll(int minimumBytes) throws IOException {
+        if (active != null) {
+            seal();
+        }
+        activePath = directory.resolve(SEGMENT_PREFIX + String.format("%019d", nextSequence++) + SEGMENT_SUFFIX);
+        try (FileChannel channel = FileChannel.open(activePath,
+                StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            active = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(segmentBytes, minimumBytes));
+        }
+    }
+
+    private void seal() throws IOException {
+        active.force();
+        sealed.addLast(activePath);
+        active = null;
+        activePath = null;
+    }
+
+    private static long sequenceOf(Path segment) {
+        String name = segment.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
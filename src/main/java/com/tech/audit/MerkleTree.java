@@ -0,0 +1,82 @@
+package com.tech.audit;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Binary SHA-256 Merkle tree over hex-encoded leaves. Leaves and inner nodes are
+ * hashed with distinct prefixes (0x00 and 0x01) so a leaf can never be passed off
+ * as an inner node; an odd node at the end of a level is paired with itself.
+ */
+public final class MerkleTree {
+
+    private static final byte LEAF = 0x00;
+    private static final byte NODE = 0x01;
+    private static final HexFormat HEX = HexFormat.of();
+
+    // levels.get(0) holds the hashed leaves, the last level holds the root
+    private final List<List<byte[]>> levels;
+
+    private MerkleTree(List<List<byte[]>> levels) {
+        this.levels = levels;
+    }
+
+    public static MerkleTree build(List<String> leaves) {
+        if (leaves.isEmpty()) {
+            throw new IllegalArgumentException("Merkle tree needs at least one leaf");
+        }
+        List<List<byte[]>> levels = new ArrayList<>();
+        List<byte[]> level = new ArrayList<>(leaves.size());
+        for (String leaf : leaves) {
+            level.add(AuditHashing.sha256(new byte[]{LEAF}, HEX.parseHex(leaf)));
+        }
+        levels.add(level);
+        while (level.size() > 1) {
+            List<byte[]> parents = new ArrayList<>((level.size() + 1) / 2);
+            for (int i = 0; i < level.size(); i += 2) {
+                byte[] left = level.get(i);
+                byte[] right = i + 1 < level.size() ? level.get(i + 1) : left;
+                parents.add(AuditHashing.sha256(new byte[]{NODE}, left, right));
+            }
+            levels.add(parents);
+            level = parents;
+        }
+        return new MerkleTree(levels);
+    }
+
+    public String root() {
+        return HEX.formatHex(levels.get(levels.size() - 1).get(0));
+    }
+
+    /**
+     * Sibling hashes from the leaf at {@code index} up to (excluding) the root.
+     */
+    public List<String> proof(int index) {
+        List<String> proof = new ArrayList<>(levels.size() - 1);
+        int position = index;
+        for (int depth = 0; depth < levels.size() - 1; depth++) {
+            List<byte[]> level = levels.get(depth);
+            int sibling = position ^ 1;
+            proof.add(HEX.formatHex(sibling < level.size() ? level.get(sibling) : level.get(position)));
+            position >>= 1;
+        }
+        return proof;
+    }
+
+    /**
+     * Checks a single leaf against a root in O(log n) hashes.
+     */
+    public static boolean verify(String leaf, int index, List<String> proof, String root) {
+        byte[] hash = AuditHashing.sha256(new byte[]{LEAF}, HEX.parseHex(leaf));
+        int position = index;
+        for (String siblingHex : proof) {
+            byte[] sibling = HEX.parseHex(siblingHex);
+            hash = (position & 1) == 0
+                    ? AuditHashing.sha256(new byte[]{NODE}, hash, sibling)
+                    : AuditHashing.sha256(new byte[]{NODE}, sibling, hash);
+            position >>= 1;
+        }
+        return position == 0 && HEX.formatHex(hash).equals(root);
+    }
+}
@@ -0,0 +1,24 @@
+package com.tech.audit;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Bucket widths kept in the {@code audit_rollups} collection. Every audit event is
+ * counted once per granularity.
+ */
+public enum RollupGranularity {
+    MINUTE(ChronoUnit.MINUTES),
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime timestamp) {
+        return timestamp.truncatedTo(unit);
+    }
+}
@@ -1,19 +1,44 @@
 package com.tech.controller;
 
+import com.tech.audit.RollupGranularity;
+import com.tech.dto.AuditEventVerification;
+import com.tech.dto.AuditLogFilter;
+import com.tech.dto.AuditStatsBucket;
+import com.tech.dto.AuditVerificationReport;
+import com.tech.dto.CursorPage;
+import com.tech.service.AuditLogQueryService;
+import com.tech.service.AuditStatsService;
+import com.tech.service.AuditVerificationService;
+import org.springframework.format.annotation.DateTimeFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import com.tech.model.AuditLog;
 import com.tech.repository.AuditLogRepository;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @RestController
 @RequestMapping("/api/v1/logs")
 @RequiredArgsConstructor
 public class AuditLogController {
 
+    private static final String NDJSON = "application/x-ndjson";
+
     private final AuditLogRepository auditLogRepository;
+    private final AuditLogQueryService auditLogQueryService;
+    private final AuditStatsService auditStatsService;
+    private final AuditVerificationService auditVerificationService;
 
+    /**
+     * @deprecated loads the whole collection into memory; use {@code /search} or {@code /export} instead.
+     */
+    @Deprecated
     @GetMapping
     public List<AuditLog> getAllLogs() {
         return auditLogRepository.findAll();
@@ -28,4 +53,58 @@ public class AuditLogController {
     public List<AuditLog> getLogsByActor(@PathVariable String actor) {
         return auditLogRepository.findByActor(actor);
     }
+
+    @GetMapping("/search")
+    public ResponseEntity<CursorPage<AuditLog>> searchLogs(AuditLogFilter filter,
+                                                           @RequestParam(required = false) String cursor,
+                                                           @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(auditLogQueryService.search(filter, cursor, Math.max(1, Math.min(size, AuditLogQueryService.MAX_PAGE_SIZE))));
+    }
+
+    /**
+     * Time-bucketed event counts served from the pre-aggregated rollups, e.g.
+     * {@code /stats?granularity=HOUR&groupBy=actionType,username&from=...}.
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<AuditStatsBucket>> getStats(AuditLogFilter filter,
+                                                           @RequestParam(defaultValue = "HOUR") RollupGranularity granularity,
+                                                           @RequestParam(defaultValue = "actionType") List<String> groupBy) {
+        return ResponseEntity.ok(auditStatsService.stats(granularity, filter, groupBy));
+    }
+
+    /**
+     * Recomputes every seal overlapping the range and checks its signature and its
+     * link to the previous seal.
+     */
+    @GetMapping("/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditVerificationReport> verifyRange(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+                                                               @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        return ResponseEntity.ok(auditVerificationService.verifyRange(from, to));
+    }
+
+    @GetMapping("/{id}/verify")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AuditEventVerification> verifyEvent(@PathVariable String id) {
+        return ResponseEntity.ok(auditVerificationService.verifyEvent(id));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportLogs(AuditLogFilter filter,
+                                                            @RequestParam(defaultValue = "false") boolean gzip) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_TYPE, NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"audit-logs.ndjson\"");
+        if (gzip) {
+            return response
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(out -> {
+                        try (GZIPOutputStream compressed = new GZIPOutputStream(out, 64 * 1024)) {
+                            auditLogQueryService.export(filter, compressed);
+                        }
+                    });
+        }
+        return response.body(out -> auditLogQueryService.export(filter, out));
+    }
 }
@@ -0,0 +1,30 @@
+package com.tech.controller;
+
+import com.tech.dto.DashboardDTO;
+import com.tech.service.DashboardService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/dashboard")
+@RequiredArgsConstructor
+public class DashboardController {
+
+    private final DashboardService dashboardService;
+
+    /**
+     * Active and overdue projects, overdue and unassigned tasks, idle developers and
+     * the active projects' status counts in one call; {@code size} caps each list.
+     * Sections that miss the deadline are left out and listed in {@code timedOut}.
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<DashboardDTO> getDashboard(@RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(dashboardService.getDashboard(size));
+    }
+}
@@ -2,11 +2,19 @@ package com.tech.controller;
 
 import com.tech.dto.CreateDeveloperDTO;
 import com.tech.dto.DeveloperDTO;
+import com.tech.dto.CursorPage;
+import com.tech.dto.IdListRequest;
+import com.tech.dto.MultiGetResponse;
+import com.tech.dto.fields.DtoSchemas;
+import com.tech.model.AuditLog;
+import com.tech.service.AuditLogQueryService;
+import com.tech.service.AuditLogService;
+import com.tech.service.CountMode;
 import com.tech.service.DeveloperService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,23 +22,62 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/developers")
 @RequiredArgsConstructor
 public class DeveloperController {
 
     private final DeveloperService developerService;
+    private final AuditLogQueryService auditLogQueryService;
     @Cacheable
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<Page<DeveloperDTO>> getAllDevelopers(Pageable pageable) {
-        Page<DeveloperDTO> developers = developerService.getAllDevelopers(pageable);
+    public ResponseEntity<Slice<DeveloperDTO>> getAllDevelopers(Pageable pageable,
+                                                                @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                                @RequestParam(required = false) String fields) {
+        Slice<DeveloperDTO> developers = developerService.getAllDevelopers(pageable, count, DtoSchemas.DEVELOPER.parse(fields));
         return ResponseEntity.ok(developers);
     }
 
+    /**
+     * Multi-get: {@code ?ids=1,2,3} resolves every id in batched queries and lists
+     * the ones that do not exist in {@code missingIds}. Use {@code POST /lookup} for long lists.
+     * A request that also carries {@code cursor} is served in cursor mode.
+     */
+    @GetMapping(params = {"ids", "!cursor"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<DeveloperDTO>> getDevelopersByIds(@RequestParam List<Long> ids,
+                                                                             @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(developerService.getDevelopersByIds(ids, DtoSchemas.DEVELOPER.parse(fields)));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<DeveloperDTO>> lookupDevelopers(@Valid @RequestBody IdListRequest request,
+                                                                           @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(developerService.getDevelopersByIds(request.getIds(), DtoSchemas.DEVELOPER.parse(fields)));
+    }
+
+    /**
+     * Cursor mode, selected by passing {@code cursor} (empty for the first page):
+     * {@code ?cursor=&size=100&sort=name}. Follow {@code nextCursor} for later pages.
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<CursorPage<DeveloperDTO>> scrollDevelopers(@RequestParam String cursor,
+                                                                     @RequestParam(defaultValue = "id") String sort,
+                                                                     @RequestParam(defaultValue = "50") int size,
+                                                                     @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(developerService.scrollDevelopers(sort, cursor, size, DtoSchemas.DEVELOPER.parse(fields)));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<DeveloperDTO> getDeveloperById(@PathVariable Long id) {
+    public ResponseEntity<DeveloperDTO> getDeveloperById(@PathVariable Long id,
+                                                         @RequestParam(required = false) String fields) {
+        // getDeveloperById is declared @Cacheable, so it returns the whole DTO; fields only trims what is written (SparseFieldsAdvice)
         DeveloperDTO developer = developerService.getDeveloperById(id);
         return ResponseEntity.ok(developer);
     }
@@ -56,4 +103,12 @@ public class DeveloperController {
         developerService.deleteDeveloper(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPage<AuditLog>> getDeveloperHistory(@PathVariable Long id,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(auditLogQueryService.history(AuditLogService.ENTITY_DEVELOPER, id, cursor, size));
+    }
+}
@@ -0,0 +1,66 @@
+package com.tech.controller;
+
+import com.tech.dto.CursorPage;
+import com.tech.dto.ImportJobDTO;
+import com.tech.dto.ImportRowErrorDTO;
+import com.tech.service.ImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api/v1/imports")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final ImportService importService;
+
+    /**
+     * Starts a background import of {@code type} (PROJECT, DEVELOPER or TASK) rows
+     * from a CSV (with a header row) or NDJSON upload; {@code format} defaults to
+     * the file's extension. Poll the returned job for progress.
+     */
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ImportJobDTO> startImport(@RequestParam String type,
+                                                    @RequestParam(required = false) String format,
+                                                    @RequestPart("file") MultipartFile file) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.start(type, format, file));
+    }
+
+    @GetMapping("/{id}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ImportJobDTO> getImport(@PathVariable Long id) {
+        return ResponseEntity.ok(importService.getJob(id));
+    }
+
+    /**
+     * Rejected rows of an import in row order, paged by cursor.
+     */
+    @GetMapping("/{id}/errors")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPage<ImportRowErrorDTO>> getImportErrors(@PathVariable Long id,
+                                                                         @RequestParam(required = false) String cursor,
+                                                                         @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(importService.getErrors(id, cursor, size));
+    }
+
+    /**
+     * Restarts a failed import after its last committed chunk.
+     */
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<ImportJobDTO> resumeImport(@PathVariable Long id) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(importService.resume(id));
+    }
+}
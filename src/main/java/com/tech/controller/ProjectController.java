@@ -1,12 +1,23 @@
 package com.tech.controller;
 
+import com.tech.dto.BoardDTO;
 import com.tech.dto.CreateProjectDTO;
 import com.tech.dto.ProjectDTO;
+import com.tech.dto.ProjectTaskStats;
+import com.tech.dto.CursorPage;
+import com.tech.dto.IdListRequest;
+import com.tech.dto.MultiGetResponse;
+import com.tech.dto.fields.DtoSchemas;
+import com.tech.model.AuditLog;
+import com.tech.service.AuditLogQueryService;
+import com.tech.service.AuditLogService;
+import com.tech.service.CountMode;
 import com.tech.service.ProjectService;
+import com.tech.service.TaskBoardService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,28 +25,97 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/projects")
 @RequiredArgsConstructor
 public class ProjectController {
 
     private final ProjectService projectService;
+    private final TaskBoardService taskBoardService;
+    private final AuditLogQueryService auditLogQueryService;
     @Cacheable
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<Page<ProjectDTO>> getAllProjects(Pageable pageable) {
-        Page<ProjectDTO> projects = projectService.getAllProjects(pageable);
+    public ResponseEntity<Slice<ProjectDTO>> getAllProjects(Pageable pageable,
+                                                            @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                            @RequestParam(required = false) String fields) {
+        Slice<ProjectDTO> projects = projectService.getAllProjects(pageable, count, DtoSchemas.PROJECT.parse(fields));
         return ResponseEntity.ok(projects);
     }
 
+    /**
+     * Multi-get: {@code ?ids=1,2,3} resolves every id in batched queries and lists
+     * the ones that do not exist in {@code missingIds}. Use {@code POST /lookup} for long lists.
+     * A request that also carries {@code cursor} is served in cursor mode.
+     */
+    @GetMapping(params = {"ids", "!cursor"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<ProjectDTO>> getProjectsByIds(@RequestParam List<Long> ids,
+                                                                         @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(projectService.getProjectsByIds(ids, DtoSchemas.PROJECT.parse(fields)));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<ProjectDTO>> lookupProjects(@Valid @RequestBody IdListRequest request,
+                                                                       @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(projectService.getProjectsByIds(request.getIds(), DtoSchemas.PROJECT.parse(fields)));
+    }
+
+    /**
+     * Cursor mode, selected by passing {@code cursor} (empty for the first page):
+     * {@code ?cursor=&size=100&sort=deadline&status=ACTIVE}. Follow {@code nextCursor} for later pages.
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<CursorPage<ProjectDTO>> scrollProjects(@RequestParam String cursor,
+                                                                 @RequestParam(required = false) String status,
+                                                                 @RequestParam(defaultValue = "false") boolean overdue,
+                                                                 @RequestParam(defaultValue = "id") String sort,
+                                                                 @RequestParam(defaultValue = "50") int size,
+                                                                 @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(projectService.scrollProjects(status, overdue, sort, cursor, size, DtoSchemas.PROJECT.parse(fields)));
+    }
+
     @Cacheable
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id) {
-        ProjectDTO project = projectService.getProjectById(id);
+    public ResponseEntity<ProjectDTO> getProjectById(@PathVariable Long id,
+                                                     @RequestParam(required = false) String fields) {
+        ProjectDTO project = projectService.getProjectById(id, DtoSchemas.PROJECT.parse(fields));
         return ResponseEntity.ok(project);
     }
 
+    /**
+     * Task counts by status for {@code ?ids=1,2,3}, read from the maintained counters.
+     */
+    @GetMapping("/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<List<ProjectTaskStats>> getTaskStatistics(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(projectService.getTaskStatistics(ids));
+    }
+
+    @GetMapping("/{id}/stats")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<ProjectTaskStats> getTaskStatistics(@PathVariable Long id) {
+        return ResponseEntity.ok(projectService.getTaskStatistics(id));
+    }
+
+    /**
+     * The project's board: the first {@code limit} tasks of each status column and the
+     * column totals. Page a column with its {@code nextCursor}; repeat {@code cursor}
+     * to page several columns in one call.
+     */
+    @GetMapping("/{id}/board")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<BoardDTO> getBoard(@PathVariable Long id,
+                                             @RequestParam(required = false) List<String> cursor,
+                                             @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(taskBoardService.getBoard(id, cursor, limit));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<ProjectDTO> createProject(@Valid @RequestBody CreateProjectDTO createProjectDTO) {
@@ -57,4 +137,12 @@ public class ProjectController {
         projectService.deleteProject(id);
         return ResponseEntity.noContent().build();
     }
-}
\ No newline at end of file
+
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPage<AuditLog>> getProjectHistory(@PathVariable Long id,
+                                                                  @RequestParam(required = false) String cursor,
+                                                                  @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(auditLogQueryService.history(AuditLogService.ENTITY_PROJECT, id, cursor, size));
+    }
+}
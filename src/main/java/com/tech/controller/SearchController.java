@@ -0,0 +1,34 @@
+package com.tech.controller;
+
+import com.tech.dto.SearchResultDTO;
+import com.tech.service.SearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/search")
+@RequiredArgsConstructor
+public class SearchController {
+
+    private final SearchService searchService;
+
+    /**
+     * Ranked hits across tasks, projects and developers for {@code q}, optionally
+     * narrowed with one or more {@code type} (TASK, PROJECT, DEVELOPER); at most
+     * {@code limit} (up to 50) hits, with highlighted fragments.
+     */
+    @GetMapping
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<SearchResultDTO> search(@RequestParam String q,
+                                                  @RequestParam(required = false) List<String> type,
+                                                  @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(searchService.search(q, type, limit));
+    }
+}
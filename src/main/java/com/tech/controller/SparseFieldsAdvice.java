@@ -0,0 +1,69 @@
+package com.tech.controller;
+
+import com.tech.dto.CursorPage;
+import com.tech.dto.MultiGetResponse;
+import com.tech.dto.fields.DtoSchema;
+import com.tech.dto.fields.DtoSchemas;
+import com.tech.dto.fields.FieldSet;
+import com.tech.dto.fields.SparseView;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Applies {@code fields=} to what the task, project and developer endpoints
+ * write: each DTO in the body is wrapped in a {@link SparseView}, so only the
+ * selected fields are serialized. The services have already skipped loading the
+ * associations that were left out. Bodies without {@code fields} pass through
+ * untouched.
+ */
+@RestControllerAdvice(assignableTypes = {TaskController.class, ProjectController.class, DeveloperController.class})
+public class SparseFieldsAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final String FIELDS_PARAM = "fields";
+
+    private static final Map<Class<?>, DtoSchema<?>> SCHEMAS = Map.of(
+            TaskController.class, DtoSchemas.TASK,
+            ProjectController.class, DtoSchemas.PROJECT,
+            DeveloperController.class, DtoSchemas.DEVELOPER);
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return SCHEMAS.containsKey(returnType.getContainingClass());
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        HttpServletRequest httpRequest = servletRequest.getServletRequest();
+        String fields = httpRequest.getParameter(FIELDS_PARAM);
+        if (fields == null || fields.isBlank()) {
+            return body;
+        }
+        @SuppressWarnings("unchecked")
+        DtoSchema<Object> schema = (DtoSchema<Object>) SCHEMAS.get(returnType.getContainingClass());
+        FieldSet fieldSet = schema.parse(fields);
+        Function<Object, Object> view = item -> schema.type().isInstance(item) ? new SparseView<>(item, schema, fieldSet) : item;
+        return switch (body) {
+            case Slice<?> slice -> slice.map(view);
+            case CursorPage<?> page -> page.map(view);
+            case MultiGetResponse<?> multiGet -> new MultiGetResponse<>(
+                    multiGet.getItems().stream().map(view).toList(), multiGet.getMissingIds());
+            default -> view.apply(body);
+        };
+    }
+}
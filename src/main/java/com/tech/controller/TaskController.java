@@ -1,12 +1,31 @@
 package com.tech.controller;
 
+import com.tech.dto.BatchAssignRequest;
+import com.tech.dto.BatchAssignResult;
+import com.tech.dto.BulkOperationResult;
+import com.tech.dto.BulkResponse;
+import com.tech.dto.BulkTaskOperationDTO;
+import com.tech.dto.BulkTaskUpdateDTO;
 import com.tech.dto.CreateTaskDTO;
 import com.tech.dto.TaskDTO;
+import com.tech.dto.CursorPage;
+import com.tech.dto.IdListRequest;
+import com.tech.dto.MultiGetResponse;
+import com.tech.dto.TaskBulkFilterDTO;
+import com.tech.dto.TaskSearchResponse;
+import com.tech.dto.fields.DtoSchemas;
+import com.tech.model.AuditLog;
+import com.tech.service.AuditLogQueryService;
+import com.tech.service.AuditLogService;
+import com.tech.service.CountMode;
+import com.tech.service.TaskBulkOperationService;
+import com.tech.service.TaskBulkService;
+import com.tech.service.TaskSearchService;
 import com.tech.service.TaskService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -14,43 +33,132 @@ import org.springframework.web.bind.annotation.*;
 
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.Set;
+
 @RestController
 @RequestMapping("/api/v1/tasks")
 @RequiredArgsConstructor
 public class TaskController {
 
     private final TaskService taskService;
+    private final TaskSearchService taskSearchService;
+    private final TaskBulkService taskBulkService;
+    private final TaskBulkOperationService taskBulkOperationService;
+    private final AuditLogQueryService auditLogQueryService;
 
     @Cacheable
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<Page<TaskDTO>> getAllTasks(Pageable pageable) {
-        Page<TaskDTO> tasks = taskService.getAllTasks(pageable);
+    public ResponseEntity<Slice<TaskDTO>> getAllTasks(Pageable pageable,
+                                                      @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                      @RequestParam(required = false) String fields) {
+        Slice<TaskDTO> tasks = taskService.getAllTasks(pageable, count, DtoSchemas.TASK.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
+    /**
+     * Filtered listing: {@code status}, {@code projectId}, {@code assigneeId} and
+     * {@code due} (OVERDUE, THIS_WEEK, LATER, PAST, NONE) each take one or more values,
+     * {@code q} matches titles. With {@code facets=true} the response also carries the
+     * per-value counts of the matching tasks, for filter chips.
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<TaskSearchResponse> searchTasks(@RequestParam(required = false) List<String> status,
+                                                          @RequestParam(required = false) Set<Long> projectId,
+                                                          @RequestParam(required = false) Set<Long> assigneeId,
+                                                          @RequestParam(required = false) List<String> due,
+                                                          @RequestParam(required = false) String q,
+                                                          @RequestParam(defaultValue = "false") boolean facets,
+                                                          Pageable pageable) {
+        return ResponseEntity.ok(taskSearchService.search(status, projectId, assigneeId, due, q, pageable, facets));
+    }
+
+    /**
+     * Multi-get: {@code ?ids=1,2,3} resolves every id in batched queries and lists
+     * the ones that do not exist in {@code missingIds}. Use {@code POST /lookup} for long lists.
+     * A request that also carries {@code cursor} is served in cursor mode.
+     */
+    @GetMapping(params = {"ids", "!cursor"})
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<TaskDTO>> getTasksByIds(@RequestParam List<Long> ids,
+                                                                   @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.getTasksByIds(ids, DtoSchemas.TASK.parse(fields)));
+    }
+
+    @PostMapping("/lookup")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<MultiGetResponse<TaskDTO>> lookupTasks(@Valid @RequestBody IdListRequest request,
+                                                                 @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.getTasksByIds(request.getIds(), DtoSchemas.TASK.parse(fields)));
+    }
+
+    /**
+     * Cursor mode, selected by passing {@code cursor} (empty for the first page):
+     * {@code ?cursor=&size=100&sort=title&status=TODO} or {@code ?cursor=&overdue=true}.
+     * Follow {@code nextCursor} for later pages.
+     */
+    @GetMapping(params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<CursorPage<TaskDTO>> scrollTasks(@RequestParam String cursor,
+                                                           @RequestParam(required = false) String status,
+                                                           @RequestParam(defaultValue = "false") boolean overdue,
+                                                           @RequestParam(defaultValue = "id") String sort,
+                                                           @RequestParam(defaultValue = "50") int size,
+                                                           @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.scrollTasks(status, overdue, sort, cursor, size, DtoSchemas.TASK.parse(fields)));
+    }
+
     @Cacheable
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id) {
-        TaskDTO task = taskService.getTaskById(Math.toIntExact(id));
+    public ResponseEntity<TaskDTO> getTaskById(@PathVariable Long id,
+                                               @RequestParam(required = false) String fields) {
+        TaskDTO task = taskService.getTaskById(Math.toIntExact(id), DtoSchemas.TASK.parse(fields));
         return ResponseEntity.ok(task);
     }
 
     @GetMapping("/project/{projectId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<Page<TaskDTO>> getTasksByProject(@PathVariable Long projectId, Pageable pageable) {
-        Page<TaskDTO> tasks = taskService.getTasksByProjectId(Math.toIntExact(projectId), pageable);
+    public ResponseEntity<Slice<TaskDTO>> getTasksByProject(@PathVariable Long projectId, Pageable pageable,
+                                                            @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                            @RequestParam(required = false) String fields) {
+        Slice<TaskDTO> tasks = taskService.getTasksByProjectId(Math.toIntExact(projectId), pageable, count,
+                DtoSchemas.TASK.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/project/{projectId}", params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<CursorPage<TaskDTO>> scrollTasksByProject(@PathVariable Long projectId,
+                                                                    @RequestParam String cursor,
+                                                                    @RequestParam(defaultValue = "id") String sort,
+                                                                    @RequestParam(defaultValue = "50") int size,
+                                                                    @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.scrollTasksByProjectId(projectId, sort, cursor, size, DtoSchemas.TASK.parse(fields)));
+    }
+
     @GetMapping("/developer/{developerId}")
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
-    public ResponseEntity<Page<TaskDTO>> getTasksByDeveloper(@PathVariable Long developerId, Pageable pageable) {
-        Page<TaskDTO> tasks = taskService.getTasksByDeveloperId(Math.toIntExact(developerId), pageable);
+    public ResponseEntity<Slice<TaskDTO>> getTasksByDeveloper(@PathVariable Long developerId, Pageable pageable,
+                                                              @RequestParam(defaultValue = "EXACT") CountMode count,
+                                                              @RequestParam(required = false) String fields) {
+        Slice<TaskDTO> tasks = taskService.getTasksByDeveloperId(Math.toIntExact(developerId), pageable, count,
+                DtoSchemas.TASK.parse(fields));
         return ResponseEntity.ok(tasks);
     }
 
+    @GetMapping(value = "/developer/{developerId}", params = "cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER', 'DEVELOPER', 'CONTRACTOR')")
+    public ResponseEntity<CursorPage<TaskDTO>> scrollTasksByDeveloper(@PathVariable Long developerId,
+                                                                      @RequestParam String cursor,
+                                                                      @RequestParam(defaultValue = "id") String sort,
+                                                                      @RequestParam(defaultValue = "50") int size,
+                                                                      @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(taskService.scrollTasksByDeveloperId(developerId, sort, cursor, size, DtoSchemas.TASK.parse(fields)));
+    }
+
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
     public ResponseEntity<TaskDTO> createTask(@Valid @RequestBody CreateTaskDTO createTaskDTO) {
@@ -58,6 +166,41 @@ public class TaskController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdTask);
     }
 
+    /**
+     * Creates up to 5000 tasks in one call. Each item is validated and its project
+     * and developers resolved up front; the response lists per item its new id or
+     * why it was rejected, and only the rejected items are left out.
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkResponse> createTasks(@RequestBody List<CreateTaskDTO> tasks) {
+        return ResponseEntity.ok(taskBulkService.createTasks(tasks));
+    }
+
+    // Admin only: the per-task ownership check that lets developers update their own tasks is not applied in bulk
+    @PutMapping("/bulk")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkResponse> updateTasks(@RequestBody List<BulkTaskUpdateDTO> tasks) {
+        return ResponseEntity.ok(taskBulkService.updateTasks(tasks));
+    }
+
+    /**
+     * Sets the status of, shifts the due date of, or reassigns every task matching
+     * the filter, in chunks; e.g. {@code {"projectIds":[4],"statuses":["REVIEW"],
+     * "action":"SET_STATUS","status":"DONE"}}.
+     */
+    @PostMapping("/bulk/update-by-filter")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<BulkOperationResult> updateTasksByFilter(@Valid @RequestBody BulkTaskOperationDTO operation) {
+        return ResponseEntity.ok(taskBulkOperationService.updateByFilter(operation));
+    }
+
+    @PostMapping("/bulk/delete-by-filter")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BulkOperationResult> deleteTasksByFilter(@RequestBody TaskBulkFilterDTO filter) {
+        return ResponseEntity.ok(taskBulkOperationService.deleteByFilter(filter));
+    }
+
     @PutMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN') or hasRole('DEVELOPER') and @accessChecker.isTaskOwner(#id)")
     public ResponseEntity<TaskDTO> updateTask(@PathVariable Long id,
@@ -80,4 +223,41 @@ public class TaskController {
         TaskDTO updatedTask = taskService.assignDeveloperToTask(Math.toIntExact(taskId), Math.toIntExact(developerId));
         return ResponseEntity.ok(updatedTask);
     }
+
+    /**
+     * Assigns one developer without touching the task's other assignees;
+     * idempotent.
+     */
+    @PutMapping("/{taskId}/assignees/{developerId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Void> addAssignee(@PathVariable Long taskId, @PathVariable Long developerId) {
+        taskService.addAssignee(taskId, developerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Assigns every listed developer to every listed task in one statement,
+     * e.g. {@code {"taskIds":[3,4],"developerIds":[7,9]}}; pairs already
+     * assigned are skipped, so retries are safe.
+     */
+    @PostMapping("/assignments")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<BatchAssignResult> assignDevelopers(@Valid @RequestBody BatchAssignRequest request) {
+        return ResponseEntity.ok(taskService.assignDevelopers(request));
+    }
+
+    @DeleteMapping("/{taskId}/assignees/{developerId}")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<Void> removeAssignee(@PathVariable Long taskId, @PathVariable Long developerId) {
+        taskService.removeAssignee(taskId, developerId);
+        return ResponseEntity.noContent().build();
+    }
+
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasAnyRole('ADMIN', 'MANAGER')")
+    public ResponseEntity<CursorPage<AuditLog>> getTaskHistory(@PathVariable Long id,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(auditLogQueryService.history(AuditLogService.ENTITY_TASK, id, cursor, size));
+    }
 }
@@ -0,0 +1,15 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventVerification {
+    private String eventId;
+    private String sealId;
+    private boolean valid;
+    private String reason;
+}
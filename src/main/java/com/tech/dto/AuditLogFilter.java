@@ -0,0 +1,27 @@
+package com.tech.dto;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AuditLogFilter {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;
+
+    private String actorType;
+
+    private String actionType;
+
+    private String entityType;
+
+    private Long entityId;
+
+    private String actor;
+
+    private String username;
+}
@@ -0,0 +1,18 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditStatsBucket {
+    private LocalDateTime bucketStart;
+    private String actionType;
+    private String actorType;
+    private String username;
+    private long count;
+}
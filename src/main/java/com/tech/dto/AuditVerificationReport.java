@@ -0,0 +1,20 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditVerificationReport {
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private int sealsChecked;
+    private long eventsChecked;
+    private boolean valid;
+    private List<String> failures;
+}
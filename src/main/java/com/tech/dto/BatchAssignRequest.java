@@ -0,0 +1,18 @@
+package com.tech.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.Set;
+
+/**
+ * Developers to assign to tasks: every one of {@code developerIds} to every one
+ * of {@code taskIds}.
+ */
+@Data
+public class BatchAssignRequest {
+    @NotEmpty
+    private Set<Long> taskIds;
+    @NotEmpty
+    private Set<Long> developerIds;
+}
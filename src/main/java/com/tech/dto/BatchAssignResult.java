@@ -0,0 +1,10 @@
+package com.tech.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a batch assign: how many (task, developer) pairs were added, how
+ * many were already assigned, and the requested ids that do not exist.
+ */
+public record BatchAssignResult(int assigned, int alreadyAssigned, List<Long> missingTaskIds, List<Long> missingDeveloperIds) {
+}
@@ -0,0 +1,20 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardColumn {
+    private String status;
+    // Tasks in the whole column; null on a page requested past the column's last task
+    private Long total;
+    private List<TaskDTO> tasks;
+    private boolean hasNext;
+    // Pass back as ?cursor= to page this column alone; null on its last page
+    private String nextCursor;
+}
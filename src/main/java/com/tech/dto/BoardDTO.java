@@ -0,0 +1,16 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardDTO {
+    private Long projectId;
+    // In TaskStatus order; only the paged columns when cursors were passed
+    private List<BoardColumn> columns;
+}
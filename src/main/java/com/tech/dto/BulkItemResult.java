@@ -0,0 +1,13 @@
+package com.tech.dto;
+
+/**
+ * Outcome of one item of a bulk request, in request order. {@code status} is the
+ * HTTP status the item would have had on its own (201, 200, 400 or 404);
+ * {@code error} is set when it failed.
+ */
+public record BulkItemResult(int index, Long id, int status, String error) {
+
+    public boolean succeeded() {
+        return error == null;
+    }
+}
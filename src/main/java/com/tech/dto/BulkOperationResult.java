@@ -0,0 +1,8 @@
+package com.tech.dto;
+
+/**
+ * Outcome of a filtered bulk operation: how many tasks it changed, written in
+ * how many chunks.
+ */
+public record BulkOperationResult(String action, int affected, int chunks) {
+}
@@ -0,0 +1,11 @@
+package com.tech.dto;
+
+import java.util.List;
+
+public record BulkResponse(int succeeded, int failed, List<BulkItemResult> items) {
+
+    public static BulkResponse of(List<BulkItemResult> items) {
+        int succeeded = (int) items.stream().filter(BulkItemResult::succeeded).count();
+        return new BulkResponse(succeeded, items.size() - succeeded, items);
+    }
+}
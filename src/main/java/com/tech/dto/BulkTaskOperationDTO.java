@@ -0,0 +1,28 @@
+package com.tech.dto;
+
+import com.tech.model.Task;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.Set;
+
+/**
+ * A filtered bulk update: the filter plus one action and its parameter,
+ * {@code status} for SET_STATUS, {@code days} (may be negative) for
+ * SHIFT_DUE_DATE, {@code developerIds} (may be empty) for REASSIGN.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class BulkTaskOperationDTO extends TaskBulkFilterDTO {
+
+    public enum Action {
+        SET_STATUS, SHIFT_DUE_DATE, REASSIGN
+    }
+
+    @NotNull
+    private Action action;
+    private Task.TaskStatus status;
+    private Integer days;
+    private Set<Long> developerIds;
+}
@@ -0,0 +1,16 @@
+package com.tech.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+/**
+ * One item of a bulk task update: the task id plus the same fields as a single
+ * {@code PUT /api/v1/tasks/{id}}.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class BulkTaskUpdateDTO extends CreateTaskDTO {
+    @NotNull
+    private Long id;
+}
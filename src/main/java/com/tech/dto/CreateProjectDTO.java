@@ -22,5 +22,8 @@ public class CreateProjectDTO {
 
     private String status;
 
+    @Size(max = 100)
+    private String externalKey;
+
     private List<Long> taskIds;
 }
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.tech.dto;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Everything the dashboard shows, loaded in one request. A section that timed
+ * out or failed is null and named in {@code timedOut} or {@code failed}; the
+ * other sections are still returned.
+ */
+@Data
+public class DashboardDTO {
+    private DashboardSection<ProjectDTO> activeProjects;
+    private DashboardSection<ProjectDTO> overdueProjects;
+    private DashboardSection<TaskDTO> overdueTasks;
+    private DashboardSection<TaskDTO> unassignedTasks;
+    private DashboardSection<DeveloperDTO> developersWithoutTasks;
+    // Status counts for the active projects listed above
+    private List<ProjectTaskStats> activeProjectStats;
+
+    private List<String> timedOut = new ArrayList<>();
+    private List<String> failed = new ArrayList<>();
+
+    public boolean isComplete() {
+        return timedOut.isEmpty() && failed.isEmpty();
+    }
+}
@@ -0,0 +1,16 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSection<T> {
+    // The first rows only; total counts every match
+    private List<T> items;
+    private long total;
+}
@@ -0,0 +1,12 @@
+package com.tech.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class IdListRequest {
+    @NotEmpty
+    private List<Long> ids;
+}
@@ -0,0 +1,20 @@
+package com.tech.dto;
+
+import com.tech.model.ImportJob;
+
+import java.time.Instant;
+
+/**
+ * Progress of an import. {@code rowsProcessed} counts the data rows committed so
+ * far, imported or rejected; rejected rows are listed by the job's errors endpoint.
+ */
+public record ImportJobDTO(Long id, String entityType, String format, String status, String fileName,
+                           long rowsProcessed, long rowsImported, long rowsFailed, String error,
+                           Instant createdAt, Instant startedAt, Instant finishedAt) {
+
+    public static ImportJobDTO of(ImportJob job) {
+        return new ImportJobDTO(job.getId(), job.getEntityType().name(), job.getFormat().name(), job.getStatus().name(),
+                job.getFileName(), job.getCheckpointRow(), job.getRowsImported(), job.getRowsFailed(), job.getError(),
+                job.getCreatedAt(), job.getStartedAt(), job.getFinishedAt());
+    }
+}
@@ -0,0 +1,4 @@
+package com.tech.dto;
+
+public record ImportRowErrorDTO(long rowNumber, String message) {
+}
@@ -0,0 +1,16 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MultiGetResponse<T> {
+    // In the order the ids were requested, duplicates removed
+    private List<T> items;
+    private List<Long> missingIds;
+}
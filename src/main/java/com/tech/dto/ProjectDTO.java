@@ -12,6 +12,7 @@ public class ProjectDTO {
     private String description;
     private LocalDate deadline;
     private String status;
+    private String externalKey;
 //    private List<TaskDTO> tasks;
     private List<Long> taskIds;
 }
@@ -0,0 +1,17 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjectTaskStats {
+    private Long projectId;
+    // Every task status, zero when the project has none in it
+    private Map<String, Long> countsByStatus;
+    private long total;
+}
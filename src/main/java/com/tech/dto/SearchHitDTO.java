@@ -0,0 +1,11 @@
+package com.tech.dto;
+
+import java.util.Map;
+
+/**
+ * One search hit. {@code label} is the task title or the project or developer
+ * name; {@code highlights} holds, per matched field, the best fragment with the
+ * matching terms wrapped in {@code <b>}.
+ */
+public record SearchHitDTO(String type, Long id, String label, float score, Map<String, String> highlights) {
+}
@@ -0,0 +1,10 @@
+package com.tech.dto;
+
+import java.util.List;
+
+/**
+ * Ranked hits for a search, best first. {@code totalHits} is exact only when
+ * {@code totalHitsExact} is set; past a thousand matches it is a lower bound.
+ */
+public record SearchResultDTO(String query, long totalHits, boolean totalHitsExact, long tookMs, List<SearchHitDTO> hits) {
+}
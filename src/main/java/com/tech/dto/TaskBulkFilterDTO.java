@@ -0,0 +1,27 @@
+package com.tech.dto;
+
+import com.tech.model.Task;
+import com.tech.repository.TaskBulkFilter;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * The tasks a filtered bulk operation applies to: those in any of
+ * {@code projectIds}, with any of {@code statuses}, assigned to any of
+ * {@code assigneeIds} and due within {@code dueFrom}..{@code dueTo} (inclusive).
+ * Criteria left out match every task, but at least one must be given.
+ */
+@Data
+public class TaskBulkFilterDTO {
+    private Set<Long> projectIds;
+    private Set<Task.TaskStatus> statuses;
+    private Set<Long> assigneeIds;
+    private LocalDate dueFrom;
+    private LocalDate dueTo;
+
+    public TaskBulkFilter toFilter() {
+        return new TaskBulkFilter(projectIds, statuses, assigneeIds, dueFrom, dueTo);
+    }
+}
@@ -0,0 +1,20 @@
+package com.tech.dto;
+
+import lombok.Data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts of the tasks matching a search, per filter value. Status and due-date
+ * buckets list every value, zero included; projects and assignees list only
+ * values with matches, most matches first.
+ */
+@Data
+public class TaskFacets {
+    private Map<String, Long> status = new LinkedHashMap<>();
+    private Map<Long, Long> project = new LinkedHashMap<>();
+    private Map<Long, Long> assignee = new LinkedHashMap<>();
+    private long unassigned;
+    private Map<String, Long> dueDate = new LinkedHashMap<>();
+}
@@ -0,0 +1,15 @@
+package com.tech.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchResponse {
+    private Page<TaskDTO> results;
+    // Only when requested with facets=true
+    private TaskFacets facets;
+}
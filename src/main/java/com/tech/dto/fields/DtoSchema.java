@@ -0,0 +1,146 @@
+package com.tech.dto.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.tech.exception.InvalidQueryException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Hand-written description of a DTO's JSON fields: names, getters and nested
+ * DTOs. It validates {@code fields=} selections and compiles, once per distinct
+ * selection, a writer that emits only the selected fields through plain getter
+ * calls, so the response path does no bean introspection.
+ */
+public final class DtoSchema<T> {
+
+    @FunctionalInterface
+    private interface PropertyWriter<T> {
+        void write(T value, JsonGenerator gen, SerializerProvider provider) throws IOException;
+    }
+
+    private record Field<T>(String name, Function<T, ?> getter, DtoSchema<?> nested) {
+    }
+
+    private final String name;
+    private final Class<T> type;
+    private final Map<String, Field<T>> fields = new LinkedHashMap<>();
+    private final Map<FieldSet, List<PropertyWriter<T>>> writers = new ConcurrentHashMap<>();
+
+    private DtoSchema(String name, Class<T> type) {
+        this.name = name;
+        this.type = type;
+    }
+
+    public static <T> DtoSchema<T> of(String name, Class<T> type) {
+        return new DtoSchema<>(name, type);
+    }
+
+    public Class<T> type() {
+        return type;
+    }
+
+    public DtoSchema<T> field(String field, Function<T, ?> getter) {
+        fields.put(field, new Field<>(field, getter, null));
+        return this;
+    }
+
+    public <N> DtoSchema<T> nested(String field, Function<T, ? extends Collection<N>> getter, DtoSchema<N> schema) {
+        fields.put(field, new Field<>(field, getter, schema));
+        return this;
+    }
+
+    /**
+     * @param fieldsParam comma-separated field names, or null/blank for all fields
+     * @throws InvalidQueryException if a name is not a field of this DTO
+     */
+    public FieldSet parse(String fieldsParam) {
+        if (fieldsParam == null || fieldsParam.isBlank()) {
+            return FieldSet.ALL;
+        }
+        Map<String, List<String>> requested = new LinkedHashMap<>();
+        for (String token : fieldsParam.split(",")) {
+            String field = token.trim();
+            if (field.isEmpty()) {
+                continue;
+            }
+            int dot = field.indexOf('.');
+            String head = dot < 0 ? field : field.substring(0, dot);
+            Field<T> known = fields.get(head);
+            if (known == null || (dot >= 0 && known.nested() == null)) {
+                throw new InvalidQueryException("Unknown field '" + field + "' for " + name + "; available fields are " + fields.keySet());
+            }
+            List<String> nested = requested.computeIfAbsent(head, key -> new ArrayList<>());
+            if (dot < 0) {
+                // the whole association wins over any sub-selection
+                nested.clear();
+                nested.add(null);
+            } else if (!nested.contains(null)) {
+                nested.add(field.substring(dot + 1));
+            }
+        }
+        Map<String, FieldSet> selection = new LinkedHashMap<>();
+        requested.forEach((field, nested) -> {
+            DtoSchema<?> schema = fields.get(field).nested();
+            selection.put(field, schema == null || nested.contains(null) ? FieldSet.ALL : schema.parse(String.join(",", nested)));
+        });
+        return new FieldSet(selection);
+    }
+
+    /**
+     * Writes {@code value} as a JSON object holding only the selected fields.
+     */
+    public void write(T value, FieldSet fieldSet, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        for (PropertyWriter<T> writer : writers.computeIfAbsent(fieldSet, this::compile)) {
+            writer.write(value, gen, provider);
+        }
+        gen.writeEndObject();
+    }
+
+    private List<PropertyWriter<T>> compile(FieldSet fieldSet) {
+        List<PropertyWriter<T>> compiled = new ArrayList<>();
+        for (Field<T> field : fields.values()) {
+            if (!fieldSet.includes(field.name())) {
+                continue;
+            }
+            SerializedString key = new SerializedString(field.name());
+            Function<T, ?> getter = field.getter();
+            if (field.nested() == null) {
+                compiled.add((value, gen, provider) -> {
+                    gen.writeFieldName(key);
+                    provider.defaultSerializeValue(getter.apply(value), gen);
+                });
+            } else {
+                compiled.add(nestedWriter(key, getter, field.nested(), fieldSet.nested(field.name())));
+            }
+        }
+        return List.copyOf(compiled);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T, N> PropertyWriter<T> nestedWriter(SerializedString key, Function<T, ?> getter,
+                                                         DtoSchema<N> schema, FieldSet nestedFields) {
+        return (value, gen, provider) -> {
+            Collection<N> items = (Collection<N>) getter.apply(value);
+            gen.writeFieldName(key);
+            if (items == null) {
+                gen.writeNull();
+                return;
+            }
+            gen.writeStartArray();
+            for (N item : items) {
+                schema.write(item, nestedFields, gen, provider);
+            }
+            gen.writeEndArray();
+        };
+    }
+}
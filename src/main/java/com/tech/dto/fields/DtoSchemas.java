@@ -0,0 +1,41 @@
+package com.tech.dto.fields;
+
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.ProjectDTO;
+import com.tech.dto.TaskDTO;
+
+/**
+ * Field schemas for the DTOs that support {@code fields=}. Fields are listed in
+ * the order the full DTO writes them.
+ */
+public final class DtoSchemas {
+
+    public static final DtoSchema<DeveloperDTO> DEVELOPER = DtoSchema.of("developer", DeveloperDTO.class)
+            .field("id", DeveloperDTO::getId)
+            .field("name", DeveloperDTO::getName)
+            .field("email", DeveloperDTO::getEmail)
+            .field("skills", DeveloperDTO::getSkills)
+            .field("taskIds", DeveloperDTO::getTaskIds);
+
+    public static final DtoSchema<ProjectDTO> PROJECT = DtoSchema.of("project", ProjectDTO.class)
+            .field("id", ProjectDTO::getId)
+            .field("name", ProjectDTO::getName)
+            .field("description", ProjectDTO::getDescription)
+            .field("deadline", ProjectDTO::getDeadline)
+            .field("status", ProjectDTO::getStatus)
+            .field("externalKey", ProjectDTO::getExternalKey)
+            .field("taskIds", ProjectDTO::getTaskIds);
+
+    public static final DtoSchema<TaskDTO> TASK = DtoSchema.of("task", TaskDTO.class)
+            .field("id", TaskDTO::getId)
+            .field("title", TaskDTO::getTitle)
+            .field("description", TaskDTO::getDescription)
+            .field("status", TaskDTO::getStatus)
+            .field("dueDate", TaskDTO::getDueDate)
+            .field("projectId", TaskDTO::getProjectId)
+            .field("projectName", TaskDTO::getProjectName)
+            .nested("assignedDevelopers", TaskDTO::getAssignedDevelopers, DEVELOPER);
+
+    private DtoSchemas() {
+    }
+}
@@ -0,0 +1,56 @@
+package com.tech.dto.fields;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The fields a client asked for with {@code fields=}, parsed against a
+ * {@link DtoSchema}. Nested fields select part of an association, e.g.
+ * {@code assignedDevelopers.name}; naming the association alone selects all of it.
+ * Instances are immutable and used as cache keys for compiled writers.
+ */
+public final class FieldSet {
+
+    public static final FieldSet ALL = new FieldSet(null);
+
+    // null means every field
+    private final Map<String, FieldSet> fields;
+
+    FieldSet(Map<String, FieldSet> fields) {
+        this.fields = fields == null ? null : Map.copyOf(fields);
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    public boolean includes(String field) {
+        return fields == null || fields.containsKey(field);
+    }
+
+    /**
+     * The selection within an included association.
+     */
+    public FieldSet nested(String field) {
+        if (fields == null) {
+            return ALL;
+        }
+        FieldSet nested = fields.get(field);
+        return nested == null ? ALL : nested;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof FieldSet other && Objects.equals(fields, other.fields));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(fields);
+    }
+
+    @Override
+    public String toString() {
+        return fields == null ? "*" : fields.toString();
+    }
+}
@@ -0,0 +1,43 @@
+package com.tech.dto.fields;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.type.WritableTypeId;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+
+import java.io.IOException;
+
+/**
+ * A DTO paired with the fields to write; Jackson hands serialization straight
+ * to the schema's compiled writer.
+ */
+public final class SparseView<T> implements JsonSerializable {
+
+    private final T value;
+    private final DtoSchema<T> schema;
+    private final FieldSet fieldSet;
+
+    public SparseView(T value, DtoSchema<T> schema, FieldSet fieldSet) {
+        this.value = value;
+        this.schema = schema;
+        this.fieldSet = fieldSet;
+    }
+
+    @Override
+    public void serialize(JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+            return;
+        }
+        schema.write(value, fieldSet, gen, provider);
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer) throws IOException {
+        WritableTypeId typeId = typeSer.writeTypePrefix(gen, typeSer.typeId(this, JsonToken.START_OBJECT));
+        serialize(gen, provider);
+        typeSer.writeTypeSuffix(gen, typeId);
+    }
+}
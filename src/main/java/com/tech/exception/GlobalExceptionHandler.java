@@ -58,6 +58,30 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(message, HttpStatus.UNAUTHORIZED);
     }
 
+    @ExceptionHandler(InvalidCursorException.class)
+    public ResponseEntity<ErrorMessage> handleInvalidCursorException(InvalidCursorException ex, WebRequest request) {
+        logger.debug("Rejected pagination cursor: {} - {}", ex.getMessage(), request.getDescription(false));
+
+        ErrorMessage message = new ErrorMessage(
+                HttpStatus.BAD_REQUEST.value(),
+                System.currentTimeMillis(),
+                "Invalid cursor: request the first page again without a cursor.",
+                request.getDescription(false));
+        return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+    }
+
+    @ExceptionHandler(InvalidQueryException.class)
+    public ResponseEntity<ErrorMessage> handleInvalidQueryException(InvalidQueryException ex, WebRequest request) {
+        logger.debug("Rejected query parameters: {} - {}", ex.getMessage(), request.getDescription(false));
+
+        ErrorMessage message = new ErrorMessage(
+                HttpStatus.BAD_REQUEST.value(),
+                System.currentTimeMillis(),
+                ex.getMessage(),
+                request.getDescription(false));
+        return new ResponseEntity<>(message, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorMessage> handleGlobalException(Exception ex, WebRequest request) {
         String username = "anonymous";
@@ -0,0 +1,7 @@
+package com.tech.exception;
+
+public class InvalidCursorException extends IllegalArgumentException {
+    public InvalidCursorException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,7 @@
+package com.tech.exception;
+
+public class InvalidQueryException extends IllegalArgumentException {
+    public InvalidQueryException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,132 @@
+package com.tech.imports;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * RFC 4180 CSV: the first record names the columns; fields may be quoted, with
+ * {@code ""} for a quote and line breaks allowed inside quotes. Blank lines are
+ * skipped. A field longer than {@link #MAX_FIELD_CHARS} stops the read, so a
+ * missing closing quote cannot pull the rest of the file into memory.
+ */
+public class CsvRowReader implements RowReader {
+
+    public static final int MAX_FIELD_CHARS = 1 << 20;
+
+    private final BufferedReader reader;
+    private final List<String> header;
+    private long rowNumber;
+
+    public CsvRowReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        skipByteOrderMark();
+        List<String> names = readRecord();
+        if (names == null) {
+            throw new IOException("CSV file is empty; expected a header row");
+        }
+        this.header = names.stream().map(String::trim).toList();
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        List<String> record = readRecord();
+        if (record == null) {
+            return null;
+        }
+        rowNumber++;
+        if (record.size() != header.size()) {
+            return ImportRow.invalid(rowNumber, "Expected " + header.size() + " columns, found " + record.size());
+        }
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            values.put(header.get(i), record.get(i));
+        }
+        return new ImportRow(rowNumber, values, null);
+    }
+
+    private void skipByteOrderMark() throws IOException {
+        reader.mark(1);
+        if (reader.read() != '\uFEFF') {
+            reader.reset();
+        }
+    }
+
+    // Next non-blank record, or null at the end of the file
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean started = false;
+        while (true) {
+            int c = reader.read();
+            if (c == -1) {
+                if (quoted) {
+                    throw new IOException("Unterminated quoted field after CSV row " + rowNumber);
+                }
+                if (!started) {
+                    return null;
+                }
+                fields.add(field.toString());
+                return fields;
+            }
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        append(field, '"');
+                    } else {
+                        quoted = false;
+                        reader.reset();
+                    }
+                } else {
+                    append(field, (char) c);
+                }
+                continue;
+            }
+            switch (c) {
+                case '"' -> {
+                    if (field.isEmpty()) {
+                        quoted = true;
+                        started = true;
+                    } else {
+                        append(field, '"');
+                    }
+                }
+                case ',' -> {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                    started = true;
+                }
+                case '\r' -> {
+                    // dropped; \n ends the record
+                }
+                case '\n' -> {
+                    if (started) {
+                        fields.add(field.toString());
+                        return fields;
+                    }
+                }
+                default -> {
+                    append(field, (char) c);
+                    started = true;
+                }
+            }
+        }
+    }
+
+    private void append(StringBuilder field, char c) throws IOException {
+        if (field.length() >= MAX_FIELD_CHARS) {
+            throw new IOException("CSV field longer than " + MAX_FIELD_CHARS + " characters after row " + rowNumber);
+        }
+        field.append(c);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
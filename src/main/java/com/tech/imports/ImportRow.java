@@ -0,0 +1,23 @@
+package com.tech.imports;
+
+import java.util.Map;
+
+/**
+ * One data row of an import file, numbered from 1. {@code problem} is set when
+ * the row could not be read into columns (wrong column count, invalid JSON); such
+ * rows are reported as errors without being looked at further.
+ */
+public record ImportRow(long number, Map<String, String> values, String problem) {
+
+    public static ImportRow invalid(long number, String problem) {
+        return new ImportRow(number, Map.of(), problem);
+    }
+
+    /**
+     * The trimmed value of {@code column}, or null if it is missing or blank.
+     */
+    public String get(String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
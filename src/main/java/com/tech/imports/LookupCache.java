@@ -0,0 +1,78 @@
+package com.tech.imports;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Natural key to id cache for resolving an import's references, e.g. project
+ * external keys or developer emails. Keys a chunk needs that are not cached are
+ * loaded with one {@code IN} query per {@link #BATCH_SIZE} keys; the cache keeps
+ * the most recently used {@code capacity} entries. Keys that do not resolve are
+ * not cached, so rows imported meanwhile are found on the next lookup.
+ */
+public class LookupCache {
+
+    public static final int BATCH_SIZE = 1000;
+
+    // The key matches more than one row, e.g. a project name used twice
+    public static final long AMBIGUOUS = -1L;
+
+    private final Function<Collection<String>, Map<String, Long>> loader;
+    private final Map<String, Long> entries;
+
+    /**
+     * @param loader returns the id of each given key that exists, {@link #AMBIGUOUS} for
+     *               keys matching several rows
+     */
+    public LookupCache(int capacity, Function<Collection<String>, Map<String, Long>> loader) {
+        this.loader = loader;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * The ids of those of {@code keys} that exist.
+     */
+    public Map<String, Long> resolve(Collection<String> keys) {
+        Map<String, Long> resolved = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String key : keys) {
+            Long id = entries.get(key);
+            if (id != null) {
+                resolved.put(key, id);
+            } else {
+                missing.add(key);
+            }
+        }
+        List<String> batch = new ArrayList<>(Math.min(missing.size(), BATCH_SIZE));
+        for (String key : missing) {
+            batch.add(key);
+            if (batch.size() == BATCH_SIZE) {
+                load(batch, resolved);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            load(batch, resolved);
+        }
+        return resolved;
+    }
+
+    private void load(List<String> keys, Map<String, Long> resolved) {
+        loader.apply(keys).forEach((key, id) -> {
+            entries.put(key, id);
+            resolved.put(key, id);
+        });
+    }
+}
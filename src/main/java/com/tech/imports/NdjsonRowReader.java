@@ -0,0 +1,76 @@
+package com.tech.imports;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
+
+/**
+ * Newline-delimited JSON: one object per line, blank lines skipped. Values are
+ * taken as text; arrays (e.g. a task's assignee emails) are joined with
+ * {@code ;}, the list separator CSV rows use.
+ */
+public class NdjsonRowReader implements RowReader {
+
+    private final BufferedReader reader;
+    private final ObjectMapper objectMapper;
+    private long rowNumber;
+
+    public NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ImportRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank());
+        rowNumber++;
+
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JsonProcessingException e) {
+            return ImportRow.invalid(rowNumber, "Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (!node.isObject()) {
+            return ImportRow.invalid(rowNumber, "Expected a JSON object");
+        }
+        Map<String, String> values = new HashMap<>();
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            values.put(field.getKey(), text(field.getValue()));
+        }
+        return new ImportRow(rowNumber, values, null);
+    }
+
+    private static String text(JsonNode value) {
+        if (value.isNull()) {
+            return null;
+        }
+        if (value.isArray()) {
+            return StreamSupport.stream(value.spliterator(), false)
+                    .map(NdjsonRowReader::text)
+                    .collect(Collectors.joining(";"));
+        }
+        return value.isValueNode() ? value.asText() : value.toString();
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
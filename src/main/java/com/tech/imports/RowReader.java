@@ -0,0 +1,29 @@
+package com.tech.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.model.ImportJob;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file one row at a time, so memory use does not depend on the
+ * size of the file. An {@link IOException} means the file cannot be read any
+ * further (e.g. an unterminated CSV quote); problems confined to one row are
+ * reported on the row instead.
+ */
+public interface RowReader extends Closeable {
+
+    /**
+     * The next row, or null at the end of the file.
+     */
+    ImportRow next() throws IOException;
+
+    static RowReader open(ImportJob.Format format, BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvRowReader(reader);
+            case NDJSON -> new NdjsonRowReader(reader, objectMapper);
+        };
+    }
+}
@@ -4,20 +4,45 @@ import com.tech.dto.CreateDeveloperDTO;
 import com.tech.dto.DeveloperDTO;
 import com.tech.model.Developer;
 import com.tech.model.Task;
+import com.tech.repository.projection.AssigneeRow;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DeveloperMapper {
 
     public DeveloperDTO toDto(Developer developer) {
         if (developer == null) return null;
 
+        return toDto(developer, developer.getTasks() != null ? developer.getTasks().stream().map(Task::getId).toList() : null);
+    }
+
+    /**
+     * Maps the developer's own columns and takes the task ids as given, leaving the
+     * lazy {@code tasks} collection untouched.
+     */
+    public DeveloperDTO toDto(Developer developer, List<Long> taskIds) {
+        if (developer == null) return null;
+
         DeveloperDTO dto = new DeveloperDTO();
         dto.setId(developer.getId());
         dto.setName(developer.getName());
         dto.setEmail(developer.getEmail());
         dto.setSkills(developer.getSkills());
-        dto.setTaskIds(developer.getTasks() != null ? developer.getTasks().stream().map(Task::getId).toList() : null);
+        dto.setTaskIds(taskIds);
+        return dto;
+    }
+
+    public DeveloperDTO toDto(AssigneeRow row, List<Long> taskIds) {
+        if (row == null) return null;
+
+        DeveloperDTO dto = new DeveloperDTO();
+        dto.setId(row.developerId());
+        dto.setName(row.name());
+        dto.setEmail(row.email());
+        dto.setSkills(row.skills());
+        dto.setTaskIds(taskIds);
         return dto;
     }
 
@@ -6,6 +6,7 @@ import com.tech.model.Project;
 import com.tech.model.Task;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.stream.Collectors;
 
 @Component
@@ -14,16 +15,24 @@ public class ProjectMapper {
     public ProjectDTO toDto(Project project) {
         if (project == null) return null;
 
+        return toDto(project, project.getTasks() != null ? project.getTasks().stream().map(Task::getId).toList() : null);
+    }
+
+    /**
+     * Maps the project's own columns and takes the task ids as given, leaving the
+     * lazy {@code tasks} collection untouched.
+     */
+    public ProjectDTO toDto(Project project, List<Long> taskIds) {
+        if (project == null) return null;
+
         ProjectDTO dto = new ProjectDTO();
         dto.setId(project.getId());
         dto.setName(project.getName());
         dto.setDescription(project.getDescription());
         dto.setDeadline(project.getDeadline());
         dto.setStatus(project.getStatus() != null ? project.getStatus().name() : null);
-        if (project.getTasks() != null) {
-           dto.setTaskIds(project.getTasks().stream().map(Task::getId).toList());
-        }
-
+        dto.setExternalKey(project.getExternalKey());
+        dto.setTaskIds(taskIds);
         return dto;
     }
 
@@ -35,6 +44,7 @@ public class ProjectMapper {
         project.setDescription(createProjectDTO.getDescription());
         project.setDeadline(createProjectDTO.getDeadline());
         project.setStatus(mapStatus(createProjectDTO.getStatus()));
+        project.setExternalKey(createProjectDTO.getExternalKey());
         return project;
     }
 
@@ -45,6 +55,10 @@ public class ProjectMapper {
         project.setDescription(updateProjectDTO.getDescription());
         project.setDeadline(updateProjectDTO.getDeadline());
         project.setStatus(mapStatus(updateProjectDTO.getStatus()));
+        // kept unless given, so updates from clients that predate the field do not clear it
+        if (updateProjectDTO.getExternalKey() != null) {
+            project.setExternalKey(updateProjectDTO.getExternalKey());
+        }
     }
 
     private Project.ProjectStatus mapStatus(String status) {
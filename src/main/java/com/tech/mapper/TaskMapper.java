@@ -5,9 +5,11 @@ import com.tech.dto.DeveloperDTO;
 import com.tech.dto.TaskDTO;
 import com.tech.model.Developer;
 import com.tech.model.Task;
+import com.tech.repository.projection.TaskRow;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -34,6 +36,7 @@ public class TaskMapper {
 
         if (task.getAssignedDevelopers() != null) {
             List<DeveloperDTO> developers = task.getAssignedDevelopers().stream()
+                    .sorted(Comparator.comparing(Developer::getId, Comparator.nullsLast(Comparator.naturalOrder())))
                     .map(developerMapper::toDtoWithoutTasks)
                     .collect(Collectors.toList());
             dto.setAssignedDevelopers(developers);
@@ -42,6 +45,21 @@ public class TaskMapper {
         return dto;
     }
 
+    public TaskDTO toDto(TaskRow row, List<DeveloperDTO> assignedDevelopers) {
+        if (row == null) return null;
+
+        TaskDTO dto = new TaskDTO();
+        dto.setId(row.id());
+        dto.setTitle(row.title());
+        dto.setDescription(row.description());
+        dto.setStatus(row.status() != null ? row.status().name() : null);
+        dto.setDueDate(row.dueDate());
+        dto.setProjectId(row.projectId());
+        dto.setProjectName(row.projectName());
+        dto.setAssignedDevelopers(assignedDevelopers);
+        return dto;
+    }
+
     public Task toEntity(CreateTaskDTO createTaskDTO) {
         if (createTaskDTO == null) return null;
 
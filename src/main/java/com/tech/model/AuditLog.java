@@ -5,6 +5,8 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
 
 @Document(collection = "audit_logs")
 @Data
@@ -18,8 +20,21 @@ public class AuditLog {
     private String actionType;
     private LocalDateTime timestamp;
     private String entityType;
+    private Long entityId;
     private String actor;
     private String username;
+    /** Entity state as a sub-document; absent on UPDATE events, which carry {@link #changes} instead. */
     private Object dataSnapshot;
+    /** Changed fields on UPDATE events, keyed by field name with {@code old}/{@code new} values. */
+    private Map<String, Object> changes;
+
+    // Filled in by AuditSealer once the event has been sealed; see AuditSeal
+    private String sealId;
+    private Integer leafIndex;
+    /** Chain hash of the preceding event, so this event's link can be checked on its own. */
+    private String prevHash;
+    private String chainHash;
+    /** Merkle sibling hashes from this event's leaf up to the seal root. */
+    private List<String> proof;
 }
 
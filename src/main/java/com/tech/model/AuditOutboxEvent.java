@@ -0,0 +1,28 @@
+package com.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "audit_outbox")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Same value as the AuditLog id, so a re-delivered event lands on the existing document
+    @Column(nullable = false, unique = true, length = 24)
+    private String eventId;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+}
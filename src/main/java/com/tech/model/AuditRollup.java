@@ -0,0 +1,29 @@
+package com.tech.model;
+
+import com.tech.audit.RollupGranularity;
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pre-aggregated count of audit events for one time bucket and one
+ * (actionType, actorType, username) combination. The id is derived from those
+ * fields so increments can be applied as blind upserts.
+ */
+@Document(collection = "audit_rollups")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditRollup {
+    @Id
+    private String id;
+    private RollupGranularity granularity;
+    private LocalDateTime bucketStart;
+    private String actionType;
+    private String actorType;
+    private String username;
+    private long count;
+}
@@ -0,0 +1,48 @@
+package com.tech.model;
+
+import lombok.*;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Signed Merkle root over one batch of hash-chained audit events. Seals form a
+ * chain of their own through {@link #prevRoot}, so removing or reordering a seal
+ * is as detectable as altering an event.
+ */
+@Document(collection = "audit_seals")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditSeal {
+
+    public enum Status {
+        /** Seal stored, events not yet stamped with their proofs. */
+        PENDING,
+        COMPLETE,
+        /** Events changed or vanished before they could be stamped; the seal is kept as evidence. */
+        ABANDONED
+    }
+
+    @Id
+    private String id;
+    private long sequence;
+    private Status status;
+    private String prevRoot;
+    private String root;
+    /** Chain hash the first event in this batch links to: the previous seal's {@link #lastLeafHash}. */
+    private String prevLeafHash;
+    private String lastLeafHash;
+    private int leafCount;
+    /** Event ids in leaf order. */
+    private List<String> eventIds;
+    private LocalDateTime fromTimestamp;
+    private LocalDateTime toTimestamp;
+    private LocalDateTime sealedAt;
+    private String algorithm;
+    private String publicKey;
+    private String signature;
+}
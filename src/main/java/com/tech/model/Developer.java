@@ -9,14 +9,17 @@ import java.util.List;
 @Entity
 @Table(name = "developers")
 @Data
-@EqualsAndHashCode(exclude = "tasks")
+// Identity only: developers sit in Task.assignedDevelopers hash sets, so editing a loaded developer must not move it
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @ToString(exclude = "tasks")
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 public class Developer {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "developers_seq")
+    @SequenceGenerator(name = "developers_seq", sequenceName = "developers_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
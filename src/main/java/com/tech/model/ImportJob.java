@@ -0,0 +1,69 @@
+package com.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * A server-side import of one uploaded file. The counters and {@code checkpointRow}
+ * are updated in the same transaction as each chunk of rows, so after a failure
+ * or restart the job resumes right after the last committed chunk.
+ */
+@Entity
+@Table(name = "import_jobs")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJob {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Format format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    private String fileName;
+
+    // Where the upload is spooled until the job completes
+    @Column(nullable = false)
+    private String storedPath;
+
+    private String createdBy;
+
+    // Data rows processed so far, whether imported or rejected; the next run skips this many
+    private long checkpointRow;
+    private long rowsImported;
+    private long rowsFailed;
+
+    @Column(length = 1000)
+    private String error;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    public enum EntityType {
+        PROJECT, DEVELOPER, TASK
+    }
+
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,26 @@
+package com.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+@Entity
+@Table(name = "import_row_errors", indexes = @Index(name = "import_row_errors_job_row", columnList = "job_id, row_num"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "job_id", nullable = false)
+    private Long jobId;
+
+    // 1-based data row (CSV header and blank NDJSON lines not counted)
+    @Column(name = "row_num", nullable = false)
+    private long rowNumber;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+}
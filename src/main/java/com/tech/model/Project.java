@@ -17,7 +17,8 @@ import java.time.LocalDate;
 //@AllArgsConstructor
 public class Project {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -33,6 +34,11 @@ public class Project {
     @Enumerated(EnumType.STRING)
     private ProjectStatus status = ProjectStatus.ACTIVE;
 
+    // Identifier of the project in the tracker it was imported from; imported tasks can refer to it
+    @Size(max = 100)
+    @Column(unique = true, length = 100)
+    private String externalKey;
+
     @OneToMany(mappedBy = "project", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<Task> tasks;
 
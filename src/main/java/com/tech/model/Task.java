@@ -5,7 +5,8 @@ import jakarta.validation.constraints.*;
 import lombok.*;
 
 import java.time.LocalDate;
-import java.util.List;
+import java.util.HashSet;
+import java.util.Set;
 
 @Entity
 @Table(name = "tasks")
@@ -14,7 +15,9 @@ import java.util.List;
 @ToString(exclude = {"project", "assignedDevelopers"})
 public class Task {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // pooled sequence: ids are handed out 50 at a time, so inserts can go out as JDBC batches
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
     private Long id;
 
     @NotBlank
@@ -34,13 +37,17 @@ public class Task {
     @NotNull
     private Project project;
 
+    // A set, not a bag: Hibernate writes one join row per added or removed developer
+    // instead of deleting and re-inserting the task's whole assignee list, and gives
+    // task_developers a primary key on (task_id, developer_id), the conflict target
+    // of the assignment upserts in TaskRepository
     @ManyToMany
     @JoinTable(
             name = "task_developers",
             joinColumns = @JoinColumn(name = "task_id"),
             inverseJoinColumns = @JoinColumn(name = "developer_id")
     )
-    private List<Developer> assignedDevelopers;
+    private Set<Developer> assignedDevelopers = new HashSet<>();
 
     public enum TaskStatus {
         TODO, IN_PROGRESS, REVIEW, DONE
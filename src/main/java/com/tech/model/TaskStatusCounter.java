@@ -0,0 +1,38 @@
+package com.tech.model;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.io.Serializable;
+
+/**
+ * Number of tasks per (project, status), maintained by delta upserts in the
+ * same transaction as each task write and repaired by a periodic recount.
+ */
+@Entity
+@Table(name = "task_status_counters")
+@IdClass(TaskStatusCounter.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusCounter {
+    @Id
+    @Column(name = "project_id")
+    private Long projectId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private Task.TaskStatus status;
+
+    @Column(name = "task_count", nullable = false)
+    private long taskCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long projectId;
+        private Task.TaskStatus status;
+    }
+}
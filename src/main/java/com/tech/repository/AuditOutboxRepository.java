@@ -0,0 +1,17 @@
+package com.tech.repository;
+
+import com.tech.model.AuditOutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AuditOutboxRepository extends JpaRepository<AuditOutboxEvent, Long> {
+
+    // Oldest pending events; rows claimed by another relay instance are skipped rather than waited on
+    @Query(value = "SELECT * FROM audit_outbox ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<AuditOutboxEvent> lockNextBatch(@Param("limit") int limit);
+}
@@ -1,13 +1,20 @@
 package com.tech.repository;
 
 import com.tech.model.Developer;
+import com.tech.repository.projection.KeyIdRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,6 +27,10 @@ public interface DeveloperRepository extends JpaRepository<Developer, Long> {
     // Check if email exists
     boolean existsByEmail(String email);
 
+    // Batched findByEmail for imports: the ids of whichever of these emails exist
+    @Query("SELECT new com.tech.repository.projection.KeyIdRow(d.email, d.id) FROM Developer d WHERE d.email IN :emails")
+    List<KeyIdRow> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+
     // Find developers by name containing (case insensitive)
     Page<Developer> findByNameContainingIgnoreCase(String name, Pageable pageable);
 
@@ -38,6 +49,9 @@ public interface DeveloperRepository extends JpaRepository<Developer, Long> {
     @Query("SELECT DISTINCT d FROM Developer d JOIN d.tasks t WHERE t.status IN ('TODO', 'IN_PROGRESS')")
     Page<Developer> findDevelopersWithActiveTasks(Pageable pageable);
 
+    @Query("SELECT d.id FROM Developer d WHERE d.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
     // Count tasks for a developer
     @Query("SELECT COUNT(t) FROM Task t JOIN t.assignedDevelopers d WHERE d.id = :developerId")
     long countTasksByDeveloperId(@Param("developerId") Long developerId);
@@ -45,4 +59,10 @@ public interface DeveloperRepository extends JpaRepository<Developer, Long> {
     // Find developers with no assigned tasks
     @Query("SELECT d FROM Developer d WHERE d.tasks IS EMPTY")
     Page<Developer> findDevelopersWithoutTasks(Pageable pageable);
+
+    // Page without the COUNT query; see CountMode
+    Slice<Developer> findAllBy(Pageable pageable);
+
+    // Keyset scrolling: each page seeks past the previous one's last (sort key, id)
+    Window<Developer> findAllBy(ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,14 @@
+package com.tech.repository;
+
+import com.tech.model.ImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ImportJobRepository extends JpaRepository<ImportJob, Long> {
+
+    List<ImportJob> findByStatusInOrderById(Collection<ImportJob.Status> statuses);
+}
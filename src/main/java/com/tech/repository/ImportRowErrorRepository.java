@@ -0,0 +1,15 @@
+package com.tech.repository;
+
+import com.tech.model.ImportRowError;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, Long> {
+
+    // Keyset page of a job's row errors, in row order
+    List<ImportRowError> findByJobIdAndRowNumberGreaterThanOrderByRowNumber(Long jobId, long afterRow, Limit limit);
+}
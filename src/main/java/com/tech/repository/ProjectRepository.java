@@ -1,17 +1,21 @@
 package com.tech.repository;
 
 import com.tech.model.Project;
-import org.springframework.data.jpa.repository.JpaRepository;
-
-import com.tech.model.Project;
+import com.tech.repository.projection.KeyIdRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,6 +36,28 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
 
     long countByStatus(Project.ProjectStatus status);
 
+    @Query("SELECT p.id FROM Project p ORDER BY p.id")
+    List<Long> findAllIds();
+
+    // Import reference lookups, one query per batch of keys
+    @Query("SELECT new com.tech.repository.projection.KeyIdRow(p.externalKey, p.id) FROM Project p WHERE p.externalKey IN :keys")
+    List<KeyIdRow> findIdsByExternalKeyIn(@Param("keys") Collection<String> keys);
+
+    @Query("SELECT new com.tech.repository.projection.KeyIdRow(p.name, p.id) FROM Project p WHERE p.name IN :names")
+    List<KeyIdRow> findIdsByNameIn(@Param("names") Collection<String> names);
+
     @Query("SELECT p FROM Project p WHERE p.deadline < CURRENT_DATE AND p.status NOT IN ('COMPLETED', 'CANCELLED')")
     Page<Project> findOverdueProjects(Pageable pageable);
+
+    // Page without the COUNT query; see CountMode
+    Slice<Project> findAllBy(Pageable pageable);
+
+    // Keyset scrolling: each page seeks past the previous one's last (sort key, id)
+    Window<Project> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Project> findByStatus(Project.ProjectStatus status, ScrollPosition position, Sort sort, Limit limit);
+
+    // Keyset equivalent of findOverdueProjects
+    Window<Project> findByDeadlineBeforeAndStatusNotIn(LocalDate date, Collection<Project.ProjectStatus> statuses,
+                                                       ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,18 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+import com.tech.repository.projection.BoardRow;
+
+import java.util.List;
+import java.util.Map;
+
+public interface TaskBoardRepository {
+
+    /**
+     * The board of one project in a single statement: for each requested status
+     * column, up to {@code perColumn} tasks with an id above that column's
+     * {@code afterIds} value (0 for the first page), in id order, each carrying
+     * the column's full total.
+     */
+    List<BoardRow> findBoardRows(Long projectId, Map<Task.TaskStatus, Long> afterIds, int perColumn);
+}
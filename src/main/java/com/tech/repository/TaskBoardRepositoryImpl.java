@@ -0,0 +1,62 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+import com.tech.repository.projection.BoardRow;
+import com.tech.repository.projection.TaskRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class TaskBoardRepositoryImpl implements TaskBoardRepository {
+
+    // Numbers each column's rows past its cursor separately from the rows before it (partition on the seek
+    // predicate), while the column total still counts the whole column
+    private static final String BOARD_SQL = """
+            SELECT r.id, r.title, r.description, r.status, r.due_date, r.project_id, r.project_name, r.column_total
+            FROM (
+                SELECT t.id, t.title, t.description, t.status, t.due_date, t.project_id, p.name AS project_name,
+                       c.after_id,
+                       count(*) OVER (PARTITION BY t.status) AS column_total,
+                       row_number() OVER (PARTITION BY t.status, t.id > c.after_id ORDER BY t.id) AS column_position
+                FROM tasks t
+                JOIN projects p ON p.id = t.project_id
+                JOIN (VALUES %s) AS c(status, after_id) ON c.status = t.status
+                WHERE t.project_id = ?
+            ) r
+            WHERE r.id > r.after_id AND r.column_position <= ?
+            ORDER BY r.status, r.id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<BoardRow> findBoardRows(Long projectId, Map<Task.TaskStatus, Long> afterIds, int perColumn) {
+        if (afterIds.isEmpty()) {
+            return List.of();
+        }
+        StringJoiner columns = new StringJoiner(", ");
+        List<Object> args = new ArrayList<>(afterIds.size() * 2 + 2);
+        afterIds.forEach((status, afterId) -> {
+            columns.add("(CAST(? AS varchar), CAST(? AS bigint))");
+            args.add(status.name());
+            args.add(afterId);
+        });
+        args.add(projectId);
+        args.add(perColumn);
+        return jdbcTemplate.query(BOARD_SQL.formatted(columns), (rs, rowNum) -> new BoardRow(
+                new TaskRow(rs.getLong("id"),
+                        rs.getString("title"),
+                        rs.getString("description"),
+                        Task.TaskStatus.valueOf(rs.getString("status")),
+                        rs.getObject("due_date", LocalDate.class),
+                        rs.getLong("project_id"),
+                        rs.getString("project_name")),
+                rs.getLong("column_total")), args.toArray());
+    }
+}
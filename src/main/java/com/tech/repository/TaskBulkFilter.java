@@ -0,0 +1,28 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+/**
+ * Selects the tasks of a filtered bulk operation. Empty sets and null dates mean
+ * "any"; {@code dueFrom} and {@code dueTo} are inclusive, and either one excludes
+ * tasks without a due date.
+ */
+public record TaskBulkFilter(Set<Long> projectIds,
+                             Set<Task.TaskStatus> statuses,
+                             Set<Long> assigneeIds,
+                             LocalDate dueFrom,
+                             LocalDate dueTo) {
+
+    public TaskBulkFilter {
+        projectIds = projectIds == null ? Set.of() : Set.copyOf(projectIds);
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        assigneeIds = assigneeIds == null ? Set.of() : Set.copyOf(assigneeIds);
+    }
+
+    public boolean matchesEverything() {
+        return projectIds.isEmpty() && statuses.isEmpty() && assigneeIds.isEmpty() && dueFrom == null && dueTo == null;
+    }
+}
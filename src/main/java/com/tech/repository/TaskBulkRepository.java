@@ -0,0 +1,62 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskStateRow;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Set-based statements behind the filtered bulk task operations. Each call
+ * works on one chunk of ids and must run inside the chunk's transaction.
+ */
+public interface TaskBulkRepository {
+
+    /**
+     * Up to {@code limit} tasks matching {@code filter} with an id above
+     * {@code afterId}, in id order, locked until the transaction ends.
+     */
+    List<TaskStateRow> lockNextChunk(TaskBulkFilter filter, long afterId, int limit);
+
+    int updateStatus(Collection<Long> taskIds, Task.TaskStatus status);
+
+    /**
+     * Moves the due dates by {@code days} and returns the ids of the tasks that
+     * had one; tasks without a due date are left as they are.
+     */
+    List<Long> shiftDueDates(Collection<Long> taskIds, int days);
+
+    List<Long> findAssigneeIds(Collection<Long> taskIds);
+
+    /**
+     * The assignees of every task in {@code taskIds} as (developer id, task id) pairs.
+     */
+    List<IdPairRow> findAssignments(Collection<Long> taskIds);
+
+    /**
+     * Deletes the given (developer id, task id) pairs in one statement.
+     */
+    void removeAssignments(Collection<IdPairRow> pairs);
+
+    /**
+     * Inserts the given (developer id, task id) pairs in one statement, skipping
+     * pairs already assigned. Both ids must exist.
+     */
+    void addAssignments(Collection<IdPairRow> pairs);
+
+    /**
+     * Replaces the assignees of every task in {@code taskIds} with those of
+     * {@code developerIds} that exist.
+     */
+    void replaceAssignees(Collection<Long> taskIds, Collection<Long> developerIds);
+
+    /**
+     * Assigns every existing developer of {@code developerIds} to every existing
+     * task of {@code taskIds} in one statement, skipping pairs already assigned,
+     * and returns the pairs it inserted as (developer id, task id).
+     */
+    List<IdPairRow> assignAll(Collection<Long> taskIds, Collection<Long> developerIds);
+
+    int deleteTasks(Collection<Long> taskIds);
+}
@@ -0,0 +1,154 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskStateRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class TaskBulkRepositoryImpl implements TaskBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<TaskStateRow> lockNextChunk(TaskBulkFilter filter, long afterId, int limit) {
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        conditions.add("t.id > ?");
+        args.add(afterId);
+        if (!filter.projectIds().isEmpty()) {
+            conditions.add("t.project_id IN " + placeholders(filter.projectIds(), args));
+        }
+        if (!filter.statuses().isEmpty()) {
+            conditions.add("t.status IN " + placeholders(filter.statuses().stream().map(Task.TaskStatus::name).toList(), args));
+        }
+        if (!filter.assigneeIds().isEmpty()) {
+            conditions.add("EXISTS (SELECT 1 FROM task_developers a WHERE a.task_id = t.id AND a.developer_id IN "
+                    + placeholders(filter.assigneeIds(), args) + ")");
+        }
+        if (filter.dueFrom() != null) {
+            conditions.add("t.due_date >= ?");
+            args.add(Date.valueOf(filter.dueFrom()));
+        }
+        if (filter.dueTo() != null) {
+            conditions.add("t.due_date <= ?");
+            args.add(Date.valueOf(filter.dueTo()));
+        }
+        args.add(limit);
+        String sql = "SELECT t.id, t.project_id, t.status FROM tasks t WHERE " + String.join(" AND ", conditions)
+                + " ORDER BY t.id LIMIT ? FOR UPDATE";
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new TaskStateRow(rs.getLong("id"),
+                rs.getObject("project_id", Long.class), Task.TaskStatus.valueOf(rs.getString("status"))), args.toArray());
+    }
+
+    @Override
+    public int updateStatus(Collection<Long> taskIds, Task.TaskStatus status) {
+        List<Object> args = new ArrayList<>();
+        args.add(status.name());
+        String in = placeholders(taskIds, args);
+        return jdbcTemplate.update("UPDATE tasks SET status = ? WHERE id IN " + in, args.toArray());
+    }
+
+    @Override
+    public List<Long> shiftDueDates(Collection<Long> taskIds, int days) {
+        List<Object> args = new ArrayList<>();
+        args.add(days);
+        String in = placeholders(taskIds, args);
+        return jdbcTemplate.queryForList("UPDATE tasks SET due_date = due_date + CAST(? AS integer) "
+                + "WHERE due_date IS NOT NULL AND id IN " + in + " RETURNING id", Long.class, args.toArray());
+    }
+
+    @Override
+    public List<Long> findAssigneeIds(Collection<Long> taskIds) {
+        List<Object> args = new ArrayList<>();
+        String in = placeholders(taskIds, args);
+        return jdbcTemplate.queryForList("SELECT DISTINCT developer_id FROM task_developers WHERE task_id IN " + in,
+                Long.class, args.toArray());
+    }
+
+    @Override
+    public List<IdPairRow> findAssignments(Collection<Long> taskIds) {
+        List<Object> args = new ArrayList<>();
+        String in = placeholders(taskIds, args);
+        return jdbcTemplate.query("SELECT developer_id, task_id FROM task_developers WHERE task_id IN " + in,
+                (rs, rowNum) -> new IdPairRow(rs.getLong("developer_id"), rs.getLong("task_id")), args.toArray());
+    }
+
+    @Override
+    public void removeAssignments(Collection<IdPairRow> pairs) {
+        List<Object> args = new ArrayList<>();
+        jdbcTemplate.update("DELETE FROM task_developers WHERE (developer_id, task_id) IN (" + pairs(pairs, args) + ")", args.toArray());
+    }
+
+    @Override
+    public void addAssignments(Collection<IdPairRow> pairs) {
+        List<Object> args = new ArrayList<>();
+        jdbcTemplate.update("INSERT INTO task_developers (developer_id, task_id) VALUES " + pairs(pairs, args)
+                + " ON CONFLICT (task_id, developer_id) DO NOTHING", args.toArray());
+    }
+
+    @Override
+    public void replaceAssignees(Collection<Long> taskIds, Collection<Long> developerIds) {
+        List<Object> deleteArgs = new ArrayList<>();
+        jdbcTemplate.update("DELETE FROM task_developers WHERE task_id IN " + placeholders(taskIds, deleteArgs), deleteArgs.toArray());
+        if (developerIds.isEmpty()) {
+            return;
+        }
+        List<Object> insertArgs = new ArrayList<>();
+        String tasks = placeholders(taskIds, insertArgs);
+        String developers = placeholders(developerIds, insertArgs);
+        jdbcTemplate.update("INSERT INTO task_developers (task_id, developer_id) SELECT t.id, d.id FROM tasks t CROSS JOIN developers d "
+                + "WHERE t.id IN " + tasks + " AND d.id IN " + developers
+                + " ON CONFLICT (task_id, developer_id) DO NOTHING", insertArgs.toArray());
+    }
+
+    @Override
+    public List<IdPairRow> assignAll(Collection<Long> taskIds, Collection<Long> developerIds) {
+        List<Object> args = new ArrayList<>();
+        String tasks = placeholders(taskIds, args);
+        String developers = placeholders(developerIds, args);
+        return jdbcTemplate.query("INSERT INTO task_developers (task_id, developer_id) SELECT t.id, d.id FROM tasks t CROSS JOIN developers d "
+                        + "WHERE t.id IN " + tasks + " AND d.id IN " + developers
+                        // a fixed insert order, so concurrent batches that overlap wait on each other instead of deadlocking
+                        + " ORDER BY t.id, d.id ON CONFLICT (task_id, developer_id) DO NOTHING RETURNING developer_id, task_id",
+                (rs, rowNum) -> new IdPairRow(rs.getLong("developer_id"), rs.getLong("task_id")), args.toArray());
+    }
+
+    @Override
+    public int deleteTasks(Collection<Long> taskIds) {
+        List<Object> args = new ArrayList<>();
+        String in = placeholders(taskIds, args);
+        jdbcTemplate.update("DELETE FROM task_developers WHERE task_id IN " + in, args.toArray());
+        return jdbcTemplate.update("DELETE FROM tasks WHERE id IN " + in, args.toArray());
+    }
+
+    // in (task, developer) order, so concurrent chunks that overlap wait on each other instead of deadlocking
+    private static String pairs(Collection<IdPairRow> pairs, List<Object> args) {
+        StringJoiner joiner = new StringJoiner(", ");
+        pairs.stream()
+                .sorted(Comparator.comparing(IdPairRow::taskId).thenComparing(IdPairRow::ownerId))
+                .forEach(pair -> {
+                    joiner.add("(?, ?)");
+                    args.add(pair.ownerId());
+                    args.add(pair.taskId());
+                });
+        return joiner.toString();
+    }
+
+    private static String placeholders(Collection<?> values, List<Object> args) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        for (Object value : values) {
+            joiner.add("?");
+            args.add(value);
+        }
+        return joiner.toString();
+    }
+}
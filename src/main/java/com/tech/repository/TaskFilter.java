@@ -0,0 +1,95 @@
+package com.tech.repository;
+
+import com.tech.model.Developer;
+import com.tech.model.Task;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Filters of the task search. Empty sets and a blank text mean "any". The same
+ * filter is applied to the result page (as a {@link Specification}) and to the
+ * facet counts (as SQL, in {@link TaskSearchRepositoryImpl}); keep the two in step.
+ *
+ * @param today the date the due-date buckets are computed from
+ */
+public record TaskFilter(Set<Task.TaskStatus> statuses,
+                         Set<Long> projectIds,
+                         Set<Long> assigneeIds,
+                         Set<DueBucket> dueBuckets,
+                         String text,
+                         LocalDate today) {
+
+    /**
+     * Due-date buckets; every task falls in exactly one. {@code PAST} holds DONE
+     * tasks whose due date has passed, which are not overdue.
+     */
+    public enum DueBucket {
+        OVERDUE, THIS_WEEK, LATER, PAST, NONE
+    }
+
+    public static final int THIS_WEEK_DAYS = 7;
+
+    public TaskFilter {
+        statuses = statuses == null ? Set.of() : Set.copyOf(statuses);
+        projectIds = projectIds == null ? Set.of() : Set.copyOf(projectIds);
+        assigneeIds = assigneeIds == null ? Set.of() : Set.copyOf(assigneeIds);
+        dueBuckets = dueBuckets == null ? Set.of() : Set.copyOf(dueBuckets);
+        text = text == null || text.isBlank() ? null : text.trim();
+    }
+
+    /**
+     * {@code text} as a case-insensitive LIKE pattern, with LIKE wildcards escaped by {@code \}.
+     */
+    public String textPattern() {
+        String escaped = text.toLowerCase().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    public Specification<Task> toSpecification() {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (!statuses.isEmpty()) {
+                predicates.add(root.get("status").in(statuses));
+            }
+            if (!projectIds.isEmpty()) {
+                predicates.add(root.get("project").get("id").in(projectIds));
+            }
+            if (!assigneeIds.isEmpty()) {
+                // a subquery rather than a join, so a task with several matching assignees is listed once
+                Subquery<Long> assigned = query.subquery(Long.class);
+                Root<Task> task = assigned.from(Task.class);
+                Join<Task, Developer> developer = task.join("assignedDevelopers");
+                assigned.select(task.get("id")).where(developer.get("id").in(assigneeIds));
+                predicates.add(root.get("id").in(assigned));
+            }
+            if (!dueBuckets.isEmpty()) {
+                List<Predicate> buckets = new ArrayList<>();
+                for (DueBucket bucket : dueBuckets) {
+                    buckets.add(switch (bucket) {
+                        case NONE -> cb.isNull(root.get("dueDate"));
+                        case OVERDUE -> cb.and(cb.lessThan(root.get("dueDate"), today),
+                                cb.notEqual(root.get("status"), Task.TaskStatus.DONE));
+                        case PAST -> cb.and(cb.lessThan(root.get("dueDate"), today),
+                                cb.equal(root.get("status"), Task.TaskStatus.DONE));
+                        case THIS_WEEK -> cb.and(cb.greaterThanOrEqualTo(root.get("dueDate"), today),
+                                cb.lessThan(root.get("dueDate"), today.plusDays(THIS_WEEK_DAYS)));
+                        case LATER -> cb.greaterThanOrEqualTo(root.get("dueDate"), today.plusDays(THIS_WEEK_DAYS));
+                    });
+                }
+                predicates.add(cb.or(buckets.toArray(Predicate[]::new)));
+            }
+            if (text != null) {
+                predicates.add(cb.like(cb.lower(root.get("title")), textPattern(), '\\'));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,18 +1,34 @@
 package com.tech.repository;
 
 import com.tech.model.Task;
+import com.tech.repository.projection.AssigneeRow;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.StatusCountRow;
+import com.tech.repository.projection.TaskRow;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, JpaSpecificationExecutor<Task>,
+        TaskBoardRepository, TaskSearchRepository, TaskBulkRepository {
 
     // Find tasks by project id
     Page<Task> findByProjectId(Long projectId, Pageable pageable);
@@ -61,7 +77,109 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     @Query("SELECT new map(t.status as status, COUNT(t) as count) FROM Task t WHERE t.project.id = :projectId GROUP BY t.status")
     List<Object> getTaskStatisticsByProject(@Param("projectId") Long projectId);
 
+    // Full recount behind the counter reconciliation; statistics reads use task_status_counters
+    @Query("SELECT new com.tech.repository.projection.StatusCountRow(t.project.id, t.status, COUNT(t)) " +
+            "FROM Task t WHERE t.project.id = :projectId GROUP BY t.project.id, t.status")
+    List<StatusCountRow> countByStatusForProject(@Param("projectId") Long projectId);
+
     // Find tasks by project status
     @Query("SELECT t FROM Task t WHERE t.project.status = :projectStatus")
     Page<Task> findByProjectStatus(@Param("projectStatus") com.tech.model.Project.ProjectStatus projectStatus, Pageable pageable);
+
+    // Read model: task rows with their project's id and name, without loading entities
+    String TASK_ROW = "SELECT new com.tech.repository.projection.TaskRow(t.id, t.title, t.description, t.status, t.dueDate, p.id, p.name) ";
+
+    @Query(value = TASK_ROW + "FROM Task t LEFT JOIN t.project p",
+            countQuery = "SELECT COUNT(t) FROM Task t")
+    Page<TaskRow> findTaskRows(Pageable pageable);
+
+    // Slice variants run no COUNT query; see CountMode
+    @Query(TASK_ROW + "FROM Task t LEFT JOIN t.project p")
+    Slice<TaskRow> sliceTaskRows(Pageable pageable);
+
+    @Query(TASK_ROW + "FROM Task t LEFT JOIN t.project p WHERE p.id = :projectId")
+    Slice<TaskRow> sliceTaskRowsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(TASK_ROW + "FROM Task t LEFT JOIN t.project p JOIN t.assignedDevelopers d WHERE d.id = :developerId")
+    Slice<TaskRow> sliceTaskRowsByDeveloperId(@Param("developerId") Long developerId, Pageable pageable);
+
+    long countByProjectId(Long projectId);
+
+    long countByAssignedDevelopersId(Long developerId);
+
+    @Query(TASK_ROW + "FROM Task t LEFT JOIN t.project p WHERE t.id IN :ids")
+    List<TaskRow> findTaskRowsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(TASK_ROW + "FROM Task t LEFT JOIN t.project p WHERE t.id = :id")
+    Optional<TaskRow> findTaskRowById(@Param("id") Long id);
+
+    @Query(value = TASK_ROW + "FROM Task t LEFT JOIN t.project p WHERE p.id = :projectId",
+            countQuery = "SELECT COUNT(t) FROM Task t WHERE t.project.id = :projectId")
+    Page<TaskRow> findTaskRowsByProjectId(@Param("projectId") Long projectId, Pageable pageable);
+
+    @Query(value = TASK_ROW + "FROM Task t LEFT JOIN t.project p JOIN t.assignedDevelopers d WHERE d.id = :developerId",
+            countQuery = "SELECT COUNT(t) FROM Task t JOIN t.assignedDevelopers d WHERE d.id = :developerId")
+    Page<TaskRow> findTaskRowsByDeveloperId(@Param("developerId") Long developerId, Pageable pageable);
+
+    // Read model: assignees of a page of tasks in one query
+    @Query("SELECT new com.tech.repository.projection.AssigneeRow(t.id, d.id, d.name, d.email, d.skills) " +
+            "FROM Task t JOIN t.assignedDevelopers d WHERE t.id IN :taskIds ORDER BY t.id, d.id")
+    List<AssigneeRow> findAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    // Read model: task ids of a page of developers in one query
+    @Query("SELECT new com.tech.repository.projection.IdPairRow(d.id, t.id) " +
+            "FROM Task t JOIN t.assignedDevelopers d WHERE d.id IN :developerIds ORDER BY t.id")
+    List<IdPairRow> findTaskIdsByDeveloperIds(@Param("developerIds") Collection<Long> developerIds);
+
+    // Read model: task ids of a page of projects in one query
+    @Query("SELECT new com.tech.repository.projection.IdPairRow(t.project.id, t.id) " +
+            "FROM Task t WHERE t.project.id IN :projectIds ORDER BY t.id")
+    List<IdPairRow> findTaskIdsByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    // Single assignee changes, written straight to the join table without loading the task's assignees
+
+    // Upsert on the (task_id, developer_id) primary key, so concurrent assigns of the same pair insert one row and neither fails;
+    // 0 when the task or developer does not exist, or the developer is already assigned
+    @Modifying
+    @Query(value = "INSERT INTO task_developers (task_id, developer_id) SELECT t.id, d.id FROM tasks t, developers d " +
+            "WHERE t.id = :taskId AND d.id = :developerId " +
+            "ON CONFLICT (task_id, developer_id) DO NOTHING",
+            nativeQuery = true)
+    int addAssignee(@Param("taskId") Long taskId, @Param("developerId") Long developerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_developers WHERE task_id = :taskId AND developer_id = :developerId", nativeQuery = true)
+    int removeAssignee(@Param("taskId") Long taskId, @Param("developerId") Long developerId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_developers WHERE task_id = :taskId AND developer_id IN (:developerIds)", nativeQuery = true)
+    int removeAssignees(@Param("taskId") Long taskId, @Param("developerIds") Collection<Long> developerIds);
+
+    @Query("SELECT t.id FROM Task t WHERE t.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT COUNT(t) > 0 FROM Task t JOIN t.assignedDevelopers d WHERE t.id = :taskId AND d.id = :developerId")
+    boolean isAssigned(@Param("taskId") Long taskId, @Param("developerId") Long developerId);
+
+    // Task search (TaskFilter); project is fetched in the same query
+    @Override
+    @EntityGraph(attributePaths = "project")
+    Page<Task> findAll(Specification<Task> spec, Pageable pageable);
+
+    // Keyset scrolling: each page seeks past the previous one's last (sort key, id); project is fetched in the same query
+    @EntityGraph(attributePaths = "project")
+    Window<Task> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "project")
+    Window<Task> findByProjectId(Long projectId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "project")
+    Window<Task> findByAssignedDevelopersId(Long developerId, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "project")
+    Window<Task> findByStatus(Task.TaskStatus status, ScrollPosition position, Sort sort, Limit limit);
+
+    // Keyset equivalent of findOverdueTasks
+    @EntityGraph(attributePaths = "project")
+    Window<Task> findByDueDateBeforeAndStatusNot(LocalDate date, Task.TaskStatus status, ScrollPosition position, Sort sort, Limit limit);
 }
@@ -0,0 +1,19 @@
+package com.tech.repository;
+
+import com.tech.repository.projection.FacetCountRow;
+
+import java.util.List;
+
+public interface TaskSearchRepository {
+
+    String STATUS_FACET = "status";
+    String PROJECT_FACET = "project";
+    String ASSIGNEE_FACET = "assignee";
+    String DUE_DATE_FACET = "dueDate";
+
+    /**
+     * Task counts per status, project, assignee and due-date bucket for every
+     * task matching {@code filter}, from one GROUPING SETS query.
+     */
+    List<FacetCountRow> findFacetCounts(TaskFilter filter);
+}
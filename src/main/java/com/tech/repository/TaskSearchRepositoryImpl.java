@@ -0,0 +1,88 @@
+package com.tech.repository;
+
+import com.tech.model.Task;
+import com.tech.repository.projection.FacetCountRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+
+@RequiredArgsConstructor
+public class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+    // Mirrors TaskFilter.DueBucket; takes (today, today + THIS_WEEK_DAYS)
+    private static final String DUE_BUCKET = "CASE WHEN t.due_date IS NULL THEN 'NONE' " +
+            "WHEN t.due_date < ? THEN CASE WHEN t.status = 'DONE' THEN 'PAST' ELSE 'OVERDUE' END " +
+            "WHEN t.due_date < ? THEN 'THIS_WEEK' ELSE 'LATER' END";
+
+    // The assignee join repeats a task once per assignee, hence count(DISTINCT id) in every grouping set
+    private static final String FACETS_SQL = """
+            SELECT CASE WHEN GROUPING(f.status) = 0 THEN '%s'
+                        WHEN GROUPING(f.project_id) = 0 THEN '%s'
+                        WHEN GROUPING(f.developer_id) = 0 THEN '%s'
+                        ELSE '%s' END AS facet,
+                   COALESCE(f.status, CAST(f.project_id AS varchar), CAST(f.developer_id AS varchar), f.due_bucket) AS facet_value,
+                   count(DISTINCT f.id) AS task_count
+            FROM (
+                SELECT t.id, t.status, t.project_id, td.developer_id, %s AS due_bucket
+                FROM tasks t
+                LEFT JOIN task_developers td ON td.task_id = t.id
+                WHERE %s
+            ) f
+            GROUP BY GROUPING SETS ((f.status), (f.project_id), (f.developer_id), (f.due_bucket))
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<FacetCountRow> findFacetCounts(TaskFilter filter) {
+        List<Object> args = new ArrayList<>();
+        String dueBucket = dueBucket(filter, args);
+        String where = where(filter, args);
+        String sql = FACETS_SQL.formatted(STATUS_FACET, PROJECT_FACET, ASSIGNEE_FACET, DUE_DATE_FACET, dueBucket, where);
+        return jdbcTemplate.query(sql, (rs, rowNum) ->
+                new FacetCountRow(rs.getString("facet"), rs.getString("facet_value"), rs.getLong("task_count")), args.toArray());
+    }
+
+    private static String dueBucket(TaskFilter filter, List<Object> args) {
+        args.add(Date.valueOf(filter.today()));
+        args.add(Date.valueOf(filter.today().plusDays(TaskFilter.THIS_WEEK_DAYS)));
+        return DUE_BUCKET;
+    }
+
+    private static String where(TaskFilter filter, List<Object> args) {
+        List<String> conditions = new ArrayList<>();
+        if (!filter.statuses().isEmpty()) {
+            conditions.add("t.status IN " + placeholders(filter.statuses().stream().map(Task.TaskStatus::name).toList(), args));
+        }
+        if (!filter.projectIds().isEmpty()) {
+            conditions.add("t.project_id IN " + placeholders(filter.projectIds(), args));
+        }
+        if (!filter.assigneeIds().isEmpty()) {
+            conditions.add("EXISTS (SELECT 1 FROM task_developers a WHERE a.task_id = t.id AND a.developer_id IN "
+                    + placeholders(filter.assigneeIds(), args) + ")");
+        }
+        if (!filter.dueBuckets().isEmpty()) {
+            String bucket = dueBucket(filter, args);
+            conditions.add("(" + bucket + ") IN " + placeholders(filter.dueBuckets().stream().map(Enum::name).toList(), args));
+        }
+        if (filter.text() != null) {
+            conditions.add("lower(t.title) LIKE ? ESCAPE '\\'");
+            args.add(filter.textPattern());
+        }
+        return conditions.isEmpty() ? "TRUE" : String.join(" AND ", conditions);
+    }
+
+    private static String placeholders(Collection<?> values, List<Object> args) {
+        StringJoiner joiner = new StringJoiner(", ", "(", ")");
+        for (Object value : values) {
+            joiner.add("?");
+            args.add(value);
+        }
+        return joiner.toString();
+    }
+}
@@ -0,0 +1,50 @@
+package com.tech.repository;
+
+import com.tech.model.TaskStatusCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TaskStatusCounterRepository extends JpaRepository<TaskStatusCounter, TaskStatusCounter.Key> {
+
+    // Range scan on the (project_id, status) primary key
+    List<TaskStatusCounter> findByProjectIdIn(Collection<Long> projectIds);
+
+    List<TaskStatusCounter> findByProjectId(Long projectId);
+
+    // Takes the project's counter lock in shared mode (held to commit) so a running recount
+    // of that project finishes before, or starts after, this delta
+    @Modifying
+    @Query(value = "WITH project_lock AS (SELECT pg_advisory_xact_lock_shared(:lockClass, :lockKey)) " +
+            "INSERT INTO task_status_counters (project_id, status, task_count) " +
+            "SELECT :projectId, :status, :delta FROM project_lock " +
+            "ON CONFLICT (project_id, status) DO UPDATE SET task_count = task_status_counters.task_count + EXCLUDED.task_count",
+            nativeQuery = true)
+    void addDelta(@Param("lockClass") int lockClass, @Param("lockKey") int lockKey,
+                  @Param("projectId") Long projectId, @Param("status") String status, @Param("delta") long delta);
+
+    // Waits for in-flight deltas on the project to commit and holds new ones off until this transaction ends
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(:lockClass, :lockKey)) project_lock", nativeQuery = true)
+    long lockExclusive(@Param("lockClass") int lockClass, @Param("lockKey") int lockKey);
+
+    @Modifying
+    @Query(value = "INSERT INTO task_status_counters (project_id, status, task_count) VALUES (:projectId, :status, :count) " +
+            "ON CONFLICT (project_id, status) DO UPDATE SET task_count = EXCLUDED.task_count",
+            nativeQuery = true)
+    void setCount(@Param("projectId") Long projectId, @Param("status") String status, @Param("count") long count);
+
+    @Modifying
+    @Query("DELETE FROM TaskStatusCounter c WHERE c.projectId = :projectId")
+    void deleteByProjectId(@Param("projectId") Long projectId);
+
+    @Modifying
+    @Query(value = "DELETE FROM task_status_counters c WHERE NOT EXISTS (SELECT 1 FROM projects p WHERE p.id = c.project_id)",
+            nativeQuery = true)
+    int deleteOrphans();
+}
@@ -0,0 +1,11 @@
+package com.tech.repository.projection;
+
+/**
+ * One developer assigned to one task, as read from the {@code task_developers} join.
+ */
+public record AssigneeRow(Long taskId,
+                          Long developerId,
+                          String name,
+                          String email,
+                          String skills) {
+}
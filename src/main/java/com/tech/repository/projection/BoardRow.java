@@ -0,0 +1,8 @@
+package com.tech.repository.projection;
+
+/**
+ * One card of a project board together with the total number of tasks in its
+ * status column.
+ */
+public record BoardRow(TaskRow task, long columnTotal) {
+}
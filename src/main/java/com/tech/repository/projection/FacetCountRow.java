@@ -0,0 +1,8 @@
+package com.tech.repository.projection;
+
+/**
+ * One facet value and its number of matching tasks, e.g. ("status", "TODO", 12).
+ * {@code value} is null for tasks without one, such as unassigned tasks.
+ */
+public record FacetCountRow(String facet, String value, long count) {
+}
@@ -0,0 +1,8 @@
+package com.tech.repository.projection;
+
+/**
+ * An (owner, task) id pair used to fill the {@code taskIds} of a page of
+ * projects or developers with a single query.
+ */
+public record IdPairRow(Long ownerId, Long taskId) {
+}
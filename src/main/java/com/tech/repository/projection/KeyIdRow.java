@@ -0,0 +1,8 @@
+package com.tech.repository.projection;
+
+/**
+ * A natural key (project name or external key, developer email) and the id it
+ * resolves to, for batched reference lookups during imports.
+ */
+public record KeyIdRow(String key, Long id) {
+}
@@ -0,0 +1,10 @@
+package com.tech.repository.projection;
+
+import com.tech.model.Task;
+
+/**
+ * Number of a project's tasks in one status, recounted from the tasks table
+ * when the status counters are reconciled.
+ */
+public record StatusCountRow(Long projectId, Task.TaskStatus status, Long count) {
+}
@@ -0,0 +1,27 @@
+package com.tech.repository.projection;
+
+import com.tech.model.Task;
+
+import java.time.LocalDate;
+
+/**
+ * Scalar columns of a task plus its project's id and name, selected in one row
+ * so listings never initialise the lazy {@code project} association.
+ */
+public record TaskRow(Long id,
+                      String title,
+                      String description,
+                      Task.TaskStatus status,
+                      LocalDate dueDate,
+                      Long projectId,
+                      String projectName) {
+
+    /**
+     * Reads a task whose project was fetched with it; does not touch {@code assignedDevelopers}.
+     */
+    public static TaskRow of(Task task) {
+        return new TaskRow(task.getId(), task.getTitle(), task.getDescription(), task.getStatus(), task.getDueDate(),
+                task.getProject() != null ? task.getProject().getId() : null,
+                task.getProject() != null ? task.getProject().getName() : null);
+    }
+}
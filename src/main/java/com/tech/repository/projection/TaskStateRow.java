@@ -0,0 +1,10 @@
+package com.tech.repository.projection;
+
+import com.tech.model.Task;
+
+/**
+ * The columns a bulk operation needs to keep the status counters and the
+ * project-scoped caches right: a task's id, project and status.
+ */
+public record TaskStateRow(Long id, Long projectId, Task.TaskStatus status) {
+}
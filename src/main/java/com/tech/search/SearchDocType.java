@@ -0,0 +1,27 @@
+package com.tech.search;
+
+import java.util.List;
+
+/**
+ * Entity types held in the search index, with the fields each one is searched
+ * on. The first field is the hit's label and weighs more in the ranking.
+ */
+public enum SearchDocType {
+    TASK(SearchDocuments.TITLE, SearchDocuments.DESCRIPTION),
+    PROJECT(SearchDocuments.NAME, SearchDocuments.DESCRIPTION),
+    DEVELOPER(SearchDocuments.NAME, SearchDocuments.SKILLS);
+
+    private final List<String> fields;
+
+    SearchDocType(String... fields) {
+        this.fields = List.of(fields);
+    }
+
+    public String labelField() {
+        return fields.get(0);
+    }
+
+    public List<String> fields() {
+        return fields;
+    }
+}
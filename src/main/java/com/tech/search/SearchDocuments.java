@@ -0,0 +1,88 @@
+package com.tech.search;
+
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.FieldType;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexOptions;
+import org.apache.lucene.index.Term;
+
+/**
+ * Maps entities to index documents. Every document carries a unique {@code key}
+ * ("TASK:12") used to replace or delete it, its type and id; task documents also
+ * carry their project id so a project's tasks can be dropped with it.
+ */
+public final class SearchDocuments {
+
+    public static final String KEY = "key";
+    public static final String TYPE = "type";
+    public static final String ID = "id";
+    public static final String PROJECT_ID = "projectId";
+
+    public static final String TITLE = "title";
+    public static final String NAME = "name";
+    public static final String DESCRIPTION = "description";
+    public static final String SKILLS = "skills";
+
+    // Offsets in the postings let the highlighter find matches without re-analysing the stored text
+    private static final FieldType TEXT = new FieldType(TextField.TYPE_STORED);
+
+    static {
+        TEXT.setIndexOptions(IndexOptions.DOCS_AND_FREQS_AND_POSITIONS_AND_OFFSETS);
+        TEXT.freeze();
+    }
+
+    private SearchDocuments() {
+    }
+
+    public static Term key(SearchDocType type, Long id) {
+        return new Term(KEY, type.name() + ":" + id);
+    }
+
+    public static Term projectTasks(Long projectId) {
+        return new Term(PROJECT_ID, String.valueOf(projectId));
+    }
+
+    public static Document task(Task task) {
+        Document document = base(SearchDocType.TASK, task.getId());
+        if (task.getProject() != null) {
+            document.add(new StringField(PROJECT_ID, String.valueOf(task.getProject().getId()), Field.Store.NO));
+        }
+        text(document, TITLE, task.getTitle());
+        text(document, DESCRIPTION, task.getDescription());
+        return document;
+    }
+
+    public static Document project(Project project) {
+        Document document = base(SearchDocType.PROJECT, project.getId());
+        text(document, NAME, project.getName());
+        text(document, DESCRIPTION, project.getDescription());
+        return document;
+    }
+
+    public static Document developer(Developer developer) {
+        Document document = base(SearchDocType.DEVELOPER, developer.getId());
+        text(document, NAME, developer.getName());
+        text(document, SKILLS, developer.getSkills());
+        return document;
+    }
+
+    private static Document base(SearchDocType type, Long id) {
+        Document document = new Document();
+        document.add(new StringField(KEY, key(type, id).text(), Field.Store.NO));
+        document.add(new StringField(TYPE, type.name(), Field.Store.YES));
+        document.add(new StoredField(ID, id));
+        return document;
+    }
+
+    private static void text(Document document, String field, String value) {
+        if (value != null && !value.isBlank()) {
+            document.add(new Field(field, value, TEXT));
+        }
+    }
+}
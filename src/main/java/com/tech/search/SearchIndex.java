@@ -0,0 +1,157 @@
+package com.tech.search;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * The on-disk Lucene index behind {@code /api/v1/search}. One long-lived
+ * {@link IndexWriter} takes every change; searches run on searchers shared through
+ * a {@link SearcherManager}, which a background thread reopens near-real-time
+ * from the writer, so a change is searchable within {@code tech.search.max-stale-ms}
+ * without a disk commit. Commits happen every {@code tech.search.commit-interval-ms}
+ * and on shutdown; changes since the last commit are lost on a crash and restored
+ * by the startup rebuild.
+ */
+@Component
+public class SearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndex.class);
+
+    @FunctionalInterface
+    public interface SearchCall<T> {
+        T search(IndexSearcher searcher) throws IOException;
+    }
+
+    private final Path path;
+    private final double maxStaleSec;
+    private final double minStaleSec;
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private Directory directory;
+    private IndexWriter writer;
+    private SearcherManager searcherManager;
+    private ControlledRealTimeReopenThread<IndexSearcher> reopenThread;
+
+    public SearchIndex(@Value("${tech.search.index-dir:./search-index}") String path,
+                       @Value("${tech.search.max-stale-ms:1000}") long maxStaleMs,
+                       @Value("${tech.search.min-stale-ms:25}") long minStaleMs) {
+        this.path = Path.of(path);
+        this.maxStaleSec = maxStaleMs / 1000.0;
+        this.minStaleSec = minStaleMs / 1000.0;
+    }
+
+    @PostConstruct
+    public void open() throws IOException {
+        Files.createDirectories(path);
+        directory = FSDirectory.open(path);
+        writer = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        searcherManager = new SearcherManager(writer, null);
+        reopenThread = new ControlledRealTimeReopenThread<>(writer, searcherManager, maxStaleSec, minStaleSec);
+        reopenThread.setName("search-index-reopen");
+        reopenThread.setDaemon(true);
+        reopenThread.start();
+        logger.info("Search index open at {} with {} documents", path.toAbsolutePath(), writer.getDocStats().numDocs);
+    }
+
+    public Analyzer analyzer() {
+        return analyzer;
+    }
+
+    /**
+     * Adds the document, replacing any with the same {@code key}.
+     */
+    public void update(Term key, Document document) {
+        try {
+            writer.updateDocument(key, document);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index " + key.text(), e);
+        }
+    }
+
+    public void delete(Term... terms) {
+        try {
+            writer.deleteDocuments(terms);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete from the search index", e);
+        }
+    }
+
+    public void deleteAll() {
+        try {
+            writer.deleteAll();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clear the search index", e);
+        }
+    }
+
+    /**
+     * Runs {@code call} on the current searcher, which stays valid for the whole
+     * call even if a reopen happens meanwhile.
+     */
+    public <T> T search(SearchCall<T> call) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return call.search(searcher);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search index read failed", e);
+        }
+    }
+
+    /**
+     * Makes everything written so far visible to the next search, without waiting
+     * for the reopen thread.
+     */
+    public void refresh() {
+        try {
+            searcherManager.maybeRefreshBlocking();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Search index refresh failed", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tech.search.commit-interval-ms:5000}")
+    public void commit() {
+        try {
+            if (writer.hasUncommittedChanges()) {
+                writer.commit();
+            }
+        } catch (IOException e) {
+            logger.warn("Search index commit failed; will retry", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        reopenThread.close();
+        searcherManager.close();
+        writer.commit();
+        writer.close();
+        directory.close();
+    }
+}
@@ -0,0 +1,185 @@
+package com.tech.search;
+
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.Term;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.support.WindowIterator;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Keeps the search index in step with the database. The service write paths
+ * report each change here; the document is built right away, from the entity as
+ * it is being saved, but only written to the index once the transaction commits,
+ * so a rollback never leaves a document behind. A failed index write is logged
+ * and left for the next rebuild rather than failing a request that has already
+ * committed.
+ *
+ * <p>The index is rebuilt from the database at startup (the schema is recreated
+ * on every start), paging each table by id.
+ */
+@Component
+public class SearchIndexer {
+
+    private static final Logger logger = LoggerFactory.getLogger(SearchIndexer.class);
+
+    private static final Sort BY_ID = Sort.by("id");
+
+    private final SearchIndex searchIndex;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final boolean rebuildOnStartup;
+    private final int batchSize;
+
+    public SearchIndexer(SearchIndex searchIndex,
+                         TaskRepository taskRepository,
+                         ProjectRepository projectRepository,
+                         DeveloperRepository developerRepository,
+                         @Value("${tech.search.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                         @Value("${tech.search.rebuild-batch-size:1000}") int batchSize) {
+        this.searchIndex = searchIndex;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.developerRepository = developerRepository;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.batchSize = batchSize;
+    }
+
+    public void taskSaved(Task task) {
+        update(SearchDocuments.key(SearchDocType.TASK, task.getId()), SearchDocuments.task(task));
+    }
+
+    public void tasksSaved(List<Task> tasks) {
+        updateAll(tasks, SearchDocType.TASK, Task::getId, SearchDocuments::task);
+    }
+
+    public void taskDeleted(Long id) {
+        delete(SearchDocuments.key(SearchDocType.TASK, id));
+    }
+
+    public void tasksDeleted(List<Long> ids) {
+        delete(ids.stream().map(id -> SearchDocuments.key(SearchDocType.TASK, id)).toArray(Term[]::new));
+    }
+
+    public void projectSaved(Project project) {
+        update(SearchDocuments.key(SearchDocType.PROJECT, project.getId()), SearchDocuments.project(project));
+    }
+
+    public void projectsSaved(List<Project> projects) {
+        updateAll(projects, SearchDocType.PROJECT, Project::getId, SearchDocuments::project);
+    }
+
+    // deleting a project cascades to its tasks
+    public void projectDeleted(Long id) {
+        delete(SearchDocuments.key(SearchDocType.PROJECT, id), SearchDocuments.projectTasks(id));
+    }
+
+    public void developerSaved(Developer developer) {
+        update(SearchDocuments.key(SearchDocType.DEVELOPER, developer.getId()), SearchDocuments.developer(developer));
+    }
+
+    public void developersSaved(List<Developer> developers) {
+        updateAll(developers, SearchDocType.DEVELOPER, Developer::getId, SearchDocuments::developer);
+    }
+
+    public void developerDeleted(Long id) {
+        delete(SearchDocuments.key(SearchDocType.DEVELOPER, id));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Replaces the whole index with the current contents of the database.
+     */
+    public void rebuild() {
+        long started = System.nanoTime();
+        searchIndex.deleteAll();
+        long tasks = indexAll(taskRepository::findAllBy, SearchDocType.TASK, Task::getId, SearchDocuments::task);
+        long projects = indexAll(projectRepository::findAllBy, SearchDocType.PROJECT, Project::getId, SearchDocuments::project);
+        long developers = indexAll(developerRepository::findAllBy, SearchDocType.DEVELOPER, Developer::getId, SearchDocuments::developer);
+        searchIndex.commit();
+        searchIndex.refresh();
+        logger.info("Search index rebuilt: {} tasks, {} projects, {} developers in {} ms",
+                tasks, projects, developers, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    @FunctionalInterface
+    private interface ScrollQuery<E> {
+        Window<E> scroll(ScrollPosition position, Sort sort, Limit limit);
+    }
+
+    private <E> long indexAll(ScrollQuery<E> query, SearchDocType type,
+                              Function<E, Long> id, Function<E, Document> toDocument) {
+        long count = 0;
+        WindowIterator<E> entities = WindowIterator.of(position -> query.scroll(position, BY_ID, Limit.of(batchSize)))
+                .startingAt(ScrollPosition.keyset());
+        while (entities.hasNext()) {
+            E entity = entities.next();
+            searchIndex.update(SearchDocuments.key(type, id.apply(entity)), toDocument.apply(entity));
+            count++;
+        }
+        return count;
+    }
+
+    private void update(Term key, Document document) {
+        afterCommit(() -> searchIndex.update(key, document));
+    }
+
+    // one after-commit callback for the whole batch
+    private <E> void updateAll(List<E> entities, SearchDocType type, Function<E, Long> id, Function<E, Document> toDocument) {
+        List<Map.Entry<Term, Document>> documents = entities.stream()
+                .map(entity -> Map.entry(SearchDocuments.key(type, id.apply(entity)), toDocument.apply(entity)))
+                .toList();
+        afterCommit(() -> documents.forEach(document -> searchIndex.update(document.getKey(), document.getValue())));
+    }
+
+    private void delete(Term... terms) {
+        afterCommit(() -> searchIndex.delete(terms));
+    }
+
+    private void afterCommit(Runnable change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private static void apply(Runnable change) {
+        try {
+            change.run();
+        } catch (RuntimeException e) {
+            logger.warn("Search index update failed; the document stays stale until the next rebuild", e);
+        }
+    }
+}
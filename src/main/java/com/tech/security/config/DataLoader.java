@@ -11,14 +11,13 @@ import com.tech.security.repository.RoleRepository;
 import com.tech.repository.DeveloperRepository;
 import com.tech.repository.ProjectRepository;
 import com.tech.repository.TaskRepository;
+import com.tech.service.TaskStatusCounters;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional; // Import for @Transactional
 
 import java.time.LocalDate;
-import java.util.Arrays;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -31,6 +30,7 @@ public class DataLoader implements CommandLineRunner {
     private final DeveloperRepository developerRepository; // Inject DeveloperRepository
     private final ProjectRepository projectRepository;     // Inject ProjectRepository
     private final TaskRepository taskRepository;           // Inject TaskRepository
+    private final TaskStatusCounters taskStatusCounters;
 
     @Override
     @Transactional // Ensure all data loading happens in a single transaction
@@ -111,7 +111,7 @@ public class DataLoader implements CommandLineRunner {
             task1.setDueDate(LocalDate.of(2025, 7, 15));
             task1.setProject(allProjects.get(0)); // Assign to Project 1
             if (!allDevelopers.isEmpty()) {
-                task1.setAssignedDevelopers(Collections.singletonList(allDevelopers.get(0))); // Assign to first dev
+                task1.setAssignedDevelopers(new HashSet<>(List.of(allDevelopers.get(0)))); // Assign to first dev
             }
             taskRepository.save(task1);
 
@@ -123,7 +123,7 @@ public class DataLoader implements CommandLineRunner {
             task2.setDueDate(LocalDate.of(2025, 7, 20));
             task2.setProject(allProjects.get(0)); // Assign to Project 1
             if (allDevelopers.size() > 1) {
-                task2.setAssignedDevelopers(Arrays.asList(allDevelopers.get(0), allDevelopers.get(1))); // Assign to first and second dev
+                task2.setAssignedDevelopers(new HashSet<>(List.of(allDevelopers.get(0), allDevelopers.get(1)))); // Assign to first and second dev
             }
             taskRepository.save(task2);
 
@@ -135,7 +135,7 @@ public class DataLoader implements CommandLineRunner {
             task3.setDueDate(LocalDate.of(2025, 8, 1));
             task3.setProject(allProjects.get(0)); // Assign to Project 1
             if (allDevelopers.size() > 2) {
-                task3.setAssignedDevelopers(Collections.singletonList(allDevelopers.get(2))); // Assign to third dev
+                task3.setAssignedDevelopers(new HashSet<>(List.of(allDevelopers.get(2)))); // Assign to third dev
             }
             taskRepository.save(task3);
 
@@ -147,7 +147,7 @@ public class DataLoader implements CommandLineRunner {
             task4.setDueDate(LocalDate.of(2025, 7, 25));
             task4.setProject(allProjects.get(1)); // Assign to Project 2
             if (allDevelopers.size() > 2) {
-                task4.setAssignedDevelopers(Collections.singletonList(allDevelopers.get(2))); // Assign to third dev
+                task4.setAssignedDevelopers(new HashSet<>(List.of(allDevelopers.get(2)))); // Assign to third dev
             }
             taskRepository.save(task4);
 
@@ -159,13 +159,16 @@ public class DataLoader implements CommandLineRunner {
             task5.setDueDate(LocalDate.of(2025, 8, 10));
             task5.setProject(allProjects.get(1)); // Assign to Project 2
             if (allDevelopers.size() > 1) {
-                task5.setAssignedDevelopers(Collections.singletonList(allDevelopers.get(1))); // Assign to second dev
+                task5.setAssignedDevelopers(new HashSet<>(List.of(allDevelopers.get(1)))); // Assign to second dev
             }
             taskRepository.save(task5);
 
             System.out.println("Sample Tasks created.");
         }
 
+        // Sample tasks are saved directly, so bring the status counters in line with them
+        taskStatusCounters.reconcileAll();
+
         System.out.println("Data initialization complete!");
     }
 
@@ -3,7 +3,6 @@ package com.tech.security.service;
 import com.tech.repository.DeveloperRepository;
 import com.tech.repository.TaskRepository;
 import com.tech.model.Developer;
-import com.tech.model.Task;
 import com.tech.security.model.User;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
@@ -13,7 +12,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
-import java.util.List; // Import List
 
 /**
  * AccessChecker provides custom security logic for Spring Security's @PreAuthorize
@@ -60,12 +58,10 @@ public class AccessChecker {
 
         logger.debug("AccessChecker: Checking ownership for task ID {} by user with email {}", taskId, currentUserEmail);
 
-        Optional<Task> taskOptional = taskRepository.findById(taskId);
-        if (taskOptional.isEmpty()) {
+        if (!taskRepository.existsById(taskId)) {
             logger.warn("AccessChecker: Task with ID {} not found for ownership check.", taskId);
             return false;
         }
-        Task task = taskOptional.get();
 
         Optional<Developer> currentDeveloperOptional = developerRepository.findByEmail(currentUserEmail);
         if (currentDeveloperOptional.isEmpty()) {
@@ -74,14 +70,8 @@ public class AccessChecker {
         }
         Developer currentDeveloper = currentDeveloperOptional.get();
 
-        List<Developer> assignedDevelopers = task.getAssignedDevelopers();
-        if (assignedDevelopers == null || assignedDevelopers.isEmpty()) {
-            logger.warn("AccessChecker: Task ID {} has no assigned developers.", taskId);
-            return false;
-        }
-
-        boolean isOwner = assignedDevelopers.stream()
-                .anyMatch(dev -> dev.getId().equals(currentDeveloper.getId()));
+        // one indexed lookup instead of loading the task's assignees
+        boolean isOwner = taskRepository.isAssigned(taskId, currentDeveloper.getId());
 
         logger.info("AccessChecker: User {} (Developer ID: {}) is owner of task {}? {}",
                 currentUserEmail, currentDeveloper.getId(), taskId, isOwner);
@@ -0,0 +1,67 @@
+package com.tech.service;
+
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.IdPairRow;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Applies new assignee lists to tasks by writing only the join-table rows that
+ * change, from the current assignee ids; neither the tasks' assignee sets nor any
+ * developer is loaded. The single-task variant writes with two statements, the
+ * chunk variant with two statements for the whole chunk.
+ */
+final class Assignees {
+
+    private Assignees() {
+    }
+
+    /**
+     * @param current ids of the task's assignees before the change
+     */
+    static void replace(TaskRepository taskRepository, Long taskId, Collection<Long> current, Collection<Long> developerIds) {
+        Set<Long> wanted = new LinkedHashSet<>(developerIds);
+        wanted.remove(null);
+        Set<Long> removed = new LinkedHashSet<>(current);
+        removed.removeAll(wanted);
+        wanted.removeAll(current);
+
+        if (!removed.isEmpty()) {
+            taskRepository.removeAssignees(taskId, removed);
+        }
+        if (!wanted.isEmpty()) {
+            taskRepository.assignAll(Set.of(taskId), wanted);
+        }
+    }
+
+    /**
+     * @param current (developer id, task id) pairs of the tasks before the change
+     * @param wanted  new assignee ids by task id; tasks not in it are left alone.
+     *                The developers must exist
+     */
+    static void replace(TaskRepository taskRepository, Collection<IdPairRow> current, Map<Long, ? extends Collection<Long>> wanted) {
+        Set<IdPairRow> added = new LinkedHashSet<>();
+        wanted.forEach((taskId, developerIds) -> developerIds.stream()
+                .filter(Objects::nonNull)
+                .forEach(developerId -> added.add(new IdPairRow(developerId, taskId))));
+        List<IdPairRow> removed = new ArrayList<>();
+        for (IdPairRow pair : current) {
+            if (wanted.containsKey(pair.taskId()) && !added.remove(pair)) {
+                removed.add(pair);
+            }
+        }
+
+        if (!removed.isEmpty()) {
+            taskRepository.removeAssignments(removed);
+        }
+        if (!added.isEmpty()) {
+            taskRepository.addAssignments(added);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tech.audit.AuditArchive;
+import com.tech.dto.AuditLogFilter;
+import com.tech.dto.CursorPage;
+import com.tech.exception.InvalidCursorException;
+import com.tech.model.AuditLog;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+@Service
+public class AuditLogQueryService {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditArchive auditArchive;
+    private final ObjectMapper objectMapper;
+    private final int exportBatchSize;
+
+    public AuditLogQueryService(MongoTemplate mongoTemplate,
+                                AuditArchive auditArchive,
+                                ObjectMapper objectMapper,
+                                @Value("${tech.audit.export.batch-size:1000}") int exportBatchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditArchive = auditArchive;
+        this.objectMapper = objectMapper;
+        this.exportBatchSize = exportBatchSize;
+    }
+
+    /**
+     * Timeline of one task, project or developer, newest first. Served by the
+     * (entityType, entityId, timestamp, _id) index as a single range scan.
+     */
+    public CursorPage<AuditLog> history(String entityType, Long entityId, String cursor, int size) {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setEntityType(entityType);
+        filter.setEntityId(entityId);
+        return search(filter, cursor, Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    /**
+     * Returns one page of matching entries, newest first. Pages are addressed by the
+     * (timestamp, id) of the last entry returned rather than an offset, so every page
+     * is a bounded range scan over one of the compound indexes created by
+     * {@link com.tech.audit.AuditIndexInitializer}. The archive tier is consulted
+     * only when the page reaches back past the newest archived entry.
+     */
+    public CursorPage<AuditLog> search(AuditLogFilter filter, String cursor, int size) {
+        Criteria criteria = buildCriteria(filter);
+        LocalDateTime cursorTimestamp = null;
+        String cursorId = null;
+        if (cursor != null && !cursor.isBlank()) {
+            List<String> position = CursorCodec.decode(cursor, 2);
+            try {
+                cursorTimestamp = LocalDateTime.parse(position.get(0));
+            } catch (DateTimeParseException e) {
+                throw new InvalidCursorException("Malformed cursor", e);
+            }
+            cursorId = position.get(1);
+            criteria.orOperator(
+                    Criteria.where("timestamp").lt(cursorTimestamp),
+                    Criteria.where("timestamp").is(cursorTimestamp).and("id").lt(cursorId));
+        }
+        Query query = new Query(criteria)
+                .with(Sort.by(Sort.Direction.DESC, "timestamp", "id"))
+                .limit(size + 1);
+
+        List<AuditLog> logs = mongoTemplate.find(query, AuditLog.class);
+        Optional<LocalDateTime> archivedUpTo = auditArchive.newestTimestamp();
+        if (archivedUpTo.isPresent()
+                && (filter.getFrom() == null || !archivedUpTo.get().isBefore(filter.getFrom()))
+                && (logs.size() <= size || !logs.get(size).getTimestamp().isAfter(archivedUpTo.get()))) {
+            logs = mergeNewestFirst(logs, auditArchive.searchBefore(filter, cursorTimestamp, cursorId, size + 1), size + 1);
+        }
+        boolean hasNext = logs.size() > size;
+        if (hasNext) {
+            logs = logs.subList(0, size);
+        }
+        String nextCursor = null;
+        if (hasNext) {
+            AuditLog last = logs.get(logs.size() - 1);
+            nextCursor = CursorCodec.encode(last.getTimestamp().toString(), last.getId());
+        }
+        return new CursorPage<>(logs, size, hasNext, nextCursor);
+    }
+
+    /**
+     * Writes every matching entry as newline-delimited JSON: archived entries first,
+     * then the hot tier oldest first. Documents are pulled from a server-side cursor
+     * {@code exportBatchSize} at a time and archive segments are inflated one block at
+     * a time, so heap use does not depend on how many entries match.
+     */
+    public long export(AuditLogFilter filter, OutputStream out) throws IOException {
+        // one document per line, whatever spring.jackson.serialization.indent_output says
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+        long[] written = {0};
+        try {
+            auditArchive.forEach(filter, log -> writeLine(writer, log, out, written));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        Query query = new Query(buildCriteria(filter))
+                .with(Sort.by(Sort.Direction.ASC, "timestamp"))
+                .cursorBatchSize(exportBatchSize);
+        try (Stream<AuditLog> logs = mongoTemplate.stream(query, AuditLog.class)) {
+            Iterator<AuditLog> iterator = logs.iterator();
+            while (iterator.hasNext()) {
+                writeLine(writer, iterator.next(), out, written);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        out.flush();
+        return written[0];
+    }
+
+    private void writeLine(ObjectWriter writer, AuditLog log, OutputStream out, long[] written) {
+        try {
+            out.write(writer.writeValueAsBytes(log));
+            out.write('\n');
+            if (++written[0] % exportBatchSize == 0) {
+                out.flush();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<AuditLog> mergeNewestFirst(List<AuditLog> hot, List<AuditLog> archived, int limit) {
+        Map<String, AuditLog> byId = new LinkedHashMap<>();
+        hot.forEach(log -> byId.put(log.getId(), log));
+        archived.forEach(log -> byId.putIfAbsent(log.getId(), log));
+        List<AuditLog> merged = new ArrayList<>(byId.values());
+        merged.sort(AuditArchive.NEWEST_FIRST);
+        return merged.size() > limit ? merged.subList(0, limit) : merged;
+    }
+
+    Criteria buildCriteria(AuditLogFilter filter) {
+        Criteria criteria = new Criteria();
+        if (filter.getFrom() != null || filter.getTo() != null) {
+            Criteria timestamp = criteria.and("timestamp");
+            if (filter.getFrom() != null) {
+                timestamp.gte(filter.getFrom());
+            }
+            if (filter.getTo() != null) {
+                timestamp.lt(filter.getTo());
+            }
+        }
+        if (filter.getActorType() != null) {
+            criteria.and("actorType").is(filter.getActorType());
+        }
+        if (filter.getActionType() != null) {
+            criteria.and("actionType").is(filter.getActionType());
+        }
+        if (filter.getEntityType() != null) {
+            criteria.and("entityType").is(filter.getEntityType());
+        }
+        if (filter.getEntityId() != null) {
+            criteria.and("entityId").is(filter.getEntityId());
+        }
+        if (filter.getActor() != null) {
+            criteria.and("actor").is(filter.getActor());
+        }
+        if (filter.getUsername() != null) {
+            criteria.and("username").is(filter.getUsername());
+        }
+        return criteria;
+    }
+}
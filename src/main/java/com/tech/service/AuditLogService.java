@@ -1,92 +1,267 @@
 package com.tech.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.audit.AuditDelivery;
+import com.tech.audit.AuditLogWriter;
 import com.tech.model.AuditLog;
-import com.tech.repository.AuditLogRepository;
+import com.tech.model.AuditOutboxEvent;
+import com.tech.repository.AuditOutboxRepository;
+import com.tech.dto.DeveloperDTO;
 import com.tech.dto.ProjectDTO;
+import com.tech.dto.TaskDTO;
 import lombok.RequiredArgsConstructor;
+import org.bson.types.ObjectId;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class AuditLogService {
 
-    private final AuditLogRepository auditLogRepository;
+    public static final String ENTITY_TASK = "Task";
+    public static final String ENTITY_PROJECT = "Project";
+    public static final String ENTITY_DEVELOPER = "Developer";
+
+    // recorded as the actor for changes made outside a request, e.g. by DataLoader
+    static final String SYSTEM_USER = "system";
+
+    private final AuditLogWriter auditLogWriter;
+    private final AuditOutboxRepository auditOutboxRepository;
     private final ObjectMapper objectMapper;
 
+    private static final TypeReference<Map<String, Object>> SNAPSHOT_TYPE = new TypeReference<>() {};
+
+    @Value("${tech.audit.delivery:ASYNC}")
+    private AuditDelivery delivery = AuditDelivery.ASYNC;
+
     public void logProjectAction(String action, ProjectDTO projectDTO) {
-        try {
-            AuditLog log = AuditLog.builder()
-                    .actorType("Project")
-                    .actionType(action)
-                    .actor(projectDTO.getName())
-                    .username("admin")
-                    .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC))
-                    .dataSnapshot(objectMapper.writeValueAsString(projectDTO))
-                    .build();
-            auditLogRepository.save(log);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize project data for audit log", e);
-        }
+        publish(entityEvent(ENTITY_PROJECT, action, projectDTO.getId())
+                .dataSnapshot(snapshot(projectDTO, "project"))
+                .build());
     }
-    public void logTaskAction(String action, Object taskDTO) {
-        try {
-            AuditLog log = AuditLog.builder()
-                    .actorType("Task")
-                    .actionType(action)
-                    .actor(taskDTO.toString())
-                    .username("admin")
-                    .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC))
-                    .dataSnapshot(objectMapper.writeValueAsString(taskDTO))
-                    .build();
-            auditLogRepository.save(log);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize task data for audit log", e);
-        }
+
+    public void logProjectUpdate(ProjectDTO before, ProjectDTO after) {
+        publish(entityEvent(ENTITY_PROJECT, "UPDATE", after.getId())
+                .changes(diff(snapshot(before, "project"), snapshot(after, "project")))
+                .build());
     }
-    public void logDeveloperAction(String action, Object developerDTO) {
-        try {
-            AuditLog log = AuditLog.builder()
-                    .actorType("Developer")
-                    .actionType(action)
-                    .actor(developerDTO.toString())
-                    .username("admin")
-                    .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC))
-                    .dataSnapshot(objectMapper.writeValueAsString(developerDTO))
-                    .build();
-            auditLogRepository.save(log);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Failed to serialize developer data for audit log", e);
-        }
+
+    public void logTaskAction(String action, TaskDTO taskDTO) {
+        publish(entityEvent(ENTITY_TASK, action, taskDTO.getId())
+                .dataSnapshot(snapshot(taskDTO, "task"))
+                .build());
     }
+
+    public void logTaskUpdate(TaskDTO before, TaskDTO after) {
+        publish(entityEvent(ENTITY_TASK, "UPDATE", after.getId())
+                .changes(diff(snapshot(before, "task"), snapshot(after, "task")))
+                .build());
+    }
+
+    /**
+     * One developer added to or removed from a task, recorded against the task so
+     * it shows in the task's history without snapshotting the whole task.
+     */
+    public void logTaskAssignment(String action, Long taskId, Long developerId) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("developerId", developerId);
+        publish(entityEvent(ENTITY_TASK, action, taskId)
+                .dataSnapshot(snapshot)
+                .build());
+    }
+
+    public void logDeveloperAction(String action, DeveloperDTO developerDTO) {
+        publish(entityEvent(ENTITY_DEVELOPER, action, developerDTO.getId())
+                .dataSnapshot(snapshot(developerDTO, "developer"))
+                .build());
+    }
+
+    public void logDeveloperUpdate(DeveloperDTO before, DeveloperDTO after) {
+        publish(entityEvent(ENTITY_DEVELOPER, "UPDATE", after.getId())
+                .changes(diff(snapshot(before, "developer"), snapshot(after, "developer")))
+                .build());
+    }
+
+    /**
+     * One event for a chunk of a bulk write, listing the affected ids instead of
+     * snapshotting each entity. It carries no entity id, so it does not appear in
+     * the per-entity history endpoints.
+     */
+    public void logBulkAction(String entityType, String action, List<Long> entityIds) {
+        logBulkAction(entityType, action, entityIds, Map.of());
+    }
+
+    /**
+     * As {@link #logBulkAction(String, String, List)}, with the parameters the
+     * chunk was written with (e.g. the filter and the new status) in the snapshot.
+     */
+    public void logBulkAction(String entityType, String action, List<Long> entityIds, Map<String, Object> details) {
+        Map<String, Object> snapshot = new LinkedHashMap<>(details);
+        snapshot.put("count", entityIds.size());
+        snapshot.put("entityIds", entityIds);
+        publish(entityEvent(entityType, action, null)
+                .dataSnapshot(snapshot)
+                .build());
+    }
+
     public void logLoginAction(String actionType, String email, String loginMethod, String status) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("loginMethod", loginMethod);
+        snapshot.put("status", status);
         AuditLog log = AuditLog.builder()
+                .id(ObjectId.get().toHexString())
                 .actorType("User")
                 .actionType(actionType)
                 .entityType("Authentication")
                 .actor(email) // The email or username attempting login
                 .username(email) // For login events, the username is the email
                 .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC))
-                .dataSnapshot("{\"loginMethod\": \"" + loginMethod + "\", \"status\": \"" + status + "\"}")
+                .dataSnapshot(snapshot)
                 .build();
-        auditLogRepository.save(log);
+        publish(log);
     }
 
     public void logUnauthorizedAccess(String username, String requestPath, String details) {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("requestPath", requestPath);
+        snapshot.put("details", details);
         AuditLog log = AuditLog.builder()
+                .id(ObjectId.get().toHexString())
                 .actorType("User")
                 .actionType("UNAUTHORIZED_ACCESS")
                 .entityType("Authorization")
                 .actor(username)
                 .username(username)
                 .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC))
-                .dataSnapshot("{\"requestPath\": \"" + requestPath + "\", \"details\": \"" + details + "\"}")
+                .dataSnapshot(snapshot)
                 .build();
-        auditLogRepository.save(log);
+        publish(log);
+    }
+
+    /**
+     * Common fields of an event about one entity. The entity type and id feed the
+     * (entityType, entityId, timestamp) index behind the per-entity history
+     * endpoints; actor and username are the authenticated caller.
+     */
+    private static AuditLog.AuditLogBuilder entityEvent(String entityType, String action, Long entityId) {
+        String user = currentUsername();
+        return AuditLog.builder()
+                .id(ObjectId.get().toHexString())
+                .actorType(entityType)
+                .actionType(action)
+                .entityType(entityType)
+                .entityId(entityId)
+                .actor(user)
+                .username(user)
+                .timestamp(LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC));
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return SYSTEM_USER;
+        }
+        return authentication.getName();
+    }
+
+    /**
+     * Converts a DTO into a map that Mongo stores as a sub-document. Null fields are
+     * left out, and nested lists of objects (e.g. a task's assigned developers) are
+     * reduced to their ids so a snapshot never embeds other entities.
+     */
+    private Map<String, Object> snapshot(Object dto, String kind) {
+        Map<String, Object> fields;
+        try {
+            fields = objectMapper.convertValue(dto, SNAPSHOT_TYPE);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("Failed to serialize " + kind + " data for audit log", e);
+        }
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        if (fields == null) {
+            return snapshot;
+        }
+        fields.forEach((field, value) -> {
+            if (value != null) {
+                snapshot.put(field, value instanceof List<?> list ? referencesToIds(list) : value);
+            }
+        });
+        return snapshot;
+    }
+
+    private static Object referencesToIds(List<?> values) {
+        if (values.isEmpty() || !values.stream().allMatch(value -> value instanceof Map<?, ?> map && map.containsKey("id"))) {
+            return values;
+        }
+        return values.stream().map(value -> ((Map<?, ?>) value).get("id")).toList();
+    }
+
+    /**
+     * Field-by-field comparison of two snapshots, keeping only the fields whose value
+     * differs as {@code {field: {old, new}}}.
+     */
+    private static Map<String, Object> diff(Map<String, Object> before, Map<String, Object> after) {
+        Set<String> fields = new LinkedHashSet<>(before.keySet());
+        fields.addAll(after.keySet());
+        Map<String, Object> changes = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object oldValue = before.get(field);
+            Object newValue = after.get(field);
+            if (!Objects.equals(oldValue, newValue)) {
+                Map<String, Object> change = new LinkedHashMap<>();
+                change.put("old", oldValue);
+                change.put("new", newValue);
+                changes.put(field, change);
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Events raised inside a transaction only become visible once it commits: in
+     * OUTBOX mode they are written to the outbox table as part of the transaction,
+     * otherwise they are queued on the writer from an after-commit callback. A
+     * rollback therefore never leaves an audit entry behind.
+     */
+    private void publish(AuditLog log) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            auditLogWriter.submit(log);
+            return;
+        }
+        if (delivery == AuditDelivery.OUTBOX) {
+            try {
+                auditOutboxRepository.save(AuditOutboxEvent.builder()
+                        .eventId(log.getId())
+                        .payload(objectMapper.writeValueAsString(log))
+                        .createdAt(Instant.now())
+                        .build());
+            } catch (JsonProcessingException e) {
+                throw new RuntimeException("Failed to serialize audit event for outbox", e);
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                auditLogWriter.submit(log);
+            }
+        });
     }
 }
@@ -0,0 +1,86 @@
+package com.tech.service;
+
+import com.tech.audit.RollupGranularity;
+import com.tech.dto.AuditLogFilter;
+import com.tech.dto.AuditStatsBucket;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.AuditRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Answers time-bucketed audit counts from the {@code audit_rollups} collection
+ * rather than from {@code audit_logs}, so query cost depends on the number of
+ * buckets in range and not on raw event volume.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditStatsService {
+
+    static final Set<String> DIMENSIONS = Set.of("actionType", "actorType", "username");
+    static final int MAX_BUCKETS = 10_000;
+
+    private final MongoTemplate mongoTemplate;
+
+    public List<AuditStatsBucket> stats(RollupGranularity granularity, AuditLogFilter filter, List<String> groupBy) {
+        if (filter.getEntityType() != null || filter.getEntityId() != null || filter.getActor() != null) {
+            throw new InvalidQueryException("Audit stats can only be filtered by actionType, actorType and username");
+        }
+        List<String> dimensions = groupBy.stream().filter(dimension -> !dimension.isBlank()).distinct().toList();
+        for (String dimension : dimensions) {
+            if (!DIMENSIONS.contains(dimension)) {
+                throw new InvalidQueryException("Unsupported groupBy dimension '" + dimension + "', expected one of " + DIMENSIONS);
+            }
+        }
+        LocalDateTime to = filter.getTo() != null ? filter.getTo() : LocalDateTime.ofInstant(Instant.now(), ZoneOffset.UTC);
+        LocalDateTime from = filter.getFrom() != null ? filter.getFrom() : to.minus(defaultRange(granularity));
+        if (!from.isBefore(to)) {
+            throw new InvalidQueryException("'from' must be before 'to'");
+        }
+
+        Criteria criteria = Criteria.where("granularity").is(granularity)
+                .and("bucketStart").gte(granularity.bucketStart(from)).lt(to);
+        if (filter.getActionType() != null) {
+            criteria.and("actionType").is(filter.getActionType());
+        }
+        if (filter.getActorType() != null) {
+            criteria.and("actorType").is(filter.getActorType());
+        }
+        if (filter.getUsername() != null) {
+            criteria.and("username").is(filter.getUsername());
+        }
+
+        List<String> fields = new ArrayList<>();
+        fields.add("bucketStart");
+        fields.addAll(dimensions);
+        String[] groupFields = fields.toArray(String[]::new);
+
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.match(criteria),
+                Aggregation.group(groupFields).sum("count").as("count"),
+                Aggregation.sort(Sort.Direction.ASC, groupFields),
+                Aggregation.limit(MAX_BUCKETS),
+                Aggregation.project(groupFields).andInclude("count").andExclude("_id"));
+        return mongoTemplate.aggregate(aggregation, AuditRollup.class, AuditStatsBucket.class).getMappedResults();
+    }
+
+    private static Duration defaultRange(RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> Duration.ofHours(1);
+            case HOUR -> Duration.ofDays(1);
+            case DAY -> Duration.ofDays(30);
+        };
+    }
+}
@@ -0,0 +1,208 @@
+package com.tech.service;
+
+import com.tech.audit.AuditArchive;
+import com.tech.audit.AuditHashing;
+import com.tech.audit.AuditSigner;
+import com.tech.audit.MerkleTree;
+import com.tech.dto.AuditEventVerification;
+import com.tech.dto.AuditLogFilter;
+import com.tech.dto.AuditVerificationReport;
+import com.tech.model.AuditLog;
+import com.tech.model.AuditSeal;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Checks sealed audit events against their signed Merkle roots. A time range is
+ * verified one seal per task on a pool sized to the available cores; a single
+ * event is verified from its stored proof in O(log n) hashes.
+ */
+@Service
+public class AuditVerificationService {
+
+    private final MongoTemplate mongoTemplate;
+    private final AuditArchive auditArchive;
+    private final AuditSigner signer;
+    private final ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+
+    public AuditVerificationService(MongoTemplate mongoTemplate, AuditArchive auditArchive, AuditSigner signer) {
+        this.mongoTemplate = mongoTemplate;
+        this.auditArchive = auditArchive;
+        this.signer = signer;
+    }
+
+    private record SealResult(long events, List<String> failures) {
+    }
+
+    public AuditVerificationReport verifyRange(LocalDateTime from, LocalDateTime to) {
+        Query overlapping = Query.query(Criteria.where("toTimestamp").gte(from).and("fromTimestamp").lt(to))
+                .with(Sort.by(Sort.Direction.ASC, "sequence"));
+        List<AuditSeal> seals = mongoTemplate.find(overlapping, AuditSeal.class);
+
+        List<Future<SealResult>> results = new ArrayList<>(seals.size());
+        for (AuditSeal seal : seals) {
+            results.add(executor.submit(() -> verifySeal(seal)));
+        }
+        List<String> failures = new ArrayList<>(verifySealChain(seals));
+        long events = 0;
+        for (Future<SealResult> result : results) {
+            try {
+                SealResult sealResult = result.get();
+                events += sealResult.events();
+                failures.addAll(sealResult.failures());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Audit verification interrupted", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Audit verification failed", e.getCause());
+            }
+        }
+        return new AuditVerificationReport(from, to, seals.size(), events, failures.isEmpty(), failures);
+    }
+
+    public AuditEventVerification verifyEvent(String id) {
+        AuditLog log = findEvent(id);
+        if (log.getSealId() == null) {
+            return new AuditEventVerification(id, null, false, "Not sealed yet");
+        }
+        AuditSeal seal = mongoTemplate.findById(log.getSealId(), AuditSeal.class);
+        if (seal == null) {
+            return new AuditEventVerification(id, log.getSealId(), false, "Seal is missing");
+        }
+        String reason = null;
+        if (!signer.verify(seal.getPublicKey(), AuditHashing.signingPayload(seal), seal.getSignature())) {
+            reason = "Seal signature does not match";
+        } else if (!signer.isTrusted(seal.getPublicKey())) {
+            reason = "Seal was signed with an untrusted key";
+        } else if (!AuditHashing.chain(log.getPrevHash(), log).equals(log.getChainHash())) {
+            reason = "Event content does not match its chain hash";
+        } else if (!MerkleTree.verify(log.getChainHash(), log.getLeafIndex(), log.getProof(), seal.getRoot())) {
+            reason = "Merkle proof does not lead to the seal root";
+        }
+        return new AuditEventVerification(id, seal.getId(), reason == null, reason);
+    }
+
+    /**
+     * Looks in the hot tier first. An archived event is found through the seal that
+     * lists it, reading only the archive blocks of that seal's time range; events
+     * archived before they were sealed are not verifiable and not looked for.
+     */
+    private AuditLog findEvent(String id) {
+        AuditLog log = mongoTemplate.findById(id, AuditLog.class);
+        if (log != null) {
+            return log;
+        }
+        AuditSeal seal = mongoTemplate.findOne(Query.query(Criteria.where("eventIds").is(id)), AuditSeal.class);
+        if (seal != null) {
+            AuditLog[] archived = new AuditLog[1];
+            auditArchive.forEach(sealRange(seal), candidate -> {
+                if (id.equals(candidate.getId())) {
+                    archived[0] = candidate;
+                }
+            });
+            if (archived[0] != null) {
+                return archived[0];
+            }
+        }
+        throw new EntityNotFoundException("Audit log not found with id: " + id);
+    }
+
+    /**
+     * Recomputes the whole batch: every event must be present, in order, and chain
+     * from the previous seal to a root equal to the signed one.
+     */
+    SealResult verifySeal(AuditSeal seal) {
+        List<String> failures = new ArrayList<>();
+        String label = "seal " + seal.getSequence();
+        if (!signer.verify(seal.getPublicKey(), AuditHashing.signingPayload(seal), seal.getSignature())) {
+            failures.add(label + ": signature does not match");
+        } else if (!signer.isTrusted(seal.getPublicKey())) {
+            failures.add(label + ": signed with an untrusted key");
+        }
+        if (seal.getStatus() != AuditSeal.Status.COMPLETE) {
+            failures.add(label + ": status is " + seal.getStatus());
+        }
+
+        Map<String, AuditLog> events = loadEvents(seal);
+        String previous = seal.getPrevLeafHash();
+        List<String> chain = new ArrayList<>(seal.getLeafCount());
+        for (String id : seal.getEventIds()) {
+            AuditLog log = events.get(id);
+            if (log == null) {
+                failures.add(label + ": event " + id + " is missing");
+                return new SealResult(chain.size(), failures);
+            }
+            previous = AuditHashing.chain(previous, log);
+            if (!previous.equals(log.getChainHash())) {
+                failures.add(label + ": event " + id + " has been altered");
+            }
+            chain.add(previous);
+        }
+        if (chain.size() != seal.getLeafCount() || !MerkleTree.build(chain).root().equals(seal.getRoot())) {
+            failures.add(label + ": recomputed root does not match");
+        }
+        return new SealResult(chain.size(), failures);
+    }
+
+    private Map<String, AuditLog> loadEvents(AuditSeal seal) {
+        Map<String, AuditLog> events = new HashMap<>();
+        mongoTemplate.find(Query.query(Criteria.where("sealId").is(seal.getId())), AuditLog.class)
+                .forEach(log -> events.put(log.getId(), log));
+        if (events.size() < seal.getLeafCount()) {
+            // older events may already have moved to the archive tier
+            auditArchive.forEach(sealRange(seal), log -> {
+                if (seal.getId().equals(log.getSealId())) {
+                    events.putIfAbsent(log.getId(), log);
+                }
+            });
+        }
+        return events;
+    }
+
+    private static AuditLogFilter sealRange(AuditSeal seal) {
+        AuditLogFilter filter = new AuditLogFilter();
+        filter.setFrom(seal.getFromTimestamp());
+        filter.setTo(seal.getToTimestamp().plusNanos(1));
+        return filter;
+    }
+
+    private List<String> verifySealChain(List<AuditSeal> seals) {
+        List<String> failures = new ArrayList<>();
+        for (int i = 1; i < seals.size(); i++) {
+            AuditSeal previous = seals.get(i - 1);
+            AuditSeal current = seals.get(i);
+            if (current.getSequence() != previous.getSequence() + 1) {
+                // a seal in between covers events outside the range; compare against it directly
+                previous = mongoTemplate.findOne(Query.query(Criteria.where("sequence").is(current.getSequence() - 1)), AuditSeal.class);
+                if (previous == null) {
+                    failures.add("seal " + (current.getSequence() - 1) + " is missing");
+                    continue;
+                }
+            }
+            if (!current.getPrevRoot().equals(previous.getRoot()) || !current.getPrevLeafHash().equals(previous.getLastLeafHash())) {
+                failures.add("seal " + current.getSequence() + " does not link to seal " + previous.getSequence());
+            }
+        }
+        return failures;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
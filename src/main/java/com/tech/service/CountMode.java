@@ -0,0 +1,15 @@
+package com.tech.service;
+
+/**
+ * How a list endpoint computes the total behind its page.
+ */
+public enum CountMode {
+    /** Runs a COUNT(*) with the same predicates on every request. */
+    EXACT,
+    /** Skips the count; the response is a slice that only knows whether a next page exists. */
+    NONE,
+    /** Serves the count from a short-lived cache keyed by predicate, dropped on writes to the entity. */
+    CACHED,
+    /** Uses the planner's row estimate for unfiltered listings; filtered listings fall back to CACHED. */
+    ESTIMATE
+}
@@ -0,0 +1,46 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.exception.InvalidCursorException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes the sort-key values of the last row on a page into the opaque,
+ * URL-safe continuation token handed to clients, and back again.
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CursorCodec() {
+    }
+
+    public static String encode(String... values) {
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(values);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    public static List<String> decode(String cursor, int expectedValues) {
+        String[] values;
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor.getBytes(StandardCharsets.US_ASCII));
+            values = MAPPER.readValue(json, String[].class);
+        } catch (IllegalArgumentException | IOException e) {
+            throw new InvalidCursorException("Malformed cursor", e);
+        }
+        if (values == null || values.length != expectedValues) {
+            throw new InvalidCursorException("Malformed cursor", null);
+        }
+        return Arrays.asList(values);
+    }
+}
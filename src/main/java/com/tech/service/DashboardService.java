@@ -0,0 +1,171 @@
+package com.tech.service;
+
+import com.tech.dto.DashboardDTO;
+import com.tech.dto.DashboardSection;
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.ProjectDTO;
+import com.tech.dto.ProjectTaskStats;
+import com.tech.dto.TaskDTO;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.TaskRow;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+
+/**
+ * Loads the dashboard sections concurrently, one virtual thread per section,
+ * so a dashboard costs about as long as its slowest query rather than the sum
+ * of them.
+ *
+ * <p>Each section runs in its own read-only transaction, and so holds its own
+ * pooled connection while it runs; a per-request semaphore caps how many run at
+ * once. Every section shares one deadline: a section still running (or still
+ * waiting for a permit) when it passes is cancelled and reported in
+ * {@code timedOut}, and the transaction timeout makes the database abandon its
+ * statement too.
+ */
+@Service
+public class DashboardService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardService.class);
+
+    public static final int MAX_SECTION_SIZE = 100;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final DeveloperRepository developerRepository;
+    private final ReadModelAssembler readModelAssembler;
+    private final TaskStatusCounters taskStatusCounters;
+    private final TransactionTemplate readOnly;
+    private final int maxConnections;
+    private final long timeoutMs;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public DashboardService(ProjectRepository projectRepository,
+                            TaskRepository taskRepository,
+                            DeveloperRepository developerRepository,
+                            ReadModelAssembler readModelAssembler,
+                            TaskStatusCounters taskStatusCounters,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${tech.dashboard.max-connections:3}") int maxConnections,
+                            @Value("${tech.dashboard.timeout-ms:2000}") long timeoutMs) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.developerRepository = developerRepository;
+        this.readModelAssembler = readModelAssembler;
+        this.taskStatusCounters = taskStatusCounters;
+        this.maxConnections = maxConnections;
+        this.timeoutMs = timeoutMs;
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        // whole seconds, rounded up; the wait below enforces the exact deadline
+        this.readOnly.setTimeout((int) Math.max(1, (timeoutMs + 999) / 1000));
+    }
+
+    public DashboardDTO getDashboard(int size) {
+        PageRequest first = PageRequest.of(0, Math.max(1, Math.min(size, MAX_SECTION_SIZE)));
+        Semaphore connections = new Semaphore(maxConnections);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+
+        Future<DashboardSection<ProjectDTO>> activeProjects = submit(connections, () -> projectSection(
+                projectRepository.findByStatus(Project.ProjectStatus.ACTIVE, first.withSort(Sort.by("deadline", "id")))));
+        Future<DashboardSection<ProjectDTO>> overdueProjects = submit(connections, () -> projectSection(
+                projectRepository.findOverdueProjects(first.withSort(Sort.by("deadline", "id")))));
+        Future<DashboardSection<TaskDTO>> overdueTasks = submit(connections, () -> taskSection(
+                taskRepository.findOverdueTasks(first.withSort(Sort.by("dueDate", "id")))));
+        Future<DashboardSection<TaskDTO>> unassignedTasks = submit(connections, () -> taskSection(
+                taskRepository.findUnassignedTasks(first.withSort(Sort.by("id")))));
+        Future<DashboardSection<DeveloperDTO>> developersWithoutTasks = submit(connections, () -> {
+            Page<Developer> developers = developerRepository.findDevelopersWithoutTasks(first.withSort(Sort.by("id")));
+            return new DashboardSection<>(readModelAssembler.toDeveloperDtos(developers.getContent()), developers.getTotalElements());
+        });
+        // needs the active project ids, so it starts once that section is in; a virtual thread waiting costs nothing
+        Future<List<ProjectTaskStats>> activeProjectStats = executor.submit(() -> {
+            List<Long> ids = activeProjects.get().getItems().stream().map(ProjectDTO::getId).toList();
+            return ids.isEmpty() ? List.of() : inTransaction(connections, () -> taskStatusCounters.stats(ids));
+        });
+
+        DashboardDTO dashboard = new DashboardDTO();
+        collect("activeProjects", activeProjects, deadline, dashboard, dashboard::setActiveProjects);
+        collect("overdueProjects", overdueProjects, deadline, dashboard, dashboard::setOverdueProjects);
+        collect("overdueTasks", overdueTasks, deadline, dashboard, dashboard::setOverdueTasks);
+        collect("unassignedTasks", unassignedTasks, deadline, dashboard, dashboard::setUnassignedTasks);
+        collect("developersWithoutTasks", developersWithoutTasks, deadline, dashboard, dashboard::setDevelopersWithoutTasks);
+        collect("activeProjectStats", activeProjectStats, deadline, dashboard, dashboard::setActiveProjectStats);
+        return dashboard;
+    }
+
+    private DashboardSection<ProjectDTO> projectSection(Page<Project> projects) {
+        return new DashboardSection<>(readModelAssembler.toProjectDtos(projects.getContent()), projects.getTotalElements());
+    }
+
+    private DashboardSection<TaskDTO> taskSection(Page<Task> tasks) {
+        return new DashboardSection<>(readModelAssembler.toTaskDtos(tasks.getContent().stream().map(TaskRow::of).toList()),
+                tasks.getTotalElements());
+    }
+
+    private <T> Future<T> submit(Semaphore connections, Callable<T> query) {
+        return executor.submit(() -> inTransaction(connections, query));
+    }
+
+    private <T> T inTransaction(Semaphore connections, Callable<T> query) throws InterruptedException {
+        connections.acquire();
+        try {
+            return readOnly.execute(status -> {
+                try {
+                    return query.call();
+                } catch (RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            connections.release();
+        }
+    }
+
+    private <T> void collect(String section, Future<T> future, long deadline, DashboardDTO dashboard, Consumer<T> target) {
+        try {
+            target.accept(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            dashboard.getTimedOut().add(section);
+        } catch (ExecutionException e) {
+            logger.warn("Dashboard section {} failed: {}", section, e.getCause().getMessage());
+            dashboard.getFailed().add(section);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            dashboard.getFailed().add(section);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -1,18 +1,24 @@
 package com.tech.service;
 
 import com.tech.dto.CreateDeveloperDTO;
+import com.tech.dto.CursorPage;
+import com.tech.dto.MultiGetResponse;
 import com.tech.dto.DeveloperDTO;
+import com.tech.dto.fields.FieldSet;
 import com.tech.mapper.DeveloperMapper;
 import com.tech.model.Developer;
 import com.tech.repository.DeveloperRepository;
+import com.tech.search.SearchIndexer;
 import org.springframework.cache.annotation.Cacheable;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.*;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,24 +27,45 @@ public class DeveloperService {
     private final DeveloperRepository developerRepository;
     private final DeveloperMapper developerMapper;
     private final AuditLogService auditLogService;
+    private final ReadModelAssembler readModelAssembler;
+    private final PageCounts pageCounts;
+    private final SearchIndexer searchIndexer;
+
+
+    static final String DEVELOPERS_TABLE = "developers";
 
+    static final KeysetScroll DEVELOPER_SCROLL = KeysetScroll.of("developers")
+            .sortKey("name", value -> value)
+            .sortKey("email", value -> value);
+
+    public Slice<DeveloperDTO> getAllDevelopers(Pageable pageable, CountMode countMode, FieldSet fields) {
+        return readModelAssembler.toDeveloperSlice(pageCounts.fetch(countMode, DEVELOPERS_TABLE, null, pageable,
+                developerRepository::findAll, developerRepository::findAllBy, developerRepository::count), fields);
+    }
 
-    public Page<DeveloperDTO> getAllDevelopers(Pageable pageable) {
-        return developerRepository.findAll(pageable)
-                .map((java.util.function.Function<? super Developer, ? extends DeveloperDTO>) developerMapper::toDto);
+    public CursorPage<DeveloperDTO> scrollDevelopers(String sort, String cursor, int size, FieldSet fields) {
+        return DEVELOPER_SCROLL.scroll(sort, cursor, size, developerRepository::findAllBy,
+                developers -> readModelAssembler.toDeveloperDtos(developers, fields));
+    }
+
+    public MultiGetResponse<DeveloperDTO> getDevelopersByIds(List<Long> ids, FieldSet fields) {
+        return MultiGet.load(ids,
+                chunk -> readModelAssembler.toDeveloperDtos(developerRepository.findAllById(chunk), fields), DeveloperDTO::getId);
     }
 
     @Cacheable("developers")
     public DeveloperDTO getDeveloperById(Long id) {
         Developer developer = developerRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Developer not found with id: " + id));
-        return developerMapper.toDto(developer);
+        return readModelAssembler.toDeveloperDtos(List.of(developer)).get(0);
     }
 
     @Transactional
     public DeveloperDTO createDeveloper(CreateDeveloperDTO createDeveloperDTO) {
         Developer developer = developerMapper.toEntity(createDeveloperDTO);
         Developer savedDeveloper = developerRepository.save(developer);
+        searchIndexer.developerSaved(savedDeveloper);
+        pageCounts.invalidate(DEVELOPERS_TABLE);
         DeveloperDTO dto = developerMapper.toDto(savedDeveloper);
         auditLogService.logDeveloperAction("CREATE", dto);
         return dto;
@@ -48,20 +75,27 @@ public class DeveloperService {
     public DeveloperDTO updateDeveloper(Long id, CreateDeveloperDTO updateDeveloperDTO) {
         Developer existingDeveloper = developerRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Developer not found with id: " + id));
+        DeveloperDTO before = developerMapper.toDto(existingDeveloper);
 
         developerMapper.updateEntityFromDto(updateDeveloperDTO, existingDeveloper);
         Developer updatedDeveloper = developerRepository.save(existingDeveloper);
+        searchIndexer.developerSaved(updatedDeveloper);
+        pageCounts.invalidate(DEVELOPERS_TABLE);
         DeveloperDTO dto = developerMapper.toDto(updatedDeveloper);
-        auditLogService.logDeveloperAction("UPDATE", dto);
+        auditLogService.logDeveloperUpdate(before, dto);
         return dto;
     }
 
     @Transactional
     public void deleteDeveloper(Long id) {
-        if (!developerRepository.existsById(id)) {
-            throw new EntityNotFoundException("Developer not found with id: " + id);
-        }
+        Developer developer = developerRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Developer not found with id: " + id));
+        DeveloperDTO dto = developerMapper.toDto(developer);
         developerRepository.deleteById(id);
-        auditLogService.logDeveloperAction("DELETE", new DeveloperDTO());
+        searchIndexer.developerDeleted(id);
+        // the developer's assignments go with it, changing the per-developer task counts
+        pageCounts.invalidate(DEVELOPERS_TABLE);
+        pageCounts.invalidate(TaskService.TASKS_TABLE);
+        auditLogService.logDeveloperAction("DELETE", dto);
     }
 }
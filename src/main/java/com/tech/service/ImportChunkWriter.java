@@ -0,0 +1,308 @@
+package com.tech.service;
+
+import com.tech.dto.CreateDeveloperDTO;
+import com.tech.dto.CreateProjectDTO;
+import com.tech.dto.CreateTaskDTO;
+import com.tech.imports.ImportRow;
+import com.tech.imports.LookupCache;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.ImportJob;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.KeyIdRow;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Writes one chunk of import rows, inside the chunk transaction opened by
+ * {@link ImportService}. Each row is mapped onto the same DTO the REST endpoints
+ * take and validated the same way; rows that fail are returned as errors and the
+ * rest are inserted together, then flushed and cleared from the persistence
+ * context. References are resolved for the whole chunk at once through the run's
+ * {@link Lookups}; tasks point at their project by reference without loading it,
+ * and the chunk's assignees are loaded with one query.
+ *
+ * <p>Columns (CSV header names or NDJSON keys):
+ * <ul>
+ *   <li>projects: name, description, deadline (yyyy-MM-dd), status, externalKey</li>
+ *   <li>developers: name, email, skills</li>
+ *   <li>tasks: title, description, status, dueDate, projectKey (a project's
+ *   externalKey) or project (its name), assignees (emails separated by {@code ;})</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class ImportChunkWriter {
+
+    static final String IMPORT_ACTION = "IMPORT";
+
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectMapper projectMapper;
+    private final DeveloperMapper developerMapper;
+    private final TaskMapper taskMapper;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final AuditLogService auditLogService;
+    private final TaskStatusCounters taskStatusCounters;
+    private final SearchIndexer searchIndexer;
+
+    public record RowError(long rowNumber, String message) {
+    }
+
+    public record ChunkResult(int imported, List<RowError> errors) {
+    }
+
+    /**
+     * Reference caches kept for the length of one import run.
+     */
+    public record Lookups(LookupCache projectKeys, LookupCache projectNames, LookupCache developerEmails) {
+    }
+
+    public Lookups lookups(int capacity) {
+        return new Lookups(
+                new LookupCache(capacity, keys -> toMap(projectRepository.findIdsByExternalKeyIn(keys), (a, b) -> a)),
+                new LookupCache(capacity, names -> toMap(projectRepository.findIdsByNameIn(names), (a, b) -> LookupCache.AMBIGUOUS)),
+                new LookupCache(capacity, emails -> toMap(developerRepository.findIdsByEmailIn(emails), (a, b) -> a)));
+    }
+
+    public ChunkResult write(ImportJob.EntityType type, List<ImportRow> rows, Lookups lookups) {
+        List<RowError> errors = new ArrayList<>();
+        List<ImportRow> readable = new ArrayList<>(rows.size());
+        for (ImportRow row : rows) {
+            if (row.problem() != null) {
+                errors.add(new RowError(row.number(), row.problem()));
+            } else {
+                readable.add(row);
+            }
+        }
+        int imported = switch (type) {
+            case PROJECT -> writeProjects(readable, errors);
+            case DEVELOPER -> writeDevelopers(readable, errors);
+            case TASK -> writeTasks(readable, lookups, errors);
+        };
+        entityManager.flush();
+        entityManager.clear();
+        errors.sort((a, b) -> Long.compare(a.rowNumber(), b.rowNumber()));
+        return new ChunkResult(imported, errors);
+    }
+
+    private int writeProjects(List<ImportRow> rows, List<RowError> errors) {
+        Set<String> keys = rows.stream().map(row -> row.get("externalKey")).filter(key -> key != null).collect(Collectors.toSet());
+        Set<String> taken = keys.isEmpty() ? new HashSet<>()
+                : projectRepository.findIdsByExternalKeyIn(keys).stream().map(KeyIdRow::key).collect(Collectors.toCollection(HashSet::new));
+        List<Project> projects = new ArrayList<>();
+        for (ImportRow row : rows) {
+            try {
+                CreateProjectDTO dto = new CreateProjectDTO();
+                dto.setName(row.get("name"));
+                dto.setDescription(row.get("description"));
+                dto.setDeadline(date(row, "deadline"));
+                dto.setStatus(status(row, Project.ProjectStatus.class));
+                dto.setExternalKey(row.get("externalKey"));
+                validate(dto);
+                if (dto.getExternalKey() != null && !taken.add(dto.getExternalKey())) {
+                    throw new RowException("externalKey " + dto.getExternalKey() + " is already used by another project");
+                }
+                projects.add(projectMapper.toEntity(dto));
+            } catch (RowException e) {
+                errors.add(new RowError(row.number(), e.getMessage()));
+            }
+        }
+        if (!projects.isEmpty()) {
+            projectRepository.saveAll(projects);
+            searchIndexer.projectsSaved(projects);
+            auditLogService.logBulkAction(AuditLogService.ENTITY_PROJECT, IMPORT_ACTION, projects.stream().map(Project::getId).toList());
+        }
+        return projects.size();
+    }
+
+    private int writeDevelopers(List<ImportRow> rows, List<RowError> errors) {
+        Set<String> emails = rows.stream().map(row -> row.get("email")).filter(email -> email != null).collect(Collectors.toSet());
+        Set<String> taken = emails.isEmpty() ? new HashSet<>()
+                : developerRepository.findIdsByEmailIn(emails).stream().map(KeyIdRow::key).collect(Collectors.toCollection(HashSet::new));
+        List<Developer> developers = new ArrayList<>();
+        for (ImportRow row : rows) {
+            try {
+                CreateDeveloperDTO dto = new CreateDeveloperDTO();
+                dto.setName(row.get("name"));
+                dto.setEmail(row.get("email"));
+                dto.setSkills(row.get("skills"));
+                validate(dto);
+                if (!taken.add(dto.getEmail())) {
+                    throw new RowException("email " + dto.getEmail() + " is already used by another developer");
+                }
+                developers.add(developerMapper.toEntity(dto));
+            } catch (RowException e) {
+                errors.add(new RowError(row.number(), e.getMessage()));
+            }
+        }
+        if (!developers.isEmpty()) {
+            developerRepository.saveAll(developers);
+            searchIndexer.developersSaved(developers);
+            auditLogService.logBulkAction(AuditLogService.ENTITY_DEVELOPER, IMPORT_ACTION, developers.stream().map(Developer::getId).toList());
+        }
+        return developers.size();
+    }
+
+    private int writeTasks(List<ImportRow> rows, Lookups lookups, List<RowError> errors) {
+        Set<String> projectKeys = new HashSet<>();
+        Set<String> projectNames = new HashSet<>();
+        Set<String> emails = new HashSet<>();
+        for (ImportRow row : rows) {
+            if (row.get("projectKey") != null) {
+                projectKeys.add(row.get("projectKey"));
+            } else if (row.get("project") != null) {
+                projectNames.add(row.get("project"));
+            }
+            emails.addAll(assignees(row));
+        }
+        Map<String, Long> projectsByKey = lookups.projectKeys().resolve(projectKeys);
+        Map<String, Long> projectsByName = lookups.projectNames().resolve(projectNames);
+        Map<String, Long> developersByEmail = lookups.developerEmails().resolve(emails);
+        // assignees go into a set, so they are loaded (one query for the chunk) rather than referenced
+        Map<Long, Developer> developers = developersByEmail.isEmpty() ? Map.of()
+                : developerRepository.findAllById(new HashSet<>(developersByEmail.values())).stream()
+                        .collect(Collectors.toMap(Developer::getId, developer -> developer));
+
+        List<Task> tasks = new ArrayList<>();
+        Map<Long, Map<Task.TaskStatus, Long>> deltas = new HashMap<>();
+        for (ImportRow row : rows) {
+            try {
+                CreateTaskDTO dto = new CreateTaskDTO();
+                dto.setTitle(row.get("title"));
+                dto.setDescription(row.get("description"));
+                dto.setStatus(status(row, Task.TaskStatus.class));
+                dto.setDueDate(date(row, "dueDate"));
+                dto.setProjectId(projectId(row, projectsByKey, projectsByName));
+                List<Long> developerIds = new ArrayList<>();
+                for (String email : assignees(row)) {
+                    Long developerId = developersByEmail.get(email);
+                    if (developerId == null) {
+                        throw new RowException("No developer with email " + email);
+                    }
+                    developerIds.add(developerId);
+                }
+                dto.setAssignedDeveloperIds(developerIds);
+                validate(dto);
+
+                Task task = taskMapper.toEntity(dto);
+                task.setProject(entityManager.getReference(Project.class, dto.getProjectId()));
+                task.setAssignedDevelopers(developerIds.stream()
+                        .map(developers::get)
+                        .collect(Collectors.toCollection(HashSet::new)));
+                tasks.add(task);
+                deltas.computeIfAbsent(dto.getProjectId(), id -> new HashMap<>()).merge(task.getStatus(), 1L, Long::sum);
+            } catch (RowException e) {
+                errors.add(new RowError(row.number(), e.getMessage()));
+            }
+        }
+        if (!tasks.isEmpty()) {
+            taskRepository.saveAll(tasks);
+            deltas.forEach((projectId, byStatus) -> byStatus.forEach((status, delta) -> taskStatusCounters.adjust(projectId, status, delta)));
+            searchIndexer.tasksSaved(tasks);
+            auditLogService.logBulkAction(AuditLogService.ENTITY_TASK, IMPORT_ACTION, tasks.stream().map(Task::getId).toList());
+        }
+        return tasks.size();
+    }
+
+    private static Long projectId(ImportRow row, Map<String, Long> byKey, Map<String, Long> byName) {
+        String key = row.get("projectKey");
+        if (key != null) {
+            Long id = byKey.get(key);
+            if (id == null) {
+                throw new RowException("No project with externalKey " + key);
+            }
+            return id;
+        }
+        String name = row.get("project");
+        if (name == null) {
+            throw new RowException("projectKey or project is required");
+        }
+        Long id = byName.get(name);
+        if (id == null) {
+            throw new RowException("No project named " + name);
+        }
+        if (id == LookupCache.AMBIGUOUS) {
+            throw new RowException("Several projects are named " + name + "; use projectKey");
+        }
+        return id;
+    }
+
+    private static Set<String> assignees(ImportRow row) {
+        String value = row.get("assignees");
+        if (value == null) {
+            return Set.of();
+        }
+        return Arrays.stream(value.split(";")).map(String::trim).filter(email -> !email.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private static LocalDate date(ImportRow row, String column) {
+        String value = row.get(column);
+        try {
+            return value == null ? null : LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new RowException(column + ": expected a yyyy-MM-dd date, got " + value);
+        }
+    }
+
+    // Unlike the REST mappers, which fall back to the default, an unknown status is rejected
+    private static <E extends Enum<E>> String status(ImportRow row, Class<E> type) {
+        String value = row.get("status");
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.toUpperCase()).name();
+        } catch (IllegalArgumentException e) {
+            throw new RowException("status: unknown value " + value + "; expected one of " + Arrays.toString(type.getEnumConstants()));
+        }
+    }
+
+    private void validate(Object dto) {
+        Set<ConstraintViolation<Object>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            throw new RowException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+        }
+    }
+
+    private static Map<String, Long> toMap(Collection<KeyIdRow> rows, BinaryOperator<Long> onDuplicate) {
+        return rows.stream().collect(Collectors.toMap(KeyIdRow::key, KeyIdRow::id, onDuplicate));
+    }
+
+    // A problem confined to one row; the row is reported and skipped
+    private static class RowException extends RuntimeException {
+        RowException(String message) {
+            super(message, null, false, false);
+        }
+    }
+}
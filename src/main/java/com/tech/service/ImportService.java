@@ -0,0 +1,306 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.dto.CursorPage;
+import com.tech.dto.ImportJobDTO;
+import com.tech.dto.ImportRowErrorDTO;
+import com.tech.exception.InvalidCursorException;
+import com.tech.exception.InvalidQueryException;
+import com.tech.imports.ImportRow;
+import com.tech.imports.RowReader;
+import com.tech.model.ImportJob;
+import com.tech.model.ImportRowError;
+import com.tech.repository.ImportJobRepository;
+import com.tech.repository.ImportRowErrorRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Server-side imports of projects, developers or tasks from a CSV or NDJSON
+ * upload. The upload is spooled to {@code tech.import.dir} and read back as a
+ * stream on a worker thread, {@code tech.import.chunk-size} rows at a time; each
+ * chunk is written by {@link ImportChunkWriter} in its own transaction, together
+ * with its row errors and the job's checkpoint. A job that fails (or is cut short
+ * by a shutdown) therefore resumes after its last committed chunk: failed jobs
+ * through {@link #resume}, interrupted ones automatically at the next startup.
+ *
+ * <p>At most {@code tech.import.max-row-errors} row errors are stored per job;
+ * {@code rowsFailed} keeps counting past that.
+ */
+@Service
+public class ImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ImportService.class);
+
+    public static final int MAX_ERROR_PAGE_SIZE = 1000;
+
+    private final ImportJobRepository importJobRepository;
+    private final ImportRowErrorRepository importRowErrorRepository;
+    private final ImportChunkWriter chunkWriter;
+    private final PageCounts pageCounts;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final int chunkSize;
+    private final int lookupCacheSize;
+    private final int maxRowErrors;
+    private final ExecutorService executor;
+
+    private volatile boolean stopping;
+
+    public ImportService(ImportJobRepository importJobRepository,
+                         ImportRowErrorRepository importRowErrorRepository,
+                         ImportChunkWriter chunkWriter,
+                         PageCounts pageCounts,
+                         TransactionTemplate transactionTemplate,
+                         ObjectMapper objectMapper,
+                         @Value("${tech.import.dir:./import-spool}") String directory,
+                         @Value("${tech.import.chunk-size:1000}") int chunkSize,
+                         @Value("${tech.import.lookup-cache-size:100000}") int lookupCacheSize,
+                         @Value("${tech.import.max-row-errors:10000}") int maxRowErrors,
+                         @Value("${tech.import.workers:1}") int workers) {
+        this.importJobRepository = importJobRepository;
+        this.importRowErrorRepository = importRowErrorRepository;
+        this.chunkWriter = chunkWriter;
+        this.pageCounts = pageCounts;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.directory = Path.of(directory);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.lookupCacheSize = lookupCacheSize;
+        this.maxRowErrors = maxRowErrors;
+        this.executor = Executors.newFixedThreadPool(Math.max(1, workers), Thread.ofVirtual().name("import-", 0).factory());
+    }
+
+    public ImportJobDTO start(String type, String format, MultipartFile file) {
+        ImportJob.EntityType entityType = parse(ImportJob.EntityType.class, type, "import type");
+        ImportJob.Format fileFormat = format != null ? parse(ImportJob.Format.class, format, "import format") : formatOf(file);
+        if (file == null || file.isEmpty()) {
+            throw new InvalidQueryException("The uploaded file is empty");
+        }
+        Path stored = directory.resolve("import-" + UUID.randomUUID() + "." + fileFormat.name().toLowerCase(Locale.ROOT));
+        try {
+            Files.createDirectories(directory);
+            file.transferTo(stored);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store the uploaded file", e);
+        }
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .entityType(entityType)
+                .format(fileFormat)
+                .status(ImportJob.Status.QUEUED)
+                .fileName(file.getOriginalFilename())
+                .storedPath(stored.toString())
+                .createdBy(currentUsername())
+                .createdAt(Instant.now())
+                .build());
+        submit(job.getId());
+        return ImportJobDTO.of(job);
+    }
+
+    public ImportJobDTO getJob(Long id) {
+        return ImportJobDTO.of(findJob(id));
+    }
+
+    public CursorPage<ImportRowErrorDTO> getErrors(Long id, String cursor, int size) {
+        findJob(id);
+        long afterRow = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterRow = Long.parseLong(CursorCodec.decode(cursor, 1).get(0));
+            } catch (NumberFormatException e) {
+                throw new InvalidCursorException("Malformed cursor", e);
+            }
+        }
+        int limit = Math.max(1, Math.min(size, MAX_ERROR_PAGE_SIZE));
+        List<ImportRowError> errors = importRowErrorRepository.findByJobIdAndRowNumberGreaterThanOrderByRowNumber(id, afterRow, Limit.of(limit + 1));
+        boolean hasNext = errors.size() > limit;
+        List<ImportRowError> page = hasNext ? errors.subList(0, limit) : errors;
+        String nextCursor = hasNext ? CursorCodec.encode(String.valueOf(page.get(page.size() - 1).getRowNumber())) : null;
+        return new CursorPage<>(page.stream().map(error -> new ImportRowErrorDTO(error.getRowNumber(), error.getMessage())).toList(),
+                limit, hasNext, nextCursor);
+    }
+
+    /**
+     * Restarts a failed job after its last committed chunk.
+     */
+    public ImportJobDTO resume(Long id) {
+        ImportJob job = findJob(id);
+        if (job.getStatus() != ImportJob.Status.FAILED) {
+            throw new InvalidQueryException("Only failed imports can be resumed; import " + id + " is " + job.getStatus());
+        }
+        if (!Files.exists(Path.of(job.getStoredPath()))) {
+            throw new InvalidQueryException("The upload for import " + id + " is no longer available");
+        }
+        job.setStatus(ImportJob.Status.QUEUED);
+        job.setError(null);
+        job = importJobRepository.save(job);
+        submit(job.getId());
+        return ImportJobDTO.of(job);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterrupted() {
+        for (ImportJob job : importJobRepository.findByStatusInOrderById(List.of(ImportJob.Status.QUEUED, ImportJob.Status.RUNNING))) {
+            logger.info("Resuming import {} after row {}", job.getId(), job.getCheckpointRow());
+            submit(job.getId());
+        }
+    }
+
+    private void submit(Long jobId) {
+        // keeps the caller as the actor of the import's audit events
+        executor.execute(new DelegatingSecurityContextRunnable(() -> run(jobId)));
+    }
+
+    void run(Long jobId) {
+        ImportJob job = importJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+        job.setStatus(ImportJob.Status.RUNNING);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(Instant.now());
+        }
+        job = importJobRepository.save(job);
+        ImportChunkWriter.Lookups lookups = chunkWriter.lookups(lookupCacheSize);
+        try (RowReader reader = RowReader.open(job.getFormat(),
+                Files.newBufferedReader(Path.of(job.getStoredPath()), StandardCharsets.UTF_8), objectMapper)) {
+            // rows up to the checkpoint were committed by an earlier run
+            skip(reader, job.getCheckpointRow());
+            List<ImportRow> chunk = new ArrayList<>(chunkSize);
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                chunk.add(row);
+                if (chunk.size() == chunkSize) {
+                    job = writeChunk(job, chunk, lookups);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                job = writeChunk(job, chunk, lookups);
+            }
+            job.setStatus(ImportJob.Status.COMPLETED);
+            job.setFinishedAt(Instant.now());
+            importJobRepository.save(job);
+            Files.deleteIfExists(Path.of(job.getStoredPath()));
+            logger.info("Import {} completed: {} rows imported, {} rejected", jobId, job.getRowsImported(), job.getRowsFailed());
+        } catch (IOException | RuntimeException e) {
+            if (stopping) {
+                // picked up again by resumeInterrupted at the next startup
+                job.setStatus(ImportJob.Status.QUEUED);
+            } else {
+                logger.warn("Import {} failed after row {}", jobId, job.getCheckpointRow(), e);
+                job.setStatus(ImportJob.Status.FAILED);
+                job.setError(truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName()));
+            }
+            importJobRepository.save(job);
+        } finally {
+            pageCounts.invalidate(table(job.getEntityType()));
+        }
+    }
+
+    private static void skip(RowReader reader, long rows) throws IOException {
+        long skipped = 0;
+        while (skipped < rows && reader.next() != null) {
+            skipped++;
+        }
+    }
+
+    /**
+     * Writes the chunk, its row errors and the new checkpoint in one transaction.
+     * {@code job} is left untouched, so after a failed chunk it still holds the
+     * last committed checkpoint.
+     */
+    private ImportJob writeChunk(ImportJob job, List<ImportRow> chunk, ImportChunkWriter.Lookups lookups) {
+        return transactionTemplate.execute(status -> {
+            ImportChunkWriter.ChunkResult result = chunkWriter.write(job.getEntityType(), chunk, lookups);
+            // loaded after the write, which clears the persistence context
+            ImportJob current = importJobRepository.findById(job.getId()).orElseThrow();
+            long storable = Math.max(0, maxRowErrors - Math.min(current.getRowsFailed(), maxRowErrors));
+            importRowErrorRepository.saveAll(result.errors().stream()
+                    .limit(storable)
+                    .map(error -> ImportRowError.builder()
+                            .jobId(current.getId())
+                            .rowNumber(error.rowNumber())
+                            .message(truncate(error.message()))
+                            .build())
+                    .toList());
+            current.setCheckpointRow(chunk.get(chunk.size() - 1).number());
+            current.setRowsImported(current.getRowsImported() + result.imported());
+            current.setRowsFailed(current.getRowsFailed() + result.errors().size());
+            return current;
+        });
+    }
+
+    private ImportJob findJob(Long id) {
+        return importJobRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Import not found with id: " + id));
+    }
+
+    private static ImportJob.Format formatOf(MultipartFile file) {
+        String name = file == null || file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return ImportJob.Format.CSV;
+        }
+        if (name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+            return ImportJob.Format.NDJSON;
+        }
+        throw new InvalidQueryException("Cannot tell the format of '" + name + "'; pass format=CSV or format=NDJSON");
+    }
+
+    private static <E extends Enum<E>> E parse(Class<E> type, String value, String what) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new InvalidQueryException("Unknown " + what + ": " + value);
+        }
+    }
+
+    private static String table(ImportJob.EntityType type) {
+        return switch (type) {
+            case PROJECT -> ProjectService.PROJECTS_TABLE;
+            case DEVELOPER -> DeveloperService.DEVELOPERS_TABLE;
+            case TASK -> TaskService.TASKS_TABLE;
+        };
+    }
+
+    private static String currentUsername() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null ? authentication.getName() : null;
+    }
+
+    private static String truncate(String message) {
+        return message.length() <= 1000 ? message : message.substring(0, 1000);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        executor.shutdownNow();
+    }
+}
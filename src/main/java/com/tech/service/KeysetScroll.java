@@ -0,0 +1,113 @@
+package com.tech.service;
+
+import com.tech.dto.CursorPage;
+import com.tech.exception.InvalidCursorException;
+import com.tech.exception.InvalidQueryException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Cursor (keyset) mode for the entity list endpoints. Each page seeks past the
+ * last row of the previous one with {@code WHERE (sort_key, id) > (?, ?)} instead
+ * of an OFFSET, so the cost of a page does not depend on how deep it is.
+ *
+ * <p>Only non-null columns may be used as the sort key; a NULL key would drop
+ * rows out of the seek predicate. The cursor records the sort it was issued for
+ * and is rejected if a later request asks for a different one.
+ */
+public final class KeysetScroll {
+
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private static final String ID = "id";
+
+    @FunctionalInterface
+    public interface Query<E> {
+        Window<E> scroll(ScrollPosition position, Sort sort, Limit limit);
+    }
+
+    private final String entityName;
+    private final Map<String, Function<String, Object>> sortKeys = new LinkedHashMap<>();
+
+    private KeysetScroll(String entityName) {
+        this.entityName = entityName;
+        sortKeys.put(ID, Long::valueOf);
+    }
+
+    public static KeysetScroll of(String entityName) {
+        return new KeysetScroll(entityName);
+    }
+
+    /**
+     * Allows {@code property} as a sort key; {@code parser} reads its value back
+     * from a cursor.
+     */
+    public KeysetScroll sortKey(String property, Function<String, Object> parser) {
+        sortKeys.put(property, parser);
+        return this;
+    }
+
+    public <E, T> CursorPage<T> scroll(String sortParam, String cursor, int size,
+                                       Query<E> query, Function<List<E>, List<T>> assembler) {
+        Sort.Order order = parseSort(sortParam);
+        Sort sort = ID.equals(order.getProperty())
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), ID));
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        Window<E> window = query.scroll(position(cursor, order), sort, Limit.of(limit));
+        List<T> content = assembler.apply(window.getContent());
+        String nextCursor = window.hasNext() && !window.isEmpty()
+                ? encode(order, (KeysetScrollPosition) window.positionAt(window.size() - 1))
+                : null;
+        return new CursorPage<>(content, limit, nextCursor != null, nextCursor);
+    }
+
+    private Sort.Order parseSort(String sortParam) {
+        String[] parts = (sortParam == null || sortParam.isBlank() ? ID : sortParam).split(",");
+        String property = parts[0].trim();
+        if (!sortKeys.containsKey(property)) {
+            throw new InvalidQueryException("Cannot page " + entityName + " by cursor sorted on '" + property
+                    + "'; allowed sort keys are " + sortKeys.keySet());
+        }
+        Sort.Direction direction = Sort.Direction.ASC;
+        if (parts.length > 1) {
+            direction = Sort.Direction.fromOptionalString(parts[1].trim())
+                    .orElseThrow(() -> new InvalidQueryException("Unknown sort direction: " + parts[1].trim()));
+        }
+        return new Sort.Order(direction, property);
+    }
+
+    private ScrollPosition position(String cursor, Sort.Order order) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        // [property, direction, sort key value, id]
+        List<String> values = CursorCodec.decode(cursor, 4);
+        if (!order.getProperty().equals(values.get(0)) || !order.getDirection().name().equals(values.get(1))) {
+            throw new InvalidCursorException("Cursor was issued for a different sort", null);
+        }
+        Map<String, Object> keys = new LinkedHashMap<>();
+        try {
+            keys.put(order.getProperty(), sortKeys.get(order.getProperty()).apply(values.get(2)));
+            keys.put(ID, Long.valueOf(values.get(3)));
+        } catch (RuntimeException e) {
+            throw new InvalidCursorException("Malformed cursor", e);
+        }
+        return ScrollPosition.forward(keys);
+    }
+
+    private static String encode(Sort.Order order, KeysetScrollPosition position) {
+        Map<String, Object> keys = position.getKeys();
+        return CursorCodec.encode(order.getProperty(), order.getDirection().name(),
+                String.valueOf(keys.get(order.getProperty())), String.valueOf(keys.get(ID)));
+    }
+}
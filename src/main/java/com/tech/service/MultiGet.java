@@ -0,0 +1,62 @@
+package com.tech.service;
+
+import com.tech.dto.MultiGetResponse;
+import com.tech.exception.InvalidQueryException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Resolves a list of ids with batched {@code IN} queries of at most
+ * {@link #CHUNK_SIZE} ids each, and reports the ids that do not exist.
+ */
+public final class MultiGet {
+
+    public static final int MAX_IDS = 5000;
+    static final int CHUNK_SIZE = 1000;
+
+    private MultiGet() {
+    }
+
+    /**
+     * @param loader loads the DTOs for one chunk of ids, skipping ids that do not exist
+     */
+    public static <T> MultiGetResponse<T> load(List<Long> ids, Function<List<Long>, List<T>> loader, Function<T, Long> idOf) {
+        List<Long> requested = distinct(ids);
+        Map<Long, T> found = new HashMap<>();
+        for (int from = 0; from < requested.size(); from += CHUNK_SIZE) {
+            for (T item : loader.apply(requested.subList(from, Math.min(from + CHUNK_SIZE, requested.size())))) {
+                found.put(idOf.apply(item), item);
+            }
+        }
+
+        List<T> items = new ArrayList<>(found.size());
+        List<Long> missing = new ArrayList<>();
+        for (Long id : requested) {
+            T item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new MultiGetResponse<>(items, missing);
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        List<Long> requested = ids == null ? List.of() : new ArrayList<>(new LinkedHashSet<>(ids));
+        requested.removeIf(Objects::isNull);
+        if (requested.isEmpty()) {
+            throw new InvalidQueryException("At least one id is required");
+        }
+        if (requested.size() > MAX_IDS) {
+            throw new InvalidQueryException("At most " + MAX_IDS + " ids can be requested at once, got " + requested.size());
+        }
+        return requested;
+    }
+}
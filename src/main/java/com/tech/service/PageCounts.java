@@ -0,0 +1,132 @@
+package com.tech.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Applies a {@link CountMode} to a list query. Only {@link CountMode#EXACT} runs
+ * the repository's page query with its COUNT; every other mode fetches a slice
+ * (one extra row to detect a next page) and takes the total from the cache or
+ * from {@code pg_class.reltuples}.
+ */
+@Component
+public class PageCounts {
+
+    private static final Logger logger = LoggerFactory.getLogger(PageCounts.class);
+
+    private record CachedCount(long count, long expiresAtNanos) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long ttlNanos;
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+
+    public PageCounts(JdbcTemplate jdbcTemplate,
+                      @Value("${tech.counts.cache-ttl-ms:30000}") long ttlMs) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttlNanos = ttlMs * 1_000_000;
+    }
+
+    /**
+     * @param table     table whose writes invalidate the cached count, and whose statistics back ESTIMATE
+     * @param predicate stable key of the listing's filter, e.g. {@code "project=4"}; {@code null} when unfiltered
+     */
+    public <T> Slice<T> fetch(CountMode mode, String table, String predicate, Pageable pageable,
+                              Function<Pageable, Page<T>> pageQuery,
+                              Function<Pageable, Slice<T>> sliceQuery,
+                              LongSupplier countQuery) {
+        if (mode == CountMode.EXACT) {
+            return pageQuery.apply(pageable);
+        }
+        Slice<T> slice = sliceQuery.apply(pageable);
+        if (mode == CountMode.NONE) {
+            return slice;
+        }
+        long total = mode == CountMode.ESTIMATE && predicate == null
+                ? estimate(table, countQuery)
+                : cached(table, predicate, countQuery);
+        // PageImpl corrects the total on the last page, where the real count is known
+        return new PageImpl<>(slice.getContent(), pageable, total);
+    }
+
+    /**
+     * Drops every cached count for {@code table}, now and again once the current
+     * transaction commits so a read in between cannot cache the pre-commit count.
+     */
+    public void invalidate(String table) {
+        invalidate(() -> evict(table));
+    }
+
+    /**
+     * Drops only the cached counts of the given listings of {@code table}, e.g.
+     * {@code "project=4"}; a {@code null} predicate stands for the unfiltered
+     * listing. Timed as {@link #invalidate(String)}.
+     */
+    public void invalidate(String table, Collection<String> predicates) {
+        List<String> keys = predicates.stream().map(predicate -> key(table, predicate)).toList();
+        invalidate(() -> keys.forEach(counts::remove));
+    }
+
+    private void invalidate(Runnable eviction) {
+        eviction.run();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    private long cached(String table, String predicate, LongSupplier countQuery) {
+        String key = key(table, predicate);
+        long now = System.nanoTime();
+        CachedCount cached = counts.get(key);
+        if (cached != null && now - cached.expiresAtNanos() < 0) {
+            return cached.count();
+        }
+        long count = countQuery.getAsLong();
+        counts.put(key, new CachedCount(count, now + ttlNanos));
+        return count;
+    }
+
+    private long estimate(String table, LongSupplier countQuery) {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(
+                    "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)", Long.class, table);
+            // -1 (or 0 before PostgreSQL 14) until the table has been vacuumed or analyzed
+            if (estimate != null && estimate > 0) {
+                return estimate;
+            }
+        } catch (DataAccessException e) {
+            logger.debug("Row estimate for {} unavailable: {}", table, e.getMessage());
+        }
+        return cached(table, null, countQuery);
+    }
+
+    private static String key(String table, String predicate) {
+        return table + "|" + (predicate == null ? "" : predicate);
+    }
+
+    private void evict(String table) {
+        counts.keySet().removeIf(key -> key.startsWith(table + "|"));
+    }
+}
@@ -1,17 +1,27 @@
 package com.tech.service;
 
 import com.tech.dto.CreateProjectDTO;
+import com.tech.dto.CursorPage;
+import com.tech.dto.MultiGetResponse;
 import com.tech.dto.ProjectDTO;
+import com.tech.dto.ProjectTaskStats;
+import com.tech.dto.fields.FieldSet;
+import com.tech.exception.InvalidQueryException;
 import com.tech.mapper.ProjectMapper;
 import com.tech.model.Project;
 import com.tech.repository.ProjectRepository;
+import com.tech.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.EnumSet;
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -20,23 +30,91 @@ public class ProjectService {
     private final ProjectRepository projectRepository;
     private final ProjectMapper projectMapper;
     private final AuditLogService auditLogService;
+    private final ReadModelAssembler readModelAssembler;
+    private final TaskStatusCounters taskStatusCounters;
+    private final PageCounts pageCounts;
+    private final SearchIndexer searchIndexer;
 //    private final CreateProjectDTO createProjectDTO;
 
-    public Page<ProjectDTO> getAllProjects(Pageable pageable) {
-        return projectRepository.findAll(pageable)
-                .map(projectMapper::toDto);
+    static final String PROJECTS_TABLE = "projects";
+
+    static final KeysetScroll PROJECT_SCROLL = KeysetScroll.of("projects")
+            .sortKey("name", value -> value)
+            .sortKey("deadline", LocalDate::parse)
+            .sortKey("status", Project.ProjectStatus::valueOf);
+
+    public Slice<ProjectDTO> getAllProjects(Pageable pageable, CountMode countMode, FieldSet fields) {
+        return readModelAssembler.toProjectSlice(pageCounts.fetch(countMode, PROJECTS_TABLE, null, pageable,
+                projectRepository::findAll, projectRepository::findAllBy, projectRepository::count), fields);
     }
 
-    public ProjectDTO getProjectById(Long id) {
+    public ProjectDTO getProjectById(Long id, FieldSet fields) {
         Project project = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
-        return projectMapper.toDto(project);
+        return readModelAssembler.toProjectDtos(List.of(project), fields).get(0);
+    }
+
+    public MultiGetResponse<ProjectDTO> getProjectsByIds(List<Long> ids, FieldSet fields) {
+        return MultiGet.load(ids,
+                chunk -> readModelAssembler.toProjectDtos(projectRepository.findAllById(chunk), fields), ProjectDTO::getId);
+    }
+
+    public ProjectTaskStats getTaskStatistics(Long id) {
+        if (!projectRepository.existsById(id)) {
+            throw new EntityNotFoundException("Project not found with id: " + id);
+        }
+        return taskStatusCounters.stats(id);
+    }
+
+    /**
+     * Task counts by status for many projects from one read of the counters
+     * table; unknown ids come back with zero counts.
+     */
+    public List<ProjectTaskStats> getTaskStatistics(List<Long> ids) {
+        if (ids.isEmpty()) {
+            throw new InvalidQueryException("At least one id is required");
+        }
+        if (ids.size() > MultiGet.MAX_IDS) {
+            throw new InvalidQueryException("At most " + MultiGet.MAX_IDS + " ids can be requested at once, got " + ids.size());
+        }
+        return taskStatusCounters.stats(ids);
+    }
+
+    /**
+     * Cursor mode for the project listing: optionally narrowed to one status or to
+     * overdue projects (deadline passed and neither COMPLETED nor CANCELLED).
+     */
+    public CursorPage<ProjectDTO> scrollProjects(String status, boolean overdue, String sort, String cursor, int size, FieldSet fields) {
+        if (overdue) {
+            return PROJECT_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                    projectRepository.findByDeadlineBeforeAndStatusNotIn(LocalDate.now(),
+                            EnumSet.of(Project.ProjectStatus.COMPLETED, Project.ProjectStatus.CANCELLED), position, order, limit),
+                    projects -> readModelAssembler.toProjectDtos(projects, fields));
+        }
+        if (status != null) {
+            Project.ProjectStatus projectStatus = parseStatus(status);
+            return PROJECT_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                    projectRepository.findByStatus(projectStatus, position, order, limit),
+                    projects -> readModelAssembler.toProjectDtos(projects, fields));
+        }
+        return PROJECT_SCROLL.scroll(sort, cursor, size, projectRepository::findAllBy,
+                projects -> readModelAssembler.toProjectDtos(projects, fields));
+    }
+
+    private static Project.ProjectStatus parseStatus(String status) {
+        try {
+            return Project.ProjectStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueryException("Unknown project status: " + status);
+        }
     }
 
     @Transactional
     public ProjectDTO createProject(CreateProjectDTO createProjectDTO) {
         Project project = projectMapper.toEntity(createProjectDTO);
         Project savedProject = projectRepository.save(project);
+        searchIndexer.projectSaved(savedProject);
+        pageCounts.invalidate(PROJECTS_TABLE);
         ProjectDTO dto = projectMapper.toDto(savedProject);
         auditLogService.logProjectAction("CREATE", dto);
         return dto;
@@ -46,11 +124,14 @@ public class ProjectService {
     public ProjectDTO updateProject(Long id, CreateProjectDTO updateProjectDTO) {
         Project existingProject = projectRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
+        ProjectDTO before = projectMapper.toDto(existingProject);
 
         projectMapper.updateEntityFromDto(updateProjectDTO, existingProject);
         Project updatedProject = projectRepository.save(existingProject);
+        searchIndexer.projectSaved(updatedProject);
+        pageCounts.invalidate(PROJECTS_TABLE);
         ProjectDTO dto = projectMapper.toDto(updatedProject);
-        auditLogService.logProjectAction("UPDATE", dto);
+        auditLogService.logProjectUpdate(before, dto);
         return dto;
     }
 
@@ -60,6 +141,11 @@ public class ProjectService {
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
         ProjectDTO dto = projectMapper.toDto(project);
         projectRepository.deleteById(id);
+        taskStatusCounters.projectDeleted(id);
+        searchIndexer.projectDeleted(id);
+        // deleting a project cascades to its tasks
+        pageCounts.invalidate(PROJECTS_TABLE);
+        pageCounts.invalidate(TaskService.TASKS_TABLE);
         auditLogService.logProjectAction("DELETE", dto);
     }
 }
@@ -0,0 +1,153 @@
+package com.tech.service;
+
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.ProjectDTO;
+import com.tech.dto.TaskDTO;
+import com.tech.dto.fields.FieldSet;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.AssigneeRow;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Builds DTOs for the list and detail endpoints from rows that are already
+ * loaded, fetching each association for the whole page with one {@code IN}
+ * query instead of initialising lazy collections per entity. A page of tasks
+ * costs the row query plus two more (assignees, and the assignees' task ids),
+ * whatever its size; a page of projects or developers costs one more.
+ *
+ * <p>With a {@link FieldSet} the association queries run only for the
+ * associations the client asked for; those left out stay {@code null} and are
+ * not written.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReadModelAssembler {
+
+    private final TaskRepository taskRepository;
+    private final TaskMapper taskMapper;
+    private final ProjectMapper projectMapper;
+    private final DeveloperMapper developerMapper;
+
+    public Slice<TaskDTO> toTaskSlice(Slice<TaskRow> rows) {
+        return toTaskSlice(rows, FieldSet.ALL);
+    }
+
+    public Slice<TaskDTO> toTaskSlice(Slice<TaskRow> rows, FieldSet fields) {
+        return withContent(rows, toTaskDtos(rows.getContent(), fields));
+    }
+
+    public List<TaskDTO> toTaskDtos(List<TaskRow> rows) {
+        return toTaskDtos(rows, FieldSet.ALL);
+    }
+
+    public List<TaskDTO> toTaskDtos(List<TaskRow> rows, FieldSet fields) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        if (!fields.includes("assignedDevelopers")) {
+            return rows.stream().map(row -> taskMapper.toDto(row, null)).toList();
+        }
+        List<AssigneeRow> assignees = taskRepository.findAssigneesByTaskIds(rows.stream().map(TaskRow::id).toList());
+        Set<Long> developerIds = new LinkedHashSet<>();
+        assignees.forEach(assignee -> developerIds.add(assignee.developerId()));
+        boolean withTaskIds = fields.nested("assignedDevelopers").includes("taskIds");
+        Map<Long, List<Long>> taskIdsByDeveloper = developerIds.isEmpty() || !withTaskIds
+                ? Map.of()
+                : group(taskRepository.findTaskIdsByDeveloperIds(developerIds));
+
+        Map<Long, List<DeveloperDTO>> developersByTask = new HashMap<>();
+        for (AssigneeRow assignee : assignees) {
+            List<Long> taskIds = withTaskIds ? taskIdsByDeveloper.getOrDefault(assignee.developerId(), List.of()) : null;
+            developersByTask.computeIfAbsent(assignee.taskId(), id -> new ArrayList<>())
+                    .add(developerMapper.toDto(assignee, taskIds));
+        }
+        return rows.stream()
+                .map(row -> taskMapper.toDto(row, developersByTask.getOrDefault(row.id(), List.of())))
+                .toList();
+    }
+
+    public Slice<ProjectDTO> toProjectSlice(Slice<Project> projects) {
+        return toProjectSlice(projects, FieldSet.ALL);
+    }
+
+    public Slice<ProjectDTO> toProjectSlice(Slice<Project> projects, FieldSet fields) {
+        return withContent(projects, toProjectDtos(projects.getContent(), fields));
+    }
+
+    public List<ProjectDTO> toProjectDtos(List<Project> projects) {
+        return toProjectDtos(projects, FieldSet.ALL);
+    }
+
+    public List<ProjectDTO> toProjectDtos(List<Project> projects, FieldSet fields) {
+        if (projects.isEmpty()) {
+            return List.of();
+        }
+        if (!fields.includes("taskIds")) {
+            return projects.stream().map(project -> projectMapper.toDto(project, null)).toList();
+        }
+        Map<Long, List<Long>> taskIds = group(taskRepository.findTaskIdsByProjectIds(projects.stream().map(Project::getId).toList()));
+        return projects.stream()
+                .map(project -> projectMapper.toDto(project, taskIds.getOrDefault(project.getId(), List.of())))
+                .toList();
+    }
+
+    public Slice<DeveloperDTO> toDeveloperSlice(Slice<Developer> developers) {
+        return toDeveloperSlice(developers, FieldSet.ALL);
+    }
+
+    public Slice<DeveloperDTO> toDeveloperSlice(Slice<Developer> developers, FieldSet fields) {
+        return withContent(developers, toDeveloperDtos(developers.getContent(), fields));
+    }
+
+    public List<DeveloperDTO> toDeveloperDtos(List<Developer> developers) {
+        return toDeveloperDtos(developers, FieldSet.ALL);
+    }
+
+    public List<DeveloperDTO> toDeveloperDtos(List<Developer> developers, FieldSet fields) {
+        if (developers.isEmpty()) {
+            return List.of();
+        }
+        if (!fields.includes("taskIds")) {
+            return developers.stream().map(developer -> developerMapper.toDto(developer, null)).toList();
+        }
+        Map<Long, List<Long>> taskIds = group(taskRepository.findTaskIdsByDeveloperIds(developers.stream().map(Developer::getId).toList()));
+        return developers.stream()
+                .map(developer -> developerMapper.toDto(developer, taskIds.getOrDefault(developer.getId(), List.of())))
+                .toList();
+    }
+
+    // keeps the total when the source is a Page, so count-less slices stay count-less
+    private static <T> Slice<T> withContent(Slice<?> source, List<T> content) {
+        if (source instanceof Page<?> page) {
+            return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+        }
+        return new SliceImpl<>(content, source.getPageable(), source.hasNext());
+    }
+
+    private static Map<Long, List<Long>> group(List<IdPairRow> pairs) {
+        Map<Long, List<Long>> grouped = new HashMap<>();
+        for (IdPairRow pair : pairs) {
+            grouped.computeIfAbsent(pair.ownerId(), id -> new ArrayList<>()).add(pair.taskId());
+        }
+        return grouped;
+    }
+}
@@ -0,0 +1,122 @@
+package com.tech.service;
+
+import com.tech.dto.SearchHitDTO;
+import com.tech.dto.SearchResultDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.search.SearchDocType;
+import com.tech.search.SearchDocuments;
+import com.tech.search.SearchIndex;
+import lombok.RequiredArgsConstructor;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.search.uhighlight.UnifiedHighlighter;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text search over tasks, projects and developers, served from the Lucene
+ * index rather than {@code LIKE '%term%'} scans. The query uses the simple query
+ * syntax (quoted phrases, {@code -term}, {@code prefix*}); every term must match
+ * one of the searched fields. Titles and names weigh twice as much as
+ * descriptions and skills.
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchService {
+
+    public static final int MAX_LIMIT = 50;
+
+    private static final Map<String, Float> WEIGHTS = Map.of(
+            SearchDocuments.TITLE, 2f,
+            SearchDocuments.NAME, 2f,
+            SearchDocuments.DESCRIPTION, 1f,
+            SearchDocuments.SKILLS, 1f);
+
+    private static final String[] HIGHLIGHT_FIELDS = WEIGHTS.keySet().toArray(String[]::new);
+
+    private static final Set<String> STORED_FIELDS = Set.of(SearchDocuments.TYPE, SearchDocuments.ID,
+            SearchDocuments.TITLE, SearchDocuments.NAME);
+
+    private final SearchIndex searchIndex;
+
+    public SearchResultDTO search(String text, List<String> types, int limit) {
+        if (text == null || text.isBlank()) {
+            throw new InvalidQueryException("Search text (q) is required");
+        }
+        Query query = query(text.trim(), parseTypes(types));
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        long started = System.nanoTime();
+        return searchIndex.search(searcher -> {
+            TopDocs top = searcher.search(query, size);
+            Map<String, String[]> highlights = Map.of();
+            if (top.scoreDocs.length > 0) {
+                int[] passages = new int[HIGHLIGHT_FIELDS.length];
+                Arrays.fill(passages, 1);
+                highlights = UnifiedHighlighter.builder(searcher, searchIndex.analyzer())
+                        .withMaxNoHighlightPassages(0)
+                        .build()
+                        .highlightFields(HIGHLIGHT_FIELDS, query, top, passages);
+            }
+            StoredFields storedFields = searcher.storedFields();
+            List<SearchHitDTO> hits = new ArrayList<>(top.scoreDocs.length);
+            for (int i = 0; i < top.scoreDocs.length; i++) {
+                Document document = storedFields.document(top.scoreDocs[i].doc, STORED_FIELDS);
+                SearchDocType type = SearchDocType.valueOf(document.get(SearchDocuments.TYPE));
+                Map<String, String> fragments = new LinkedHashMap<>();
+                for (String field : type.fields()) {
+                    String[] fieldHighlights = highlights.get(field);
+                    if (fieldHighlights != null && fieldHighlights[i] != null) {
+                        fragments.put(field, fieldHighlights[i]);
+                    }
+                }
+                hits.add(new SearchHitDTO(type.name(), document.getField(SearchDocuments.ID).numericValue().longValue(),
+                        document.get(type.labelField()), top.scoreDocs[i].score, fragments));
+            }
+            return new SearchResultDTO(text, top.totalHits.value, top.totalHits.relation == TotalHits.Relation.EQUAL_TO,
+                    (System.nanoTime() - started) / 1_000_000, hits);
+        });
+    }
+
+    private Query query(String text, Set<SearchDocType> types) {
+        SimpleQueryParser parser = new SimpleQueryParser(searchIndex.analyzer(), WEIGHTS);
+        parser.setDefaultOperator(BooleanClause.Occur.MUST);
+        BooleanQuery.Builder query = new BooleanQuery.Builder().add(parser.parse(text), BooleanClause.Occur.MUST);
+        if (types.size() < SearchDocType.values().length) {
+            BooleanQuery.Builder typeFilter = new BooleanQuery.Builder();
+            types.forEach(type -> typeFilter.add(new TermQuery(new Term(SearchDocuments.TYPE, type.name())), BooleanClause.Occur.SHOULD));
+            query.add(typeFilter.build(), BooleanClause.Occur.FILTER);
+        }
+        return query.build();
+    }
+
+    private static Set<SearchDocType> parseTypes(List<String> types) {
+        if (types == null || types.isEmpty()) {
+            return EnumSet.allOf(SearchDocType.class);
+        }
+        EnumSet<SearchDocType> parsed = EnumSet.noneOf(SearchDocType.class);
+        for (String type : types) {
+            try {
+                parsed.add(SearchDocType.valueOf(type.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new InvalidQueryException("Unknown search type: " + type + "; expected one of "
+                        + Arrays.toString(SearchDocType.values()));
+            }
+        }
+        return parsed;
+    }
+}
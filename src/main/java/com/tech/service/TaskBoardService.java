@@ -0,0 +1,96 @@
+package com.tech.service;
+
+import com.tech.dto.BoardColumn;
+import com.tech.dto.BoardDTO;
+import com.tech.dto.TaskDTO;
+import com.tech.exception.InvalidCursorException;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Task;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.BoardRow;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Project boards: the first tasks of every status column plus the column totals
+ * from one windowed query, instead of a page and a count per status. Each
+ * column pages on its own with a cursor holding its status and last task id;
+ * several cursors can be passed to page several columns in the same statement.
+ * Cards carry the task's own fields only, without assignees.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskBoardService {
+
+    public static final int MAX_PER_COLUMN = 100;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TaskMapper taskMapper;
+
+    public BoardDTO getBoard(Long projectId, List<String> cursors, int perColumn) {
+        int limit = Math.max(1, Math.min(perColumn, MAX_PER_COLUMN));
+        Map<Task.TaskStatus, Long> afterIds = afterIds(cursors);
+
+        // one extra row per column tells whether it has a next page
+        List<BoardRow> rows = taskRepository.findBoardRows(projectId, afterIds, limit + 1);
+        if (rows.isEmpty() && (cursors == null || cursors.isEmpty()) && !projectRepository.existsById(projectId)) {
+            throw new EntityNotFoundException("Project not found with id: " + projectId);
+        }
+
+        Map<Task.TaskStatus, List<BoardRow>> byStatus = new EnumMap<>(Task.TaskStatus.class);
+        for (BoardRow row : rows) {
+            byStatus.computeIfAbsent(row.task().status(), status -> new ArrayList<>()).add(row);
+        }
+        List<BoardColumn> columns = new ArrayList<>(afterIds.size());
+        afterIds.forEach((status, afterId) -> columns.add(column(status, afterId, byStatus.getOrDefault(status, List.of()), limit)));
+        return new BoardDTO(projectId, columns);
+    }
+
+    private BoardColumn column(Task.TaskStatus status, long afterId, List<BoardRow> rows, int limit) {
+        boolean hasNext = rows.size() > limit;
+        List<BoardRow> page = hasNext ? rows.subList(0, limit) : rows;
+        List<TaskDTO> tasks = page.stream().map(row -> taskMapper.toDto(row.task(), null)).toList();
+        Long total = !rows.isEmpty() ? Long.valueOf(rows.get(0).columnTotal()) : afterId == 0 ? Long.valueOf(0) : null;
+        String nextCursor = hasNext
+                ? CursorCodec.encode(status.name(), String.valueOf(page.get(page.size() - 1).task().id()))
+                : null;
+        return new BoardColumn(status.name(), total, tasks, hasNext, nextCursor);
+    }
+
+    // every column from the start, or only the columns the cursors were issued for
+    private static Map<Task.TaskStatus, Long> afterIds(List<String> cursors) {
+        Map<Task.TaskStatus, Long> afterIds = new EnumMap<>(Task.TaskStatus.class);
+        if (cursors == null || cursors.isEmpty()) {
+            for (Task.TaskStatus status : Task.TaskStatus.values()) {
+                afterIds.put(status, 0L);
+            }
+            return afterIds;
+        }
+        for (String cursor : cursors) {
+            // [status, last task id]
+            List<String> values = CursorCodec.decode(cursor, 2);
+            Task.TaskStatus status;
+            long afterId;
+            try {
+                status = Task.TaskStatus.valueOf(values.get(0));
+                afterId = Long.parseLong(values.get(1));
+            } catch (RuntimeException e) {
+                throw new InvalidCursorException("Malformed cursor", e);
+            }
+            if (afterIds.put(status, afterId) != null) {
+                throw new InvalidCursorException("More than one cursor for column " + status, null);
+            }
+        }
+        return afterIds;
+    }
+}
@@ -0,0 +1,233 @@
+package com.tech.service;
+
+import com.tech.dto.BulkOperationResult;
+import com.tech.dto.BulkTaskOperationDTO;
+import com.tech.dto.TaskBulkFilterDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.Developer;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.TaskBulkFilter;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.TaskStateRow;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Bulk operations on every task matching a filter, run as set-based UPDATE and
+ * DELETE statements instead of one entity load and save per task. The matching
+ * tasks are walked in id order, {@code tech.bulk.chunk-size} at a time; each chunk
+ * is locked, written, logged as one audit event and committed in its own
+ * transaction, so no lock is held for longer than a chunk. An operation that
+ * fails part-way keeps the chunks already committed; running it again picks up
+ * the tasks that still match.
+ *
+ * <p>Status counters move with each chunk, inside its transaction. Cached page
+ * counts are dropped only for the listings whose totals change: the affected
+ * projects' and assignees' on delete, the old and new assignees' on reassign.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBulkOperationService {
+
+    public static final String SET_STATUS_ACTION = "BULK_SET_STATUS";
+    public static final String SHIFT_DUE_DATE_ACTION = "BULK_SHIFT_DUE_DATE";
+    public static final String REASSIGN_ACTION = "BULK_REASSIGN";
+    public static final String DELETE_ACTION = "BULK_DELETE";
+
+    private final TaskRepository taskRepository;
+    private final DeveloperRepository developerRepository;
+    private final AuditLogService auditLogService;
+    private final TaskStatusCounters taskStatusCounters;
+    private final PageCounts pageCounts;
+    private final SearchIndexer searchIndexer;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${tech.bulk.chunk-size:500}")
+    private int chunkSize = 500;
+
+    private record CounterKey(Long projectId, Task.TaskStatus status) {
+    }
+
+    // rows: the chunk as locked; affected: the ids the action changed
+    private record Chunk(List<TaskStateRow> rows, List<Long> affected) {
+    }
+
+    @FunctionalInterface
+    private interface ChunkAction {
+        List<Long> apply(List<TaskStateRow> rows);
+    }
+
+    public BulkOperationResult updateByFilter(BulkTaskOperationDTO operation) {
+        TaskBulkFilter filter = checkFilter(operation);
+        Map<String, Object> details = details(operation);
+        return switch (operation.getAction()) {
+            case SET_STATUS -> {
+                Task.TaskStatus status = require(operation.getStatus(), "status");
+                details.put("status", status);
+                yield run(SET_STATUS_ACTION, filter, details, rows -> setStatus(rows, status));
+            }
+            case SHIFT_DUE_DATE -> {
+                int days = require(operation.getDays(), "days");
+                details.put("days", days);
+                yield run(SHIFT_DUE_DATE_ACTION, filter, details,
+                        rows -> days == 0 ? List.of() : taskRepository.shiftDueDates(ids(rows), days));
+            }
+            case REASSIGN -> {
+                Set<Long> developerIds = checkDevelopers(require(operation.getDeveloperIds(), "developerIds"));
+                details.put("developerIds", developerIds);
+                yield run(REASSIGN_ACTION, filter, details, rows -> reassign(rows, developerIds));
+            }
+        };
+    }
+
+    public BulkOperationResult deleteByFilter(TaskBulkFilterDTO request) {
+        return run(DELETE_ACTION, checkFilter(request), details(request), this::delete);
+    }
+
+    private BulkOperationResult run(String action, TaskBulkFilter filter, Map<String, Object> details, ChunkAction chunkAction) {
+        int size = Math.max(1, chunkSize);
+        long afterId = 0;
+        int affected = 0;
+        int chunks = 0;
+        while (true) {
+            long from = afterId;
+            Chunk chunk = transactionTemplate.execute(status -> {
+                List<TaskStateRow> rows = taskRepository.lockNextChunk(filter, from, size);
+                List<Long> changed = rows.isEmpty() ? List.of() : chunkAction.apply(rows);
+                if (!changed.isEmpty()) {
+                    auditLogService.logBulkAction(AuditLogService.ENTITY_TASK, action, changed, details);
+                }
+                return new Chunk(rows, changed);
+            });
+            if (chunk.rows().isEmpty()) {
+                break;
+            }
+            afterId = chunk.rows().get(chunk.rows().size() - 1).id();
+            affected += chunk.affected().size();
+            chunks++;
+            if (chunk.rows().size() < size) {
+                break;
+            }
+        }
+        return new BulkOperationResult(action, affected, chunks);
+    }
+
+    private List<Long> setStatus(List<TaskStateRow> rows, Task.TaskStatus status) {
+        List<TaskStateRow> moving = rows.stream().filter(row -> row.status() != status).toList();
+        if (moving.isEmpty()) {
+            return List.of();
+        }
+        taskRepository.updateStatus(ids(moving), status);
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (TaskStateRow row : moving) {
+            deltas.merge(new CounterKey(row.projectId(), row.status()), -1L, Long::sum);
+            deltas.merge(new CounterKey(row.projectId(), status), 1L, Long::sum);
+        }
+        deltas.forEach((key, delta) -> taskStatusCounters.adjust(key.projectId(), key.status(), delta));
+        return ids(moving);
+    }
+
+    private List<Long> reassign(List<TaskStateRow> rows, Set<Long> developerIds) {
+        List<Long> ids = ids(rows);
+        Set<Long> touched = new LinkedHashSet<>(taskRepository.findAssigneeIds(ids));
+        taskRepository.replaceAssignees(ids, developerIds);
+        touched.addAll(developerIds);
+        pageCounts.invalidate(TaskService.TASKS_TABLE, predicates("developer=", touched, Function.identity()));
+        return ids;
+    }
+
+    private List<Long> delete(List<TaskStateRow> rows) {
+        List<Long> ids = ids(rows);
+        List<Long> assignees = taskRepository.findAssigneeIds(ids);
+        taskRepository.deleteTasks(ids);
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        rows.forEach(row -> deltas.merge(new CounterKey(row.projectId(), row.status()), -1L, Long::sum));
+        deltas.forEach((key, delta) -> taskStatusCounters.adjust(key.projectId(), key.status(), delta));
+        searchIndexer.tasksDeleted(ids);
+
+        List<String> listings = new ArrayList<>();
+        listings.add(null);
+        listings.addAll(predicates("project=", rows, TaskStateRow::projectId));
+        listings.addAll(predicates("developer=", assignees, Function.identity()));
+        pageCounts.invalidate(TaskService.TASKS_TABLE, listings);
+        return ids;
+    }
+
+    private TaskBulkFilter checkFilter(TaskBulkFilterDTO request) {
+        TaskBulkFilter filter = request.toFilter();
+        if (filter.matchesEverything()) {
+            throw new InvalidQueryException("A filtered bulk operation needs at least one of projectIds, statuses, assigneeIds, dueFrom or dueTo");
+        }
+        if (filter.dueFrom() != null && filter.dueTo() != null && filter.dueFrom().isAfter(filter.dueTo())) {
+            throw new InvalidQueryException("dueFrom must not be after dueTo");
+        }
+        return filter;
+    }
+
+    private Set<Long> checkDevelopers(Set<Long> developerIds) {
+        Set<Long> found = new LinkedHashSet<>();
+        if (!developerIds.isEmpty()) {
+            developerRepository.findAllById(developerIds).stream().map(Developer::getId).forEach(found::add);
+        }
+        developerIds.stream().filter(id -> !found.contains(id)).findFirst().ifPresent(missing -> {
+            throw new EntityNotFoundException("Developer not found with id: " + missing);
+        });
+        return found;
+    }
+
+    private static <T> T require(T value, String name) {
+        if (value == null) {
+            throw new InvalidQueryException("This action needs '" + name + "'");
+        }
+        return value;
+    }
+
+    // the filter, as recorded in each chunk's audit event
+    private static Map<String, Object> details(TaskBulkFilterDTO request) {
+        TaskBulkFilter filter = request.toFilter();
+        Map<String, Object> criteria = new LinkedHashMap<>();
+        if (!filter.projectIds().isEmpty()) {
+            criteria.put("projectIds", filter.projectIds());
+        }
+        if (!filter.statuses().isEmpty()) {
+            criteria.put("statuses", filter.statuses());
+        }
+        if (!filter.assigneeIds().isEmpty()) {
+            criteria.put("assigneeIds", filter.assigneeIds());
+        }
+        if (filter.dueFrom() != null) {
+            criteria.put("dueFrom", filter.dueFrom().toString());
+        }
+        if (filter.dueTo() != null) {
+            criteria.put("dueTo", filter.dueTo().toString());
+        }
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("filter", criteria);
+        return details;
+    }
+
+    private static List<Long> ids(List<TaskStateRow> rows) {
+        return rows.stream().map(TaskStateRow::id).toList();
+    }
+
+    private static <E> Set<String> predicates(String prefix, Collection<E> values, Function<E, Long> id) {
+        Set<String> predicates = new LinkedHashSet<>();
+        values.forEach(value -> predicates.add(prefix + id.apply(value)));
+        return predicates;
+    }
+}
@@ -0,0 +1,255 @@
+package com.tech.service;
+
+import com.tech.dto.BulkItemResult;
+import com.tech.dto.BulkResponse;
+import com.tech.dto.BulkTaskUpdateDTO;
+import com.tech.dto.CreateTaskDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk create and update of tasks. The whole batch is validated before anything
+ * is written, and the projects and developers it references are loaded with one
+ * query each. Valid items are then written in chunks of {@code tech.bulk.chunk-size}:
+ * each chunk is flushed as JDBC batches (task ids come from a pooled sequence),
+ * logged as one audit event and cleared from the persistence context, so memory
+ * stays flat however large the batch. Status counters are adjusted once per
+ * (project, status) for the whole batch.
+ *
+ * <p>Items that fail validation or reference a missing project, developer or task
+ * are reported in the per-item results and skipped; the rest are written in one
+ * transaction.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskBulkService {
+
+    public static final int MAX_ITEMS = 5000;
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final DeveloperRepository developerRepository;
+    private final TaskMapper taskMapper;
+    private final AuditLogService auditLogService;
+    private final TaskStatusCounters taskStatusCounters;
+    private final PageCounts pageCounts;
+    private final SearchIndexer searchIndexer;
+    private final Validator validator;
+    private final EntityManager entityManager;
+
+    @Value("${tech.bulk.chunk-size:500}")
+    private int chunkSize = 500;
+
+    private record CounterKey(Long projectId, Task.TaskStatus status) {
+    }
+
+    @Transactional
+    public BulkResponse createTasks(List<CreateTaskDTO> items) {
+        BulkItemResult[] results = new BulkItemResult[checkSize(items)];
+        validate(items, results);
+        References references = resolve(items, results);
+
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (List<Integer> chunk : chunks(pending(results))) {
+            List<Task> tasks = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                CreateTaskDTO item = items.get(index);
+                Task task = taskMapper.toEntity(item);
+                task.setProject(references.projects().get(item.getProjectId()));
+                task.setAssignedDevelopers(references.developers(item.getAssignedDeveloperIds()));
+                tasks.add(task);
+            }
+            taskRepository.saveAll(tasks);
+            entityManager.flush();
+            for (int i = 0; i < chunk.size(); i++) {
+                Task task = tasks.get(i);
+                results[chunk.get(i)] = new BulkItemResult(chunk.get(i), task.getId(), HttpStatus.CREATED.value(), null);
+                deltas.merge(new CounterKey(task.getProject().getId(), task.getStatus()), 1L, Long::sum);
+            }
+            endChunk(tasks, "BULK_CREATE");
+        }
+        finish(deltas);
+        return BulkResponse.of(Arrays.asList(results));
+    }
+
+    @Transactional
+    public BulkResponse updateTasks(List<BulkTaskUpdateDTO> items) {
+        BulkItemResult[] results = new BulkItemResult[checkSize(items)];
+        validate(items, results);
+        Set<Long> seen = new HashSet<>();
+        for (int i = 0; i < items.size(); i++) {
+            Long id = items.get(i).getId();
+            if (results[i] == null && !seen.add(id)) {
+                results[i] = failed(i, id, HttpStatus.BAD_REQUEST, "Task " + id + " appears more than once in the batch");
+            }
+        }
+        References references = resolve(items, results);
+
+        Map<CounterKey, Long> deltas = new HashMap<>();
+        for (List<Integer> chunk : chunks(pending(results))) {
+            Map<Long, Task> existing = byId(taskRepository.findAllById(chunk.stream().map(i -> items.get(i).getId()).toList()), Task::getId);
+            // assignees are diffed by id for the whole chunk: no task's assignee set is loaded
+            Map<Long, List<Long>> assignees = new HashMap<>();
+            List<Task> tasks = new ArrayList<>(chunk.size());
+            for (int index : chunk) {
+                BulkTaskUpdateDTO item = items.get(index);
+                Task task = existing.get(item.getId());
+                if (task == null) {
+                    results[index] = failed(index, item.getId(), HttpStatus.NOT_FOUND, "Task not found with id: " + item.getId());
+                    continue;
+                }
+                deltas.merge(new CounterKey(task.getProject().getId(), task.getStatus()), -1L, Long::sum);
+                taskMapper.updateEntityFromDto(item, task);
+                task.setProject(references.projects().get(item.getProjectId()));
+                if (item.getAssignedDeveloperIds() != null) {
+                    assignees.put(task.getId(), item.getAssignedDeveloperIds());
+                }
+                deltas.merge(new CounterKey(task.getProject().getId(), task.getStatus()), 1L, Long::sum);
+                results[index] = new BulkItemResult(index, task.getId(), HttpStatus.OK.value(), null);
+                tasks.add(task);
+            }
+            if (!assignees.isEmpty()) {
+                Assignees.replace(taskRepository, taskRepository.findAssignments(assignees.keySet()), assignees);
+            }
+            entityManager.flush();
+            endChunk(tasks, "BULK_UPDATE");
+        }
+        finish(deltas);
+        return BulkResponse.of(Arrays.asList(results));
+    }
+
+    private int checkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new InvalidQueryException("A bulk request needs at least one item");
+        }
+        if (items.size() > MAX_ITEMS) {
+            throw new InvalidQueryException("A bulk request takes at most " + MAX_ITEMS + " items, got " + items.size());
+        }
+        return items.size();
+    }
+
+    private void validate(List<? extends CreateTaskDTO> items, BulkItemResult[] results) {
+        for (int i = 0; i < items.size(); i++) {
+            CreateTaskDTO item = items.get(i);
+            if (item == null) {
+                results[i] = failed(i, null, HttpStatus.BAD_REQUEST, "Item is empty");
+                continue;
+            }
+            Set<ConstraintViolation<CreateTaskDTO>> violations = validator.validate(item);
+            if (!violations.isEmpty()) {
+                String error = violations.stream()
+                        .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining(", "));
+                results[i] = failed(i, idOf(item), HttpStatus.BAD_REQUEST, error);
+            }
+        }
+    }
+
+    private record References(Map<Long, Project> projects, Map<Long, Developer> developers) {
+
+        Set<Developer> developers(List<Long> ids) {
+            return ids == null ? new HashSet<>() : ids.stream().map(developers::get).collect(Collectors.toCollection(HashSet::new));
+        }
+    }
+
+    /**
+     * Loads every project and developer the still-valid items refer to, one query
+     * each, and fails the items whose references do not exist.
+     */
+    private References resolve(List<? extends CreateTaskDTO> items, BulkItemResult[] results) {
+        Set<Long> projectIds = new LinkedHashSet<>();
+        Set<Long> developerIds = new LinkedHashSet<>();
+        for (int index : pending(results)) {
+            projectIds.add(items.get(index).getProjectId());
+            if (items.get(index).getAssignedDeveloperIds() != null) {
+                items.get(index).getAssignedDeveloperIds().stream().filter(Objects::nonNull).forEach(developerIds::add);
+            }
+        }
+        Map<Long, Project> projects = projectIds.isEmpty() ? Map.of() : byId(projectRepository.findAllById(projectIds), Project::getId);
+        Map<Long, Developer> developers = developerIds.isEmpty() ? Map.of() : byId(developerRepository.findAllById(developerIds), Developer::getId);
+        for (int index : pending(results)) {
+            CreateTaskDTO item = items.get(index);
+            if (!projects.containsKey(item.getProjectId())) {
+                results[index] = failed(index, idOf(item), HttpStatus.NOT_FOUND, "Project not found with id: " + item.getProjectId());
+                continue;
+            }
+            List<Long> assigned = item.getAssignedDeveloperIds() == null ? List.of() : item.getAssignedDeveloperIds();
+            assigned.stream().filter(id -> id == null || !developers.containsKey(id)).findFirst().ifPresent(missing ->
+                    results[index] = failed(index, idOf(item), HttpStatus.NOT_FOUND, "Developer not found with id: " + missing));
+        }
+        return new References(projects, developers);
+    }
+
+    private void endChunk(List<Task> tasks, String action) {
+        if (!tasks.isEmpty()) {
+            searchIndexer.tasksSaved(tasks);
+            auditLogService.logBulkAction(AuditLogService.ENTITY_TASK, action, tasks.stream().map(Task::getId).toList());
+        }
+        entityManager.clear();
+    }
+
+    private void finish(Map<CounterKey, Long> deltas) {
+        deltas.forEach((key, delta) -> taskStatusCounters.adjust(key.projectId(), key.status(), delta));
+        pageCounts.invalidate(TaskService.TASKS_TABLE);
+    }
+
+    private static List<Integer> pending(BulkItemResult[] results) {
+        List<Integer> pending = new ArrayList<>();
+        for (int i = 0; i < results.length; i++) {
+            if (results[i] == null) {
+                pending.add(i);
+            }
+        }
+        return pending;
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        int size = Math.max(1, chunkSize);
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < indexes.size(); from += size) {
+            chunks.add(indexes.subList(from, Math.min(from + size, indexes.size())));
+        }
+        return chunks;
+    }
+
+    private static Long idOf(CreateTaskDTO item) {
+        return item instanceof BulkTaskUpdateDTO update ? update.getId() : null;
+    }
+
+    private static BulkItemResult failed(int index, Long id, HttpStatus status, String error) {
+        return new BulkItemResult(index, id, status.value(), error);
+    }
+
+    private static <E> Map<Long, E> byId(Collection<E> entities, Function<E, Long> id) {
+        return entities.stream().collect(Collectors.toMap(id, entity -> entity));
+    }
+}
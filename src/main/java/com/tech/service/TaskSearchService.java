@@ -0,0 +1,105 @@
+package com.tech.service;
+
+import com.tech.dto.TaskDTO;
+import com.tech.dto.TaskFacets;
+import com.tech.dto.TaskSearchResponse;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.Task;
+import com.tech.repository.TaskFilter;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.TaskSearchRepository;
+import com.tech.repository.projection.FacetCountRow;
+import com.tech.repository.projection.TaskRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Filtered task search. The page comes from a Specification query; the facet
+ * counts, when asked for, come from one GROUPING SETS query over the same filter,
+ * so they add a single round trip however many values each facet has.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class TaskSearchService {
+
+    private final TaskRepository taskRepository;
+    private final ReadModelAssembler readModelAssembler;
+
+    public TaskSearchResponse search(List<String> statuses, Set<Long> projectIds, Set<Long> assigneeIds,
+                                     List<String> dueBuckets, String text, Pageable pageable, boolean facets) {
+        TaskFilter filter = new TaskFilter(parse(statuses, Task.TaskStatus.class, "task status"), projectIds, assigneeIds,
+                parse(dueBuckets, TaskFilter.DueBucket.class, "due-date bucket"), text, LocalDate.now());
+        return search(filter, pageable, facets);
+    }
+
+    public TaskSearchResponse search(TaskFilter filter, Pageable pageable, boolean facets) {
+        Page<Task> tasks = taskRepository.findAll(filter.toSpecification(), pageable);
+        List<TaskDTO> content = readModelAssembler.toTaskDtos(tasks.getContent().stream().map(TaskRow::of).toList());
+        Page<TaskDTO> results = new PageImpl<>(content, tasks.getPageable(), tasks.getTotalElements());
+        return new TaskSearchResponse(results, facets ? toFacets(taskRepository.findFacetCounts(filter)) : null);
+    }
+
+    static TaskFacets toFacets(List<FacetCountRow> rows) {
+        TaskFacets facets = new TaskFacets();
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            facets.getStatus().put(status.name(), 0L);
+        }
+        for (TaskFilter.DueBucket bucket : TaskFilter.DueBucket.values()) {
+            facets.getDueDate().put(bucket.name(), 0L);
+        }
+        List<FacetCountRow> byCount = rows.stream().sorted(Comparator.comparingLong(FacetCountRow::count).reversed()).toList();
+        for (FacetCountRow row : byCount) {
+            switch (row.facet()) {
+                case TaskSearchRepository.STATUS_FACET -> {
+                    if (row.value() != null) {
+                        facets.getStatus().put(row.value(), row.count());
+                    }
+                }
+                case TaskSearchRepository.PROJECT_FACET -> {
+                    if (row.value() != null) {
+                        facets.getProject().put(Long.valueOf(row.value()), row.count());
+                    }
+                }
+                case TaskSearchRepository.ASSIGNEE_FACET -> {
+                    if (row.value() == null) {
+                        facets.setUnassigned(row.count());
+                    } else {
+                        facets.getAssignee().put(Long.valueOf(row.value()), row.count());
+                    }
+                }
+                case TaskSearchRepository.DUE_DATE_FACET -> facets.getDueDate().put(row.value(), row.count());
+                default -> throw new IllegalStateException("Unknown facet: " + row.facet());
+            }
+        }
+        return facets;
+    }
+
+    private static <E extends Enum<E>> Set<E> parse(List<String> values, Class<E> type, String what) {
+        if (values == null || values.isEmpty()) {
+            return Set.of();
+        }
+        Map<String, E> byName = EnumSet.allOf(type).stream().collect(Collectors.toMap(Enum::name, value -> value));
+        EnumSet<E> parsed = EnumSet.noneOf(type);
+        for (String value : values) {
+            E constant = byName.get(value.trim().toUpperCase());
+            if (constant == null) {
+                throw new InvalidQueryException("Unknown " + what + ": " + value + "; expected one of " + byName.keySet());
+            }
+            parsed.add(constant);
+        }
+        return parsed;
+    }
+}
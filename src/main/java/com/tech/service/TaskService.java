@@ -1,7 +1,14 @@
 package com.tech.service;
 
+import com.tech.dto.BatchAssignRequest;
+import com.tech.dto.BatchAssignResult;
 import com.tech.dto.CreateTaskDTO;
+import com.tech.dto.CursorPage;
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.MultiGetResponse;
 import com.tech.dto.TaskDTO;
+import com.tech.dto.fields.FieldSet;
+import com.tech.exception.InvalidQueryException;
 import com.tech.mapper.TaskMapper;
 import com.tech.model.Developer;
 import com.tech.model.Project;
@@ -9,14 +16,23 @@ import com.tech.model.Task;
 import com.tech.repository.DeveloperRepository;
 import com.tech.repository.ProjectRepository;
 import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskRow;
+import com.tech.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,26 +44,91 @@ public class TaskService {
     private final DeveloperRepository developerRepository;
     private final TaskMapper taskMapper;
     private final AuditLogService auditLogService;
+    private final ReadModelAssembler readModelAssembler;
+    private final PageCounts pageCounts;
+    private final TaskStatusCounters taskStatusCounters;
+    private final SearchIndexer searchIndexer;
 
-    public Page<TaskDTO> getAllTasks(Pageable pageable) {
-        return taskRepository.findAll(pageable)
-                .map(taskMapper::toDto);
+    static final String TASKS_TABLE = "tasks";
+
+    public static final String ASSIGN_ACTION = "ASSIGN_DEVELOPER";
+    public static final String UNASSIGN_ACTION = "UNASSIGN_DEVELOPER";
+    public static final String BULK_ASSIGN_ACTION = "BULK_ASSIGN";
+    public static final int MAX_ASSIGNMENTS = TaskBulkService.MAX_ITEMS;
+
+    static final KeysetScroll TASK_SCROLL = KeysetScroll.of("tasks")
+            .sortKey("title", value -> value)
+            .sortKey("status", Task.TaskStatus::valueOf);
+
+    public Slice<TaskDTO> getAllTasks(Pageable pageable, CountMode countMode, FieldSet fields) {
+        return readModelAssembler.toTaskSlice(pageCounts.fetch(countMode, TASKS_TABLE, null, pageable,
+                taskRepository::findTaskRows, taskRepository::sliceTaskRows, taskRepository::count), fields);
     }
 
-    public TaskDTO getTaskById(Integer id) {
-        Task task = taskRepository.findById(Long.valueOf(id))
+    public TaskDTO getTaskById(Integer id, FieldSet fields) {
+        TaskRow task = taskRepository.findTaskRowById(Long.valueOf(id))
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
-        return taskMapper.toDto(task);
+        return readModelAssembler.toTaskDtos(List.of(task), fields).get(0);
+    }
+
+    public MultiGetResponse<TaskDTO> getTasksByIds(List<Long> ids, FieldSet fields) {
+        return MultiGet.load(ids,
+                chunk -> readModelAssembler.toTaskDtos(taskRepository.findTaskRowsByIdIn(chunk), fields), TaskDTO::getId);
     }
 
-    public Page<TaskDTO> getTasksByProjectId(Integer projectId, Pageable pageable) {
-        return taskRepository.findByProjectId(Long.valueOf(projectId), pageable)
-                .map(taskMapper::toDto);
+    public Slice<TaskDTO> getTasksByProjectId(Integer projectId, Pageable pageable, CountMode countMode, FieldSet fields) {
+        Long id = Long.valueOf(projectId);
+        return readModelAssembler.toTaskSlice(pageCounts.fetch(countMode, TASKS_TABLE, "project=" + id, pageable,
+                page -> taskRepository.findTaskRowsByProjectId(id, page),
+                page -> taskRepository.sliceTaskRowsByProjectId(id, page),
+                () -> taskRepository.countByProjectId(id)), fields);
+    }
+
+    public Slice<TaskDTO> getTasksByDeveloperId(Integer developerId, Pageable pageable, CountMode countMode, FieldSet fields) {
+        Long id = Long.valueOf(developerId);
+        return readModelAssembler.toTaskSlice(pageCounts.fetch(countMode, TASKS_TABLE, "developer=" + id, pageable,
+                page -> taskRepository.findTaskRowsByDeveloperId(id, page),
+                page -> taskRepository.sliceTaskRowsByDeveloperId(id, page),
+                () -> taskRepository.countByAssignedDevelopersId(id)), fields);
+    }
+
+    /**
+     * Cursor mode for the task listings: optionally narrowed to one status or to
+     * overdue tasks (due before today and not DONE).
+     */
+    public CursorPage<TaskDTO> scrollTasks(String status, boolean overdue, String sort, String cursor, int size, FieldSet fields) {
+        if (overdue) {
+            return TASK_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                    taskRepository.findByDueDateBeforeAndStatusNot(LocalDate.now(), Task.TaskStatus.DONE, position, order, limit), tasks -> toTaskDtos(tasks, fields));
+        }
+        if (status != null) {
+            Task.TaskStatus taskStatus = parseStatus(status);
+            return TASK_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                    taskRepository.findByStatus(taskStatus, position, order, limit), tasks -> toTaskDtos(tasks, fields));
+        }
+        return TASK_SCROLL.scroll(sort, cursor, size, taskRepository::findAllBy, tasks -> toTaskDtos(tasks, fields));
     }
 
-    public Page<TaskDTO> getTasksByDeveloperId(Integer developerId, Pageable pageable) {
-        return taskRepository.findByAssignedDevelopersId(Long.valueOf(developerId), pageable)
-                .map(taskMapper::toDto);
+    public CursorPage<TaskDTO> scrollTasksByProjectId(Long projectId, String sort, String cursor, int size, FieldSet fields) {
+        return TASK_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                taskRepository.findByProjectId(projectId, position, order, limit), tasks -> toTaskDtos(tasks, fields));
+    }
+
+    public CursorPage<TaskDTO> scrollTasksByDeveloperId(Long developerId, String sort, String cursor, int size, FieldSet fields) {
+        return TASK_SCROLL.scroll(sort, cursor, size, (position, order, limit) ->
+                taskRepository.findByAssignedDevelopersId(developerId, position, order, limit), tasks -> toTaskDtos(tasks, fields));
+    }
+
+    private List<TaskDTO> toTaskDtos(List<Task> tasks, FieldSet fields) {
+        return readModelAssembler.toTaskDtos(tasks.stream().map(TaskRow::of).toList(), fields);
+    }
+
+    private static Task.TaskStatus parseStatus(String status) {
+        try {
+            return Task.TaskStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidQueryException("Unknown task status: " + status);
+        }
     }
 
     @Transactional
@@ -60,10 +141,13 @@ public class TaskService {
 
         if (createTaskDTO.getAssignedDeveloperIds() != null && !createTaskDTO.getAssignedDeveloperIds().isEmpty()) {
             List<Developer> developers = developerRepository.findAllById(createTaskDTO.getAssignedDeveloperIds());
-            task.setAssignedDevelopers(developers);
+            task.setAssignedDevelopers(new HashSet<>(developers));
         }
 
         Task savedTask = taskRepository.save(task);
+        taskStatusCounters.taskCreated(project.getId(), savedTask.getStatus());
+        searchIndexer.taskSaved(savedTask);
+        pageCounts.invalidate(TASKS_TABLE);
         TaskDTO taskDTO = taskMapper.toDto(savedTask);
         auditLogService.logTaskAction("CREATE", taskDTO);
         return taskDTO;
@@ -73,44 +157,144 @@ public class TaskService {
     public TaskDTO updateTask(Integer id, CreateTaskDTO updateTaskDTO) {
         Task existingTask = taskRepository.findById(Long.valueOf(id))
                 .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        // assignees are read and written by id: the task's assignee set is never loaded
+        List<Long> assigneesBefore = taskRepository.findAssigneeIds(List.of(existingTask.getId()));
+        TaskDTO before = taskMapper.toDto(TaskRow.of(existingTask), developerRefs(assigneesBefore));
+        Long projectBefore = existingTask.getProject() != null ? existingTask.getProject().getId() : null;
+        Task.TaskStatus statusBefore = existingTask.getStatus();
 
         taskMapper.updateEntityFromDto(updateTaskDTO, existingTask);
+        Task updatedTask = taskRepository.save(existingTask);
 
         if (updateTaskDTO.getAssignedDeveloperIds() != null) {
-            List<Developer> developers = developerRepository.findAllById(updateTaskDTO.getAssignedDeveloperIds());
-            existingTask.setAssignedDevelopers(developers);
+            Assignees.replace(taskRepository, updatedTask.getId(), assigneesBefore, updateTaskDTO.getAssignedDeveloperIds());
         }
 
-        Task updatedTask = taskRepository.save(existingTask);
-        TaskDTO taskDTO = taskMapper.toDto(updatedTask);
-        auditLogService.logTaskAction("UPDATE", taskDTO);
+        taskStatusCounters.taskMoved(projectBefore, statusBefore,
+                updatedTask.getProject() != null ? updatedTask.getProject().getId() : null, updatedTask.getStatus());
+        searchIndexer.taskSaved(updatedTask);
+        pageCounts.invalidate(TASKS_TABLE);
+        TaskDTO taskDTO = readModelAssembler.toTaskDtos(List.of(TaskRow.of(updatedTask))).get(0);
+        auditLogService.logTaskUpdate(before, taskDTO);
         return taskDTO;
     }
 
+    // the audit snapshot records assignees by id, so id-only references compare equal to full DTOs
+    private static List<DeveloperDTO> developerRefs(List<Long> developerIds) {
+        return developerIds.stream().sorted().map(developerId -> {
+            DeveloperDTO developer = new DeveloperDTO();
+            developer.setId(developerId);
+            return developer;
+        }).toList();
+    }
+
     @Transactional
     public void deleteTask(Integer id) {
-        if (!taskRepository.existsById(Long.valueOf(id))) {
-            throw new EntityNotFoundException("Task not found with id: " + id);
-        }
+        Task task = taskRepository.findById(Long.valueOf(id))
+                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + id));
+        TaskDTO taskDTO = taskMapper.toDto(task);
 
         taskRepository.deleteById(Long.valueOf(id));
-        auditLogService.logTaskAction("DELETE", new TaskDTO());
-
+        taskStatusCounters.taskDeleted(taskDTO.getProjectId(), task.getStatus());
+        searchIndexer.taskDeleted(task.getId());
+        pageCounts.invalidate(TASKS_TABLE);
+        auditLogService.logTaskAction("DELETE", taskDTO);
     }
 
+    /**
+     * Assigns the developer and returns the task; assigning a developer twice is
+     * a no-op.
+     */
     @Transactional
     public TaskDTO assignDeveloperToTask(Integer taskId, Integer developerId) {
-        Task task = taskRepository.findById(Long.valueOf(taskId))
-                .orElseThrow(() -> new EntityNotFoundException("Task not found with id: " + taskId));
+        addAssignee(Long.valueOf(taskId), Long.valueOf(developerId));
+        return getTaskById(taskId, FieldSet.ALL);
+    }
 
-        Developer developer = developerRepository.findById(Long.valueOf(developerId))
-                .orElseThrow(() -> new EntityNotFoundException("Developer not found with id: " + developerId));
+    /**
+     * Adds one assignee with a single join-table insert, without loading the
+     * task's other assignees.
+     *
+     * @return false if the developer was already assigned
+     */
+    @Transactional
+    public boolean addAssignee(Long taskId, Long developerId) {
+        if (taskRepository.addAssignee(taskId, developerId) == 0) {
+            requireTaskAndDeveloper(taskId, developerId);
+            return false;
+        }
+        assigneesChanged(developerId);
+        auditLogService.logTaskAssignment(ASSIGN_ACTION, taskId, developerId);
+        return true;
+    }
 
-        if (!task.getAssignedDevelopers().contains(developer)) {
-            task.getAssignedDevelopers().add(developer);
-            taskRepository.save(task);
+    /**
+     * Removes one assignee with a single join-table delete.
+     *
+     * @return false if the developer was not assigned
+     */
+    @Transactional
+    public boolean removeAssignee(Long taskId, Long developerId) {
+        if (taskRepository.removeAssignee(taskId, developerId) == 0) {
+            requireTaskAndDeveloper(taskId, developerId);
+            return false;
         }
+        assigneesChanged(developerId);
+        auditLogService.logTaskAssignment(UNASSIGN_ACTION, taskId, developerId);
+        return true;
+    }
+
+    /**
+     * Assigns every requested developer to every requested task with one
+     * insert that skips pairs already assigned, so it is idempotent and safe to
+     * run alongside other assigns. Ids that do not exist are reported, not
+     * rejected.
+     */
+    @Transactional
+    public BatchAssignResult assignDevelopers(BatchAssignRequest request) {
+        Set<Long> taskIds = request.getTaskIds();
+        Set<Long> developerIds = request.getDeveloperIds();
+        long pairs = (long) taskIds.size() * developerIds.size();
+        if (pairs > MAX_ASSIGNMENTS) {
+            throw new InvalidQueryException("A batch assign takes at most " + MAX_ASSIGNMENTS + " task-developer pairs, got " + pairs);
+        }
+        List<Long> missingTasks = missing(taskIds, taskRepository.findIdsByIdIn(taskIds));
+        List<Long> missingDevelopers = missing(developerIds, developerRepository.findIdsByIdIn(developerIds));
+        int existing = (taskIds.size() - missingTasks.size()) * (developerIds.size() - missingDevelopers.size());
+        if (existing == 0) {
+            return new BatchAssignResult(0, 0, missingTasks, missingDevelopers);
+        }
+
+        List<IdPairRow> inserted = taskRepository.assignAll(taskIds, developerIds);
+        if (!inserted.isEmpty()) {
+            Set<Long> changedTasks = new LinkedHashSet<>();
+            Set<Long> changedDevelopers = new LinkedHashSet<>();
+            inserted.forEach(pair -> {
+                changedTasks.add(pair.taskId());
+                changedDevelopers.add(pair.ownerId());
+            });
+            pageCounts.invalidate(TASKS_TABLE, changedDevelopers.stream().map(id -> "developer=" + id).toList());
+            auditLogService.logBulkAction(AuditLogService.ENTITY_TASK, BULK_ASSIGN_ACTION, List.copyOf(changedTasks),
+                    Map.of("developerIds", changedDevelopers));
+        }
+        return new BatchAssignResult(inserted.size(), existing - inserted.size(), missingTasks, missingDevelopers);
+    }
+
+    private static List<Long> missing(Collection<Long> requested, Collection<Long> found) {
+        Set<Long> present = new HashSet<>(found);
+        return requested.stream().filter(id -> !present.contains(id)).toList();
+    }
+
+    private void requireTaskAndDeveloper(Long taskId, Long developerId) {
+        if (!taskRepository.existsById(taskId)) {
+            throw new EntityNotFoundException("Task not found with id: " + taskId);
+        }
+        if (!developerRepository.existsById(developerId)) {
+            throw new EntityNotFoundException("Developer not found with id: " + developerId);
+        }
+    }
 
-        return taskMapper.toDto(task);
+    private void assigneesChanged(Long developerId) {
+        pageCounts.invalidate(TASKS_TABLE, List.of("developer=" + developerId));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package com.tech.service;
+
+import com.tech.dto.ProjectTaskStats;
+import com.tech.model.Task;
+import com.tech.model.TaskStatusCounter;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.TaskStatusCounterRepository;
+import com.tech.repository.projection.StatusCountRow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per-project task counts by status, kept in {@code task_status_counters} so the
+ * statistics reads are primary-key lookups instead of a GROUP BY over tasks.
+ *
+ * <p>Task writes apply +1/-1 deltas with {@code INSERT ... ON CONFLICT DO UPDATE}
+ * inside their own transaction, so a rollback takes the delta with it. A
+ * scheduled job recounts each project and overwrites any drifted counter (rows
+ * written outside {@link TaskService}, e.g. by hand or by the seed data). A
+ * per-project advisory lock keeps the recount and concurrent deltas from
+ * interleaving: deltas share it, the recount holds it exclusively.
+ */
+@Component
+public class TaskStatusCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(TaskStatusCounters.class);
+
+    // First key of the two-int advisory lock, reserved for the counters
+    static final int LOCK_CLASS = 0x7453_4301;
+
+    private final TaskStatusCounterRepository counterRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public TaskStatusCounters(TaskStatusCounterRepository counterRepository,
+                              TaskRepository taskRepository,
+                              ProjectRepository projectRepository,
+                              TransactionTemplate transactionTemplate) {
+        this.counterRepository = counterRepository;
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    public void taskCreated(Long projectId, Task.TaskStatus status) {
+        adjust(projectId, status, 1);
+    }
+
+    public void taskDeleted(Long projectId, Task.TaskStatus status) {
+        adjust(projectId, status, -1);
+    }
+
+    public void taskMoved(Long fromProjectId, Task.TaskStatus fromStatus, Long toProjectId, Task.TaskStatus toStatus) {
+        if (Objects.equals(fromProjectId, toProjectId) && fromStatus == toStatus) {
+            return;
+        }
+        adjust(fromProjectId, fromStatus, -1);
+        adjust(toProjectId, toStatus, 1);
+    }
+
+    /**
+     * Must run inside the transaction that wrote the task.
+     */
+    public void adjust(Long projectId, Task.TaskStatus status, long delta) {
+        if (projectId == null || status == null || delta == 0) {
+            return;
+        }
+        counterRepository.addDelta(LOCK_CLASS, lockKey(projectId), projectId, status.name(), delta);
+    }
+
+    public void projectDeleted(Long projectId) {
+        counterRepository.deleteByProjectId(projectId);
+    }
+
+    public ProjectTaskStats stats(Long projectId) {
+        return stats(List.of(projectId)).get(0);
+    }
+
+    /**
+     * Stats for each project in the order given; ids without counters (no
+     * tasks, or no such project) come back as all zeros.
+     */
+    public List<ProjectTaskStats> stats(Collection<Long> projectIds) {
+        Map<Long, Map<Task.TaskStatus, Long>> byProject = new HashMap<>();
+        for (TaskStatusCounter counter : counterRepository.findByProjectIdIn(projectIds)) {
+            byProject.computeIfAbsent(counter.getProjectId(), id -> new EnumMap<>(Task.TaskStatus.class))
+                    .put(counter.getStatus(), counter.getTaskCount());
+        }
+        return projectIds.stream()
+                .distinct()
+                .map(id -> toStats(id, byProject.getOrDefault(id, Map.of())))
+                .toList();
+    }
+
+    private static ProjectTaskStats toStats(Long projectId, Map<Task.TaskStatus, Long> counts) {
+        Map<String, Long> countsByStatus = new LinkedHashMap<>();
+        long total = 0;
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            long count = counts.getOrDefault(status, 0L);
+            countsByStatus.put(status.name(), count);
+            total += count;
+        }
+        return new ProjectTaskStats(projectId, countsByStatus, total);
+    }
+
+    /**
+     * Recounts every project, one short transaction each, and drops counters of
+     * deleted projects.
+     *
+     * @return the number of counters that had drifted
+     */
+    @Scheduled(cron = "${tech.counters.reconcile-cron:0 */15 * * * *}")
+    public int reconcileAll() {
+        int drifted = 0;
+        for (Long projectId : projectRepository.findAllIds()) {
+            try {
+                Integer repaired = transactionTemplate.execute(status -> reconcile(projectId));
+                drifted += repaired != null ? repaired : 0;
+            } catch (RuntimeException e) {
+                logger.warn("Task status counter reconciliation failed for project {}: {}", projectId, e.getMessage());
+            }
+        }
+        Integer orphans = transactionTemplate.execute(status -> counterRepository.deleteOrphans());
+        if (drifted > 0 || (orphans != null && orphans > 0)) {
+            logger.info("Task status counters reconciled: {} drifted, {} orphaned removed", drifted, orphans);
+        }
+        return drifted;
+    }
+
+    int reconcile(Long projectId) {
+        counterRepository.lockExclusive(LOCK_CLASS, lockKey(projectId));
+        Map<Task.TaskStatus, Long> actual = new EnumMap<>(Task.TaskStatus.class);
+        for (StatusCountRow row : taskRepository.countByStatusForProject(projectId)) {
+            actual.put(row.status(), row.count());
+        }
+        Map<Task.TaskStatus, Long> stored = new EnumMap<>(Task.TaskStatus.class);
+        for (TaskStatusCounter counter : counterRepository.findByProjectId(projectId)) {
+            stored.put(counter.getStatus(), counter.getTaskCount());
+        }
+        int drifted = 0;
+        for (Task.TaskStatus status : Task.TaskStatus.values()) {
+            long expected = actual.getOrDefault(status, 0L);
+            Long current = stored.get(status);
+            if (current == null ? expected != 0 : current != expected) {
+                counterRepository.setCount(projectId, status.name(), expected);
+                drifted++;
+            }
+        }
+        return drifted;
+    }
+
+    // Ids beyond the int range share a key with a lower one, which only serializes them with each other
+    private static int lockKey(Long projectId) {
+        return Long.hashCode(projectId);
+    }
+}
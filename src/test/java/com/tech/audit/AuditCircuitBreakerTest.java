@@ -0,0 +1,47 @@
+package com.tech.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditCircuitBreaker Unit Tests")
+class AuditCircuitBreakerTest {
+
+    @Test
+    @DisplayName("Should open after consecutive failures and reject requests")
+    void onFailure_shouldOpen_afterThreshold() {
+        AuditCircuitBreaker breaker = new AuditCircuitBreaker(2, 1000, 60_000);
+
+        breaker.onFailure();
+        assertTrue(breaker.allowRequest());
+        breaker.onFailure();
+
+        assertEquals(AuditCircuitBreaker.State.OPEN, breaker.getState());
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Slow successful calls should count as failures")
+    void onSuccess_shouldOpen_whenCallsAreSlow() {
+        AuditCircuitBreaker breaker = new AuditCircuitBreaker(1, 100, 60_000);
+
+        breaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(500));
+
+        assertFalse(breaker.allowRequest());
+    }
+
+    @Test
+    @DisplayName("Should let a trial call through after the open period and close on success")
+    void allowRequest_shouldHalfOpen_afterOpenPeriod() {
+        AuditCircuitBreaker breaker = new AuditCircuitBreaker(1, 1000, 0);
+        breaker.onFailure();
+
+        assertTrue(breaker.allowRequest());
+        assertEquals(AuditCircuitBreaker.State.HALF_OPEN, breaker.getState());
+        breaker.onSuccess(0);
+        assertEquals(AuditCircuitBreaker.State.CLOSED, breaker.getState());
+    }
+}
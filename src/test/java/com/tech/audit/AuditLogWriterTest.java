@@ -0,0 +1,124 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.ServerAddress;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.bson.BsonDocument;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogWriter Unit Tests")
+class AuditLogWriterTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @Mock
+    private AuditRollupAggregator rollupAggregator;
+
+    @Mock
+    private AuditSpool spool;
+
+    @Mock
+    private AuditCircuitBreaker circuitBreaker;
+
+    private AuditLogWriter writer(int capacity, AuditLogWriter.OverflowPolicy policy) {
+        return new AuditLogWriter(mongoTemplate, rollupAggregator, spool, circuitBreaker, new SimpleMeterRegistry(),
+                capacity, 100, 50, policy);
+    }
+
+    private AuditLog log(String id) {
+        return AuditLog.builder().id(id).actionType("CREATE").build();
+    }
+
+    @Test
+    @DisplayName("Submit should only queue the event without touching Mongo")
+    void submit_shouldQueueWithoutWriting() {
+        AuditLogWriter writer = writer(10, AuditLogWriter.OverflowPolicy.BLOCK);
+
+        writer.submit(log("a"));
+
+        assertEquals(1, writer.getQueueDepth());
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST should keep the newest events when the queue is full")
+    void submit_shouldDropOldest_whenQueueFull() {
+        AuditLogWriter writer = writer(2, AuditLogWriter.OverflowPolicy.DROP_OLDEST);
+
+        writer.submit(log("a"));
+        writer.submit(log("b"));
+        writer.submit(log("c"));
+
+        assertEquals(2, writer.getQueueDepth());
+    }
+
+    @Test
+    @DisplayName("SPILL should append overflow events to the local spool")
+    void submit_shouldSpool_whenQueueFull() throws Exception {
+        AuditLogWriter writer = writer(1, AuditLogWriter.OverflowPolicy.SPILL);
+
+        writer.submit(log("a"));
+        AuditLog overflow = log("b");
+        writer.submit(overflow);
+
+        assertEquals(1, writer.getQueueDepth());
+        verify(spool, times(1)).append(List.of(overflow));
+    }
+
+    @Test
+    @DisplayName("writeBatch should issue a single unordered bulk insert")
+    void writeBatch_shouldBulkInsertUnordered() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+
+        List<AuditLog> batch = List.of(log("a"), log("b"));
+        writer(10, AuditLogWriter.OverflowPolicy.BLOCK).writeBatch(batch);
+
+        verify(bulkOperations, times(1)).insert(batch);
+        verify(bulkOperations, times(1)).execute();
+        verify(rollupAggregator, times(1)).record(batch);
+    }
+
+    @Test
+    @DisplayName("writeBatch should count only the documents actually inserted when some already exist")
+    void writeBatch_shouldSkipDuplicates() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class)).thenReturn(bulkOperations);
+        when(bulkOperations.insert(anyList())).thenReturn(bulkOperations);
+        BulkWriteError duplicate = new BulkWriteError(11000, "E11000 duplicate key error", new BsonDocument(), 1);
+        when(bulkOperations.execute()).thenThrow(new BulkOperationException("duplicate key",
+                new MongoBulkWriteException(BulkWriteResult.unacknowledged(), List.of(duplicate), null,
+                        new ServerAddress(), Set.of())));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        AuditLogWriter writer = new AuditLogWriter(mongoTemplate, rollupAggregator, spool, circuitBreaker, meterRegistry,
+                10, 100, 50, AuditLogWriter.OverflowPolicy.BLOCK);
+
+        AuditLog a = log("a");
+        AuditLog c = log("c");
+        writer.writeBatch(List.of(a, log("b"), c));
+
+        verify(rollupAggregator, times(1)).record(List.of(a, c));
+        assertEquals(2, meterRegistry.counter("audit.writer.events.flushed").count());
+    }
+}
@@ -0,0 +1,85 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.tech.model.AuditRollup;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditRollupAggregator Unit Tests")
+class AuditRollupAggregatorTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    @InjectMocks
+    private AuditRollupAggregator aggregator;
+
+    private AuditLog log(String action, LocalDateTime timestamp) {
+        return AuditLog.builder().id(action + timestamp).actionType(action).actorType("Task").username("admin").timestamp(timestamp).build();
+    }
+
+    @Test
+    @DisplayName("Events in the same bucket should collapse into one upsert per granularity")
+    void flush_shouldIssueOneUpsertPerBucket() {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 10, 15, 30);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class)).thenReturn(bulkOperations);
+
+        aggregator.record(List.of(log("CREATE", time), log("CREATE", time.plusSeconds(10)), log("CREATE", time.plusSeconds(20))));
+        assertEquals(3, aggregator.getPendingBuckets());
+
+        aggregator.flush();
+
+        verify(bulkOperations, times(3)).upsert(any(Query.class), any(Update.class));
+        verify(bulkOperations, times(1)).execute();
+        assertEquals(0, aggregator.getPendingBuckets());
+    }
+
+    @Test
+    @DisplayName("A minute boundary should only split the minute buckets")
+    void record_shouldSplitMinuteBucketsOnly() {
+        LocalDateTime time = LocalDateTime.of(2025, 1, 1, 10, 15, 59);
+
+        aggregator.record(List.of(log("UPDATE", time), log("UPDATE", time.plusSeconds(1))));
+
+        assertEquals(4, aggregator.getPendingBuckets());
+    }
+
+    @Test
+    @DisplayName("Failed flushes should keep the counts for the next attempt")
+    void flush_shouldRetainCounts_whenMongoUnavailable() {
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditRollup.class)).thenReturn(bulkOperations);
+        when(bulkOperations.execute()).thenThrow(new RuntimeException("connection refused"));
+
+        aggregator.record(List.of(log("DELETE", LocalDateTime.of(2025, 1, 1, 10, 0))));
+        aggregator.flush();
+
+        assertEquals(3, aggregator.getPendingBuckets());
+    }
+
+    @Test
+    @DisplayName("Flush should not touch Mongo when nothing was recorded")
+    void flush_shouldSkip_whenNothingPending() {
+        aggregator.flush();
+
+        verifyNoInteractions(mongoTemplate);
+    }
+}
@@ -0,0 +1,80 @@
+package com.tech.audit;
+
+import com.tech.model.AuditLog;
+import com.tech.model.AuditSeal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditSealer Unit Tests")
+class AuditSealerTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private BulkOperations bulkOperations;
+
+    private AuditSealer sealer;
+
+    @BeforeEach
+    void setUp() {
+        sealer = new AuditSealer(mongoTemplate, new AuditSigner("", "", ""), 2, 60_000);
+    }
+
+    private static AuditSeal seal(long sequence, AuditSeal.Status status) {
+        return AuditSeal.builder().id("seal-" + sequence).sequence(sequence).status(status)
+                .root("r".repeat(64)).lastLeafHash("f".repeat(64)).build();
+    }
+
+    private static AuditLog log(String id) {
+        return AuditLog.builder().id(id).actionType("CREATE").entityType("Task").username("admin")
+                .timestamp(LocalDateTime.of(2025, 1, 1, 10, 0)).build();
+    }
+
+    @Test
+    @DisplayName("Should not seal past a pending seal, whose events may not be stamped yet")
+    void sealNextBatch_shouldBackOff_whenLatestSealPending() {
+        when(mongoTemplate.findOne(any(Query.class), eq(AuditSeal.class))).thenReturn(seal(4, AuditSeal.Status.PENDING));
+
+        assertFalse(sealer.sealNextBatch());
+        verify(mongoTemplate, never()).find(any(Query.class), eq(AuditLog.class));
+        verify(mongoTemplate, never()).insert(any(AuditSeal.class));
+    }
+
+    @Test
+    @DisplayName("Should chain the next seal onto the latest complete one")
+    void sealNextBatch_shouldLinkToLatestCompleteSeal() {
+        AuditSeal previous = seal(4, AuditSeal.Status.COMPLETE);
+        when(mongoTemplate.findOne(any(Query.class), eq(AuditSeal.class))).thenReturn(previous);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(List.of(log("a"), log("b")));
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, AuditLog.class)).thenReturn(bulkOperations);
+
+        assertTrue(sealer.sealNextBatch());
+
+        ArgumentCaptor<AuditSeal> captor = ArgumentCaptor.forClass(AuditSeal.class);
+        verify(mongoTemplate).insert(captor.capture());
+        AuditSeal seal = captor.getValue();
+        assertEquals(5, seal.getSequence());
+        assertEquals(previous.getRoot(), seal.getPrevRoot());
+        assertEquals(previous.getLastLeafHash(), seal.getPrevLeafHash());
+        assertEquals(List.of("a", "b"), seal.getEventIds());
+        verify(bulkOperations).execute();
+    }
+}
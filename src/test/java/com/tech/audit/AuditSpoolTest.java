@@ -0,0 +1,105 @@
+package com.tech.audit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("AuditSpool Unit Tests")
+class AuditSpoolTest {
+
+    @TempDir
+    Path spoolDir;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private AuditSpool spool;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        spool = newSpool();
+    }
+
+    private AuditSpool newSpool() throws Exception {
+        AuditSpool opened = new AuditSpool(objectMapper, spoolDir.toString(), 1, false);
+        opened.open();
+        return opened;
+    }
+
+    private List<AuditLog> logs(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> AuditLog.builder().id(String.format("%024d", i)).actionType("CREATE").build())
+                .toList();
+    }
+
+    private List<String> replayAll(AuditSpool source) throws Exception {
+        List<String> ids = new ArrayList<>();
+        source.replay(100, Integer.MAX_VALUE, batch -> batch.forEach(log -> ids.add(log.getId())));
+        return ids;
+    }
+
+    @Test
+    @DisplayName("Replay should return appended events in order and then delete the segment")
+    void replay_shouldReturnEventsInOrder() throws Exception {
+        spool.append(logs(250));
+
+        List<String> ids = replayAll(spool);
+
+        assertEquals(logs(250).stream().map(AuditLog::getId).toList(), ids);
+        assertFalse(spool.hasPending());
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("A failed sink should leave the batch in the spool for the next replay")
+    void replay_shouldRetryBatch_whenSinkFails() throws Exception {
+        spool.append(logs(3));
+
+        assertThrows(IllegalStateException.class, () -> spool.replay(100, 1, batch -> {
+            throw new IllegalStateException("mongo down");
+        }));
+
+        assertEquals(3, replayAll(spool).size());
+    }
+
+    @Test
+    @DisplayName("Segments left by a previous run should be replayed after a restart")
+    void open_shouldRecoverExistingSegments() throws Exception {
+        spool.append(logs(5));
+
+        assertEquals(5, replayAll(newSpool()).size());
+    }
+
+    @Test
+    @DisplayName("A record with a bad checksum should end the segment instead of replaying garbage")
+    void replay_shouldStopAtCorruptRecord() throws Exception {
+        spool.append(logs(2));
+        AuditSpool reopened = newSpool();
+        Path segment;
+        try (Stream<Path> files = Files.list(spoolDir)) {
+            segment = files.findFirst().orElseThrow();
+        }
+        try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+            int firstLength = file.readInt();
+            file.seek(8L + firstLength + 8); // first payload byte of the second record
+            file.write('#');
+        }
+
+        assertEquals(1, replayAll(reopened).size());
+    }
+}
@@ -0,0 +1,51 @@
+package com.tech.audit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MerkleTree Unit Tests")
+class MerkleTreeTest {
+
+    private List<String> leaves(int count) {
+        List<String> leaves = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            leaves.add(String.format("%064x", i + 1));
+        }
+        return leaves;
+    }
+
+    @Test
+    @DisplayName("Every leaf's proof should verify against the root, including an odd last leaf")
+    void proof_shouldVerify_forEveryLeaf() {
+        List<String> leaves = leaves(7);
+        MerkleTree tree = MerkleTree.build(leaves);
+
+        for (int i = 0; i < leaves.size(); i++) {
+            assertTrue(MerkleTree.verify(leaves.get(i), i, tree.proof(i), tree.root()), "leaf " + i);
+        }
+    }
+
+    @Test
+    @DisplayName("A changed leaf or wrong index should not verify")
+    void verify_shouldFail_whenLeafOrIndexChanged() {
+        List<String> leaves = leaves(8);
+        MerkleTree tree = MerkleTree.build(leaves);
+
+        assertFalse(MerkleTree.verify(String.format("%064x", 99), 3, tree.proof(3), tree.root()));
+        assertFalse(MerkleTree.verify(leaves.get(3), 2, tree.proof(3), tree.root()));
+    }
+
+    @Test
+    @DisplayName("A single leaf should form its own tree with an empty proof")
+    void build_shouldHandleSingleLeaf() {
+        MerkleTree tree = MerkleTree.build(leaves(1));
+
+        assertTrue(tree.proof(0).isEmpty());
+        assertTrue(MerkleTree.verify(leaves(1).get(0), 0, List.of(), tree.root()));
+    }
+}
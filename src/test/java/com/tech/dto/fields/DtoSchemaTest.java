@@ -0,0 +1,93 @@
+package com.tech.dto.fields;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.TaskDTO;
+import com.tech.exception.InvalidQueryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("DtoSchema Unit Tests")
+class DtoSchemaTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private TaskDTO task() {
+        DeveloperDTO developer = new DeveloperDTO();
+        developer.setId(5L);
+        developer.setName("Alice");
+        developer.setEmail("alice@example.com");
+        developer.setTaskIds(List.of(1L, 2L));
+
+        TaskDTO task = new TaskDTO();
+        task.setId(1L);
+        task.setTitle("Ship it");
+        task.setStatus("TODO");
+        task.setDueDate(LocalDate.of(2026, 1, 31));
+        task.setProjectId(3L);
+        task.setProjectName("Project Alpha");
+        task.setAssignedDevelopers(List.of(developer));
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should write only the requested fields, in schema order")
+    void write_shouldWriteSelectedFields() throws Exception {
+        FieldSet fields = DtoSchemas.TASK.parse("title,id, dueDate");
+
+        String json = objectMapper.writeValueAsString(new SparseView<>(task(), DtoSchemas.TASK, fields));
+
+        assertEquals("{\"id\":1,\"title\":\"Ship it\",\"dueDate\":[2026,1,31]}", json);
+    }
+
+    @Test
+    @DisplayName("Should narrow nested DTOs to the dotted fields")
+    void write_shouldWriteNestedSelection() throws Exception {
+        FieldSet fields = DtoSchemas.TASK.parse("id,assignedDevelopers.name");
+
+        String json = objectMapper.writeValueAsString(new SparseView<>(task(), DtoSchemas.TASK, fields));
+
+        assertEquals("{\"id\":1,\"assignedDevelopers\":[{\"name\":\"Alice\"}]}", json);
+        assertTrue(fields.includes("assignedDevelopers"));
+        assertFalse(fields.nested("assignedDevelopers").includes("taskIds"));
+    }
+
+    @Test
+    @DisplayName("Should write explicit nulls for selected fields that are unset")
+    void write_shouldKeepNulls() throws Exception {
+        FieldSet fields = DtoSchemas.TASK.parse("description");
+
+        String json = objectMapper.writeValueAsString(new SparseView<>(task(), DtoSchemas.TASK, fields));
+
+        assertEquals("{\"description\":null}", json);
+    }
+
+    @Test
+    @DisplayName("Naming the whole association should win over a dotted selection")
+    void parse_shouldPreferWholeAssociation() {
+        FieldSet fields = DtoSchemas.TASK.parse("assignedDevelopers.name,assignedDevelopers");
+
+        assertTrue(fields.nested("assignedDevelopers").isAll());
+        assertEquals(fields, DtoSchemas.TASK.parse("assignedDevelopers"));
+    }
+
+    @Test
+    @DisplayName("A blank selection should mean every field")
+    void parse_shouldTreatBlankAsAll() {
+        assertSame(FieldSet.ALL, DtoSchemas.PROJECT.parse(null));
+        assertSame(FieldSet.ALL, DtoSchemas.PROJECT.parse(" "));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields and dotted paths into scalars")
+    void parse_shouldRejectUnknownFields() {
+        assertThrows(InvalidQueryException.class, () -> DtoSchemas.TASK.parse("id,owner"));
+        assertThrows(InvalidQueryException.class, () -> DtoSchemas.TASK.parse("title.length"));
+        assertThrows(InvalidQueryException.class, () -> DtoSchemas.TASK.parse("assignedDevelopers.salary"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.tech.imports;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.model.ImportJob;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Import RowReader Tests")
+class RowReaderTest {
+
+    private static List<ImportRow> readAll(ImportJob.Format format, String content) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (RowReader reader = RowReader.open(format, new BufferedReader(new StringReader(content)), new ObjectMapper())) {
+            ImportRow row;
+            while ((row = reader.next()) != null) {
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("CSV should handle quotes, embedded line breaks and a byte order mark")
+    void csv_shouldParseQuotedFields() throws IOException {
+        String csv = "\uFEFFname,description\r\n"
+                + "Alpha,\"Says \"\"hi\"\"\"\r\n"
+                + "\r\n"
+                + "\"Beta, Inc\",\"two\nlines\"\n";
+
+        List<ImportRow> rows = readAll(ImportJob.Format.CSV, csv);
+
+        assertEquals(2, rows.size());
+        assertEquals("Alpha", rows.get(0).get("name"));
+        assertEquals("Says \"hi\"", rows.get(0).get("description"));
+        assertEquals("Beta, Inc", rows.get(1).get("name"));
+        assertEquals("two\nlines", rows.get(1).get("description"));
+        assertEquals(2, rows.get(1).number());
+    }
+
+    @Test
+    @DisplayName("CSV rows with the wrong column count should be reported, not fail the file")
+    void csv_shouldReportColumnCountMismatch() throws IOException {
+        List<ImportRow> rows = readAll(ImportJob.Format.CSV, "name,email\nAlice\nBob,bob@example.com\n");
+
+        assertNotNull(rows.get(0).problem());
+        assertNull(rows.get(1).problem());
+        assertEquals("bob@example.com", rows.get(1).get("email"));
+    }
+
+    @Test
+    @DisplayName("An unterminated CSV quote should stop the read")
+    void csv_shouldFailOnUnterminatedQuote() {
+        assertThrows(IOException.class, () -> readAll(ImportJob.Format.CSV, "name\n\"never closed\n"));
+    }
+
+    @Test
+    @DisplayName("NDJSON should join arrays and report lines that are not JSON objects")
+    void ndjson_shouldReadObjects() throws IOException {
+        String ndjson = "{\"title\":\"Ship it\",\"assignees\":[\"a@example.com\",\"b@example.com\"]}\n"
+                + "\n"
+                + "not json\n"
+                + "[1,2]\n";
+
+        List<ImportRow> rows = readAll(ImportJob.Format.NDJSON, ndjson);
+
+        assertEquals(3, rows.size());
+        assertEquals("a@example.com;b@example.com", rows.get(0).get("assignees"));
+        assertNotNull(rows.get(1).problem());
+        assertEquals(2, rows.get(1).number());
+        assertNotNull(rows.get(2).problem());
+    }
+}
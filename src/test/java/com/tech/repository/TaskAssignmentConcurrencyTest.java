@@ -0,0 +1,170 @@
+package com.tech.repository;
+
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.projection.IdPairRow;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs single and batch assigns of the same (task, developer) pairs from many
+ * threads at once against a real PostgreSQL, and checks that every pair ends up
+ * in the join table exactly once and is reported as inserted by exactly one
+ * caller. Skipped when Docker is not available.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Task assignment concurrency")
+class TaskAssignmentConcurrencyTest {
+
+    private static final int TASKS = 5;
+    private static final int DEVELOPERS = 20;
+    private static final int SINGLE_ASSIGN_THREADS = 8;
+    private static final int BATCH_ASSIGN_THREADS = 4;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> taskIds = new ArrayList<>();
+    private final List<Long> developerIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Project project = new Project();
+        project.setName("Concurrency");
+        project.setDeadline(LocalDate.now().plusMonths(1));
+        project = projectRepository.save(project);
+        for (int i = 0; i < TASKS; i++) {
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setProject(project);
+            taskIds.add(taskRepository.save(task).getId());
+        }
+        for (int i = 0; i < DEVELOPERS; i++) {
+            Developer developer = Developer.builder().name("Dev " + i).email("dev" + i + "@example.com").build();
+            developerIds.add(developerRepository.save(developer).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_developers");
+        taskRepository.deleteAll();
+        developerRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Concurrent single and batch assigns should insert each pair once, with no duplicates and none lost")
+    void concurrentAssigns_shouldInsertEachPairExactlyOnce() throws Exception {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Callable<Integer>> workers = new ArrayList<>();
+        for (int t = 0; t < SINGLE_ASSIGN_THREADS; t++) {
+            workers.add(() -> {
+                List<long[]> pairs = new ArrayList<>();
+                taskIds.forEach(taskId -> developerIds.forEach(developerId -> pairs.add(new long[]{taskId, developerId})));
+                Collections.shuffle(pairs);
+                start.await();
+                int inserted = 0;
+                for (long[] pair : pairs) {
+                    inserted += tx.execute(status -> taskRepository.addAssignee(pair[0], pair[1]));
+                }
+                return inserted;
+            });
+        }
+        for (int t = 0; t < BATCH_ASSIGN_THREADS; t++) {
+            workers.add(() -> {
+                List<Long> developers = new ArrayList<>(developerIds);
+                Collections.shuffle(developers);
+                start.await();
+                List<IdPairRow> inserted = tx.execute(status -> taskRepository.assignAll(taskIds, developers));
+                return inserted.size();
+            });
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            workers.forEach(worker -> results.add(executor.submit(worker)));
+            start.countDown();
+            int reportedInserts = 0;
+            for (Future<Integer> result : results) {
+                reportedInserts += result.get(60, TimeUnit.SECONDS);
+            }
+
+            int pairs = TASKS * DEVELOPERS;
+            assertEquals(pairs, reportedInserts, "each pair should be reported as inserted by exactly one caller");
+            assertEquals(pairs, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_developers", Integer.class));
+            assertEquals(pairs, jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM (SELECT DISTINCT task_id, developer_id FROM task_developers) p", Integer.class));
+            for (Long taskId : taskIds) {
+                assertEquals(DEVELOPERS, taskRepository.findAssigneeIds(List.of(taskId)).size());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Assigning a pair again should insert nothing")
+    void assign_shouldBeIdempotent() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        Long taskId = taskIds.get(0);
+        Long developerId = developerIds.get(0);
+
+        int first = tx.execute(status -> taskRepository.addAssignee(taskId, developerId));
+        int second = tx.execute(status -> taskRepository.addAssignee(taskId, developerId));
+
+        assertEquals(1, first);
+        assertEquals(0, second);
+        assertEquals(List.of(), tx.execute(status -> taskRepository.assignAll(List.of(taskId), List.of(developerId))));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM task_developers", Integer.class));
+    }
+}
@@ -0,0 +1,130 @@
+package com.tech.search;
+
+import com.tech.dto.SearchHitDTO;
+import com.tech.dto.SearchResultDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.service.SearchService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Search index Unit Tests")
+class SearchIndexTest {
+
+    @TempDir
+    Path directory;
+
+    private SearchIndex searchIndex;
+    private SearchIndexer searchIndexer;
+    private SearchService searchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        searchIndex = new SearchIndex(directory.toString(), 1000, 25);
+        searchIndex.open();
+        searchIndexer = new SearchIndexer(searchIndex, null, null, null, false, 1000);
+        searchService = new SearchService(searchIndex);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        searchIndex.close();
+    }
+
+    private static Project project(long id, String name, String description) {
+        Project project = new Project();
+        project.setId(id);
+        project.setName(name);
+        project.setDescription(description);
+        return project;
+    }
+
+    private static Task task(long id, Project project, String title, String description) {
+        Task task = new Task();
+        task.setId(id);
+        task.setProject(project);
+        task.setTitle(title);
+        task.setDescription(description);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should rank title matches above description matches, with highlights")
+    void search_shouldRankAndHighlight() {
+        Project alpha = project(1, "Alpha", "Billing platform");
+        searchIndexer.projectSaved(alpha);
+        searchIndexer.taskSaved(task(10, alpha, "Fix invoice rounding", "Totals are off by a cent"));
+        searchIndexer.taskSaved(task(11, alpha, "Release notes", "Mention the invoice changes"));
+        searchIndex.refresh();
+
+        SearchResultDTO result = searchService.search("invoice", null, 10);
+
+        assertEquals(2, result.totalHits());
+        assertTrue(result.totalHitsExact());
+        SearchHitDTO first = result.hits().get(0);
+        assertEquals("TASK", first.type());
+        assertEquals(10L, first.id());
+        assertEquals("Fix invoice rounding", first.label());
+        assertEquals("Fix <b>invoice</b> rounding", first.highlights().get(SearchDocuments.TITLE));
+        assertFalse(first.highlights().containsKey(SearchDocuments.DESCRIPTION));
+    }
+
+    @Test
+    @DisplayName("Should narrow hits to the requested types and require every term")
+    void search_shouldFilterByType() {
+        searchIndexer.projectSaved(project(1, "Java migration", null));
+        searchIndexer.developerSaved(Developer.builder().id(2L).name("Alice").skills("Java, Spring").build());
+        searchIndex.refresh();
+
+        assertEquals(List.of("DEVELOPER"),
+                searchService.search("java", List.of("developer"), 10).hits().stream().map(SearchHitDTO::type).toList());
+        assertEquals(0, searchService.search("java kotlin", null, 10).totalHits());
+        assertThrows(InvalidQueryException.class, () -> searchService.search("java", List.of("ticket"), 10));
+    }
+
+    @Test
+    @DisplayName("Deleting a project should drop its tasks from the index")
+    void projectDeleted_shouldDropItsTasks() {
+        Project alpha = project(1, "Alpha", null);
+        searchIndexer.projectSaved(alpha);
+        searchIndexer.taskSaved(task(10, alpha, "Alpha launch", null));
+        searchIndex.refresh();
+
+        searchIndexer.projectDeleted(1L);
+        searchIndex.refresh();
+
+        assertEquals(0, searchService.search("alpha", null, 10).totalHits());
+    }
+
+    @Test
+    @DisplayName("Changes made in a transaction should only be indexed once it commits")
+    void taskSaved_shouldWaitForCommit() {
+        Project alpha = project(1, "Alpha", null);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            searchIndexer.taskSaved(task(10, alpha, "Quarterly report", null));
+            searchIndex.refresh();
+            assertEquals(0, searchService.search("quarterly", null, 10).totalHits());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        searchIndex.refresh();
+
+        assertEquals(1, searchService.search("quarterly", null, 10).totalHits());
+    }
+}
@@ -0,0 +1,169 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.tech.audit.AuditArchive;
+import com.tech.dto.AuditLogFilter;
+import com.tech.dto.CursorPage;
+import com.tech.exception.InvalidCursorException;
+import com.tech.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditLogQueryService Unit Tests")
+class AuditLogQueryServiceTest {
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private AuditArchive auditArchive;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private AuditLogQueryService auditLogQueryService;
+
+    @BeforeEach
+    void setUp() {
+        // indented like the application's mapper (spring.jackson.serialization.indent_output=true)
+        auditLogQueryService = new AuditLogQueryService(mongoTemplate, auditArchive, objectMapper, 1000);
+    }
+
+    private List<AuditLog> logs(int count) {
+        List<AuditLog> logs = new ArrayList<>();
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < count; i++) {
+            logs.add(AuditLog.builder().id(String.format("%024d", count - i)).timestamp(start.minusMinutes(i)).build());
+        }
+        return logs;
+    }
+
+    @Test
+    @DisplayName("Should fetch one extra row and return a cursor for the last entry of the page")
+    void search_shouldReturnNextCursor_whenMoreRowsExist() {
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(logs(3));
+
+        CursorPage<AuditLog> page = auditLogQueryService.search(new AuditLogFilter(), null, 2);
+
+        assertEquals(2, page.getContent().size());
+        assertTrue(page.isHasNext());
+        AuditLog last = page.getContent().get(1);
+        assertEquals(List.of(last.getTimestamp().toString(), last.getId()), CursorCodec.decode(page.getNextCursor(), 2));
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(AuditLog.class));
+        assertEquals(3, queryCaptor.getValue().getLimit());
+    }
+
+    @Test
+    @DisplayName("Should seek past the cursor position instead of skipping rows")
+    void search_shouldSeekFromCursor() {
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(logs(1));
+        String cursor = CursorCodec.encode("2025-01-01T12:00", "000000000000000000000005");
+
+        CursorPage<AuditLog> page = auditLogQueryService.search(new AuditLogFilter(), cursor, 2);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(AuditLog.class));
+        assertEquals(0, queryCaptor.getValue().getSkip());
+        assertTrue(queryCaptor.getValue().getQueryObject().containsKey("$or"));
+    }
+
+    @Test
+    @DisplayName("Should fill the page from the archive once the hot tier runs out")
+    void search_shouldMergeArchivedEntries_whenHotTierIsExhausted() {
+        List<AuditLog> all = logs(4);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(new ArrayList<>(all.subList(0, 1)));
+        when(auditArchive.newestTimestamp()).thenReturn(Optional.of(all.get(1).getTimestamp()));
+        when(auditArchive.searchBefore(any(AuditLogFilter.class), isNull(), isNull(), eq(3))).thenReturn(all.subList(1, 4));
+
+        CursorPage<AuditLog> page = auditLogQueryService.search(new AuditLogFilter(), null, 2);
+
+        assertEquals(List.of(all.get(0), all.get(1)), page.getContent());
+        assertTrue(page.isHasNext());
+    }
+
+    @Test
+    @DisplayName("Should skip the archive when the hot tier fills the page")
+    void search_shouldNotReadArchive_whenHotTierFillsPage() {
+        List<AuditLog> all = logs(4);
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(all.subList(0, 3));
+        when(auditArchive.newestTimestamp()).thenReturn(Optional.of(all.get(3).getTimestamp()));
+
+        auditLogQueryService.search(new AuditLogFilter(), null, 2);
+
+        verify(auditArchive, never()).searchBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("History should filter on entity type and id and clamp the page size")
+    void history_shouldQueryByEntity() {
+        when(mongoTemplate.find(any(Query.class), eq(AuditLog.class))).thenReturn(logs(1));
+
+        auditLogQueryService.history("Task", 42L, null, 10_000);
+
+        ArgumentCaptor<Query> queryCaptor = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(queryCaptor.capture(), eq(AuditLog.class));
+        assertEquals("Task", queryCaptor.getValue().getQueryObject().get("entityType"));
+        assertEquals(42L, queryCaptor.getValue().getQueryObject().get("entityId"));
+        assertEquals(AuditLogQueryService.MAX_PAGE_SIZE + 1, queryCaptor.getValue().getLimit());
+    }
+
+    @Test
+    @DisplayName("Should reject a tampered cursor")
+    void search_shouldRejectMalformedCursor() {
+        assertThrows(InvalidCursorException.class,
+                () -> auditLogQueryService.search(new AuditLogFilter(), "not-a-cursor", 2));
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("Export should write one document per line, archived entries first, even with an indenting mapper")
+    void export_shouldWriteNdjson() throws IOException {
+        AuditLog archived = AuditLog.builder().id("archived").actionType("CREATE").timestamp(LocalDateTime.of(2024, 1, 1, 9, 0))
+                .dataSnapshot(Map.of("name", "Old", "tags", List.of("a", "b"))).build();
+        doAnswer(invocation -> {
+            invocation.<Consumer<AuditLog>>getArgument(1).accept(archived);
+            return null;
+        }).when(auditArchive).forEach(any(AuditLogFilter.class), any());
+        AuditLog hot = AuditLog.builder().id("hot").actionType("UPDATE").timestamp(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .changes(Map.of("title", Map.of("old", "a", "new", "b"))).build();
+        when(mongoTemplate.stream(any(Query.class), eq(AuditLog.class))).thenReturn(Stream.of(hot));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        assertEquals(2, auditLogQueryService.export(new AuditLogFilter(), out));
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("archived", objectMapper.readValue(lines[0], AuditLog.class).getId());
+        assertEquals("hot", objectMapper.readValue(lines[1], AuditLog.class).getId());
+    }
+}
@@ -1,12 +1,18 @@
 package com.tech.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.tech.audit.AuditDelivery;
+import com.tech.audit.AuditLogWriter;
 import com.tech.dto.DeveloperDTO;
 import com.tech.dto.ProjectDTO;
 import com.tech.dto.TaskDTO;
 import com.tech.model.AuditLog;
-import com.tech.repository.AuditLogRepository;
+import com.tech.model.AuditOutboxEvent;
+import com.tech.repository.AuditOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,11 +20,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,10 +43,13 @@ import static org.mockito.Mockito.*;
 class AuditLogServiceTest {
 
     @Mock
-    private AuditLogRepository auditLogRepository;
+    private AuditLogWriter auditLogWriter;
 
     @Mock
-    private ObjectMapper objectMapper; // Mock ObjectMapper
+    private AuditOutboxRepository auditOutboxRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
 
     @InjectMocks
     private AuditLogService auditLogService;
@@ -58,28 +76,43 @@ class AuditLogServiceTest {
         sampleDeveloperDTO.setEmail("dev@example.com");
     }
 
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
     @Test
     @DisplayName("Should log project action successfully")
-    void logProjectAction_shouldSaveAuditLog() throws JsonProcessingException {
-        // Mock ObjectMapper behavior
-        when(objectMapper.writeValueAsString(sampleProjectDTO)).thenReturn("{\"id\":1,\"name\":\"Test Project\"}");
-
+    void logProjectAction_shouldSaveAuditLog() {
         // Call the service method
         auditLogService.logProjectAction("CREATE", sampleProjectDTO);
 
         // Capture the AuditLog object passed to the repository
         ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository, times(1)).save(auditLogCaptor.capture());
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
 
         AuditLog capturedLog = auditLogCaptor.getValue();
 
         // Assertions
         assertNotNull(capturedLog);
+        assertNotNull(capturedLog.getId()); // ids are assigned up front so retried flushes stay idempotent
         assertEquals("Project", capturedLog.getActorType());
         assertEquals("CREATE", capturedLog.getActionType());
-        assertEquals(sampleProjectDTO.getName(), capturedLog.getActor());
-        assertEquals("admin", capturedLog.getUsername()); // As per your service implementation
-        assertEquals("{\"id\":1,\"name\":\"Test Project\"}", capturedLog.getDataSnapshot());
+        assertEquals("Project", capturedLog.getEntityType());
+        assertEquals(1L, capturedLog.getEntityId());
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getActor()); // no authenticated caller in this test
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getUsername());
+        assertEquals(Map.of("id", 1L, "name", "Test Project", "description", "Test Description"), capturedLog.getDataSnapshot());
+        assertNull(capturedLog.getChanges());
         assertNotNull(capturedLog.getTimestamp());
         // Verify that timestamp is UTC based on how it's constructed in the service
         assertEquals(ZoneOffset.UTC, capturedLog.getTimestamp().atZone(ZoneOffset.UTC).getOffset());
@@ -87,80 +120,80 @@ class AuditLogServiceTest {
 
     @Test
     @DisplayName("Should throw RuntimeException if project data serialization fails")
-    void logProjectAction_shouldThrowRuntimeException_onSerializationError() throws JsonProcessingException {
-        // Mock ObjectMapper to throw an exception during serialization
-        when(objectMapper.writeValueAsString(sampleProjectDTO)).thenThrow(JsonProcessingException.class);
+    void logProjectAction_shouldThrowRuntimeException_onSerializationError() {
+        // Make ObjectMapper fail while converting the snapshot
+        doThrow(IllegalArgumentException.class).when(objectMapper).convertValue(eq(sampleProjectDTO), any(TypeReference.class));
 
         // Assert that calling the service method throws a RuntimeException
         RuntimeException thrown = assertThrows(RuntimeException.class, () -> auditLogService.logProjectAction("CREATE", sampleProjectDTO));
         assertTrue(thrown.getMessage().contains("Failed to serialize project data for audit log"));
 
-        // Verify that auditLogRepository.save was NOT called
-        verify(auditLogRepository, never()).save(any(AuditLog.class));
+        // Verify that nothing was handed to the writer
+        verify(auditLogWriter, never()).submit(any(AuditLog.class));
     }
 
     @Test
     @DisplayName("Should log task action successfully")
-    void logTaskAction_shouldSaveAuditLog() throws JsonProcessingException {
-        when(objectMapper.writeValueAsString(sampleTaskDTO)).thenReturn("{\"id\":1,\"title\":\"Test Task\"}");
-
-        auditLogService.logTaskAction("UPDATE", sampleTaskDTO);
+    void logTaskAction_shouldSaveAuditLog() {
+        auditLogService.logTaskAction("CREATE", sampleTaskDTO);
 
         ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository, times(1)).save(auditLogCaptor.capture());
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
 
         AuditLog capturedLog = auditLogCaptor.getValue();
 
         assertNotNull(capturedLog);
         assertEquals("Task", capturedLog.getActorType());
-        assertEquals("UPDATE", capturedLog.getActionType());
-        assertEquals(sampleTaskDTO.toString(), capturedLog.getActor()); // As per your service implementation
-        assertEquals("admin", capturedLog.getUsername());
-        assertEquals("{\"id\":1,\"title\":\"Test Task\"}", capturedLog.getDataSnapshot());
+        assertEquals("CREATE", capturedLog.getActionType());
+        assertEquals("Task", capturedLog.getEntityType());
+        assertEquals(1L, capturedLog.getEntityId());
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getActor());
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getUsername());
+        assertEquals(Map.of("id", 1L, "title", "Test Task", "description", "Task Description"), capturedLog.getDataSnapshot());
         assertNotNull(capturedLog.getTimestamp());
     }
 
     @Test
     @DisplayName("Should throw RuntimeException if task data serialization fails")
-    void logTaskAction_shouldThrowRuntimeException_onSerializationError() throws JsonProcessingException {
-        when(objectMapper.writeValueAsString(sampleTaskDTO)).thenThrow(JsonProcessingException.class);
+    void logTaskAction_shouldThrowRuntimeException_onSerializationError() {
+        doThrow(IllegalArgumentException.class).when(objectMapper).convertValue(eq(sampleTaskDTO), any(TypeReference.class));
 
-        RuntimeException thrown = assertThrows(RuntimeException.class, () -> auditLogService.logTaskAction("UPDATE", sampleTaskDTO));
+        RuntimeException thrown = assertThrows(RuntimeException.class, () -> auditLogService.logTaskAction("CREATE", sampleTaskDTO));
         assertTrue(thrown.getMessage().contains("Failed to serialize task data for audit log"));
 
-        verify(auditLogRepository, never()).save(any(AuditLog.class));
+        verify(auditLogWriter, never()).submit(any(AuditLog.class));
     }
 
     @Test
     @DisplayName("Should log developer action successfully")
-    void logDeveloperAction_shouldSaveAuditLog() throws JsonProcessingException {
-        when(objectMapper.writeValueAsString(sampleDeveloperDTO)).thenReturn("{\"id\":1,\"name\":\"Test Developer\"}");
-
+    void logDeveloperAction_shouldSaveAuditLog() {
         auditLogService.logDeveloperAction("DELETE", sampleDeveloperDTO);
 
         ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository, times(1)).save(auditLogCaptor.capture());
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
 
         AuditLog capturedLog = auditLogCaptor.getValue();
 
         assertNotNull(capturedLog);
         assertEquals("Developer", capturedLog.getActorType());
         assertEquals("DELETE", capturedLog.getActionType());
-        assertEquals(sampleDeveloperDTO.toString(), capturedLog.getActor()); // As per your service implementation
-        assertEquals("admin", capturedLog.getUsername());
-        assertEquals("{\"id\":1,\"name\":\"Test Developer\"}", capturedLog.getDataSnapshot());
+        assertEquals("Developer", capturedLog.getEntityType());
+        assertEquals(1L, capturedLog.getEntityId());
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getActor());
+        assertEquals(AuditLogService.SYSTEM_USER, capturedLog.getUsername());
+        assertEquals(Map.of("id", 1L, "name", "Test Developer", "email", "dev@example.com"), capturedLog.getDataSnapshot());
         assertNotNull(capturedLog.getTimestamp());
     }
 
     @Test
     @DisplayName("Should throw RuntimeException if developer data serialization fails")
-    void logDeveloperAction_shouldThrowRuntimeException_onSerializationError() throws JsonProcessingException {
-        when(objectMapper.writeValueAsString(sampleDeveloperDTO)).thenThrow(JsonProcessingException.class);
+    void logDeveloperAction_shouldThrowRuntimeException_onSerializationError() {
+        doThrow(IllegalArgumentException.class).when(objectMapper).convertValue(eq(sampleDeveloperDTO), any(TypeReference.class));
 
         RuntimeException thrown = assertThrows(RuntimeException.class, () -> auditLogService.logDeveloperAction("DELETE", sampleDeveloperDTO));
         assertTrue(thrown.getMessage().contains("Failed to serialize developer data for audit log"));
 
-        verify(auditLogRepository, never()).save(any(AuditLog.class));
+        verify(auditLogWriter, never()).submit(any(AuditLog.class));
     }
 
     @Test
@@ -173,7 +206,7 @@ class AuditLogServiceTest {
         auditLogService.logLoginAction("LOGIN_SUCCESS", email, loginMethod, status);
 
         ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository, times(1)).save(auditLogCaptor.capture());
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
 
         AuditLog capturedLog = auditLogCaptor.getValue();
 
@@ -184,8 +217,7 @@ class AuditLogServiceTest {
         assertEquals(email, capturedLog.getActor());
         assertEquals(email, capturedLog.getUsername());
         // Verify dataSnapshot content
-        String expectedDataSnapshot = "{\"loginMethod\": \"" + loginMethod + "\", \"status\": \"" + status + "\"}";
-        assertEquals(expectedDataSnapshot, capturedLog.getDataSnapshot());
+        assertEquals(Map.of("loginMethod", loginMethod, "status", status), capturedLog.getDataSnapshot());
         assertNotNull(capturedLog.getTimestamp());
     }
 
@@ -199,7 +231,7 @@ class AuditLogServiceTest {
         auditLogService.logUnauthorizedAccess(username, requestPath, details);
 
         ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
-        verify(auditLogRepository, times(1)).save(auditLogCaptor.capture());
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
 
         AuditLog capturedLog = auditLogCaptor.getValue();
 
@@ -210,9 +242,103 @@ class AuditLogServiceTest {
         assertEquals(username, capturedLog.getActor());
         assertEquals(username, capturedLog.getUsername());
         // Verify dataSnapshot content
-        String expectedDataSnapshot = "{\"requestPath\": \"" + requestPath + "\", \"details\": \"" + details + "\"}";
-        assertEquals(expectedDataSnapshot, capturedLog.getDataSnapshot());
+        assertEquals(Map.of("requestPath", requestPath, "details", details), capturedLog.getDataSnapshot());
         assertNotNull(capturedLog.getTimestamp());
     }
-}
 
+    @Test
+    @DisplayName("Should defer the writer hand-off until the surrounding transaction commits")
+    void logProjectAction_shouldSubmitAfterCommit_whenTransactionActive() {
+        beginTransaction();
+
+        auditLogService.logProjectAction("UPDATE", sampleProjectDTO);
+
+        verify(auditLogWriter, never()).submit(any(AuditLog.class));
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(auditLogWriter, times(1)).submit(any(AuditLog.class));
+        verifyNoInteractions(auditOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("Should write to the outbox inside the transaction in OUTBOX mode")
+    void logProjectAction_shouldWriteOutbox_whenOutboxDelivery() throws JsonProcessingException {
+        ReflectionTestUtils.setField(auditLogService, "delivery", AuditDelivery.OUTBOX);
+        doReturn("{}").when(objectMapper).writeValueAsString(any(AuditLog.class));
+        beginTransaction();
+
+        auditLogService.logProjectAction("UPDATE", sampleProjectDTO);
+
+        ArgumentCaptor<AuditOutboxEvent> eventCaptor = ArgumentCaptor.forClass(AuditOutboxEvent.class);
+        verify(auditOutboxRepository, times(1)).save(eventCaptor.capture());
+        assertNotNull(eventCaptor.getValue().getEventId());
+        assertEquals("{}", eventCaptor.getValue().getPayload());
+        verifyNoInteractions(auditLogWriter);
+    }
+
+    @Test
+    @DisplayName("Should record only the changed fields on task updates")
+    void logTaskUpdate_shouldRecordChangedFieldsOnly() {
+        TaskDTO updated = new TaskDTO();
+        updated.setId(1L);
+        updated.setTitle("Test Task");
+        updated.setDescription("Task Description");
+        updated.setStatus("DONE");
+
+        auditLogService.logTaskUpdate(sampleTaskDTO, updated);
+
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
+
+        AuditLog capturedLog = auditLogCaptor.getValue();
+        assertEquals("UPDATE", capturedLog.getActionType());
+        assertNull(capturedLog.getDataSnapshot());
+        Map<String, Object> statusChange = new HashMap<>();
+        statusChange.put("old", null);
+        statusChange.put("new", "DONE");
+        assertEquals(Map.of("status", statusChange), capturedLog.getChanges());
+    }
+
+    @Test
+    @DisplayName("Should record a single assignee change against the task")
+    void logTaskAssignment_shouldRecordDeveloperAgainstTask() {
+        auditLogService.logTaskAssignment("ASSIGN_DEVELOPER", 3L, 7L);
+
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
+
+        AuditLog capturedLog = auditLogCaptor.getValue();
+        assertEquals("ASSIGN_DEVELOPER", capturedLog.getActionType());
+        assertEquals("Task", capturedLog.getEntityType());
+        assertEquals(3L, capturedLog.getEntityId());
+        assertEquals(Map.of("developerId", 7L), capturedLog.getDataSnapshot());
+    }
+
+    @Test
+    @DisplayName("Should reduce nested developers to their ids in task snapshots")
+    void logTaskAction_shouldStoreDeveloperIds_insteadOfNestedDevelopers() {
+        sampleTaskDTO.setAssignedDevelopers(List.of(sampleDeveloperDTO));
+
+        auditLogService.logTaskAction("CREATE", sampleTaskDTO);
+
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
+
+        Map<?, ?> snapshot = (Map<?, ?>) auditLogCaptor.getValue().getDataSnapshot();
+        assertEquals(List.of(1L), snapshot.get("assignedDevelopers"));
+    }
+
+    @Test
+    @DisplayName("Should record the authenticated caller as actor and username")
+    void logTaskAction_shouldUseAuthenticatedUser() {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("manager@example.com", null, List.of()));
+
+        auditLogService.logTaskAction("DELETE", sampleTaskDTO);
+
+        ArgumentCaptor<AuditLog> auditLogCaptor = ArgumentCaptor.forClass(AuditLog.class);
+        verify(auditLogWriter, times(1)).submit(auditLogCaptor.capture());
+        assertEquals("manager@example.com", auditLogCaptor.getValue().getActor());
+        assertEquals("manager@example.com", auditLogCaptor.getValue().getUsername());
+        assertEquals(1L, auditLogCaptor.getValue().getEntityId());
+    }
+}
@@ -0,0 +1,169 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.audit.AuditArchive;
+import com.tech.audit.AuditHashing;
+import com.tech.audit.AuditSigner;
+import com.tech.audit.MerkleTree;
+import com.tech.dto.AuditEventVerification;
+import com.tech.dto.AuditVerificationReport;
+import com.tech.model.AuditLog;
+import com.tech.model.AuditSeal;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuditVerificationService Unit Tests")
+class AuditVerificationServiceTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Mock
+    private MongoTemplate mongoTemplate;
+
+    @Mock
+    private AuditArchive auditArchive;
+
+    private final AuditSigner signer = new AuditSigner("", "", "");
+
+    private AuditVerificationService verificationService;
+    private List<AuditLog> events;
+    private AuditSeal seal;
+
+    @BeforeEach
+    void setUp() {
+        verificationService = new AuditVerificationService(mongoTemplate, auditArchive, signer);
+
+        events = new ArrayList<>();
+        List<String> chain = new ArrayList<>();
+        String previous = AuditHashing.GENESIS;
+        for (int i = 0; i < 5; i++) {
+            AuditLog log = AuditLog.builder().id("event-" + i).actionType("CREATE").entityType("Task")
+                    .entityId((long) i).timestamp(START.plusSeconds(i)).build();
+            log.setPrevHash(previous);
+            previous = AuditHashing.chain(previous, log);
+            log.setChainHash(previous);
+            events.add(log);
+            chain.add(previous);
+        }
+        MerkleTree tree = MerkleTree.build(chain);
+        seal = AuditSeal.builder().id("seal-0").sequence(0).status(AuditSeal.Status.COMPLETE)
+                .prevRoot(AuditHashing.GENESIS).root(tree.root())
+                .prevLeafHash(AuditHashing.GENESIS).lastLeafHash(previous)
+                .leafCount(events.size()).eventIds(events.stream().map(AuditLog::getId).toList())
+                .fromTimestamp(START).toTimestamp(START.plusSeconds(4)).sealedAt(START.plusMinutes(1))
+                .algorithm(AuditSigner.ALGORITHM).publicKey(signer.getPublicKey())
+                .build();
+        seal.setSignature(signer.sign(AuditHashing.signingPayload(seal)));
+        for (int i = 0; i < events.size(); i++) {
+            events.get(i).setSealId(seal.getId());
+            events.get(i).setLeafIndex(i);
+            events.get(i).setProof(tree.proof(i));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        verificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should report an untouched range as valid")
+    void verifyRange_shouldPass_whenUntouched() {
+        doReturn(List.of(seal)).when(mongoTemplate).find(any(Query.class), eq(AuditSeal.class));
+        doReturn(events).when(mongoTemplate).find(any(Query.class), eq(AuditLog.class));
+
+        AuditVerificationReport report = verificationService.verifyRange(START, START.plusHours(1));
+
+        assertTrue(report.isValid(), () -> report.getFailures().toString());
+        assertEquals(1, report.getSealsChecked());
+        assertEquals(5, report.getEventsChecked());
+    }
+
+    @Test
+    @DisplayName("Should detect an event edited after sealing")
+    void verifyRange_shouldFail_whenEventEdited() {
+        events.get(2).setActionType("DELETE");
+        doReturn(List.of(seal)).when(mongoTemplate).find(any(Query.class), eq(AuditSeal.class));
+        doReturn(events).when(mongoTemplate).find(any(Query.class), eq(AuditLog.class));
+
+        AuditVerificationReport report = verificationService.verifyRange(START, START.plusHours(1));
+
+        assertFalse(report.isValid());
+        assertTrue(report.getFailures().stream().anyMatch(failure -> failure.contains("event-2")));
+    }
+
+    @Test
+    @DisplayName("Should detect an event deleted after sealing")
+    void verifyRange_shouldFail_whenEventDeleted() {
+        List<AuditLog> remaining = new ArrayList<>(events);
+        remaining.remove(1);
+        doReturn(List.of(seal)).when(mongoTemplate).find(any(Query.class), eq(AuditSeal.class));
+        doReturn(remaining).when(mongoTemplate).find(any(Query.class), eq(AuditLog.class));
+
+        AuditVerificationReport report = verificationService.verifyRange(START, START.plusHours(1));
+
+        assertFalse(report.isValid());
+        verify(auditArchive, times(1)).forEach(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should verify a single event from its Merkle proof")
+    void verifyEvent_shouldCheckProof() {
+        doReturn(events.get(3)).when(mongoTemplate).findById("event-3", AuditLog.class);
+        doReturn(seal).when(mongoTemplate).findById("seal-0", AuditSeal.class);
+
+        AuditEventVerification result = verificationService.verifyEvent("event-3");
+
+        assertTrue(result.isValid(), result.getReason());
+        assertEquals("seal-0", result.getSealId());
+    }
+
+    @Test
+    @DisplayName("Should verify a sealed event after it has moved to the archive tier")
+    void verifyEvent_shouldFindArchivedEvent(@TempDir Path archiveDir) throws IOException {
+        AuditArchive archive = new AuditArchive(new ObjectMapper().findAndRegisterModules(), archiveDir.toString(), 2);
+        archive.writeSegment(events);
+        AuditVerificationService service = new AuditVerificationService(mongoTemplate, archive, signer);
+        // no longer in the hot tier
+        doReturn(null).when(mongoTemplate).findById("event-3", AuditLog.class);
+        doReturn(seal).when(mongoTemplate).findOne(any(Query.class), eq(AuditSeal.class));
+        doReturn(seal).when(mongoTemplate).findById("seal-0", AuditSeal.class);
+
+        try {
+            AuditEventVerification result = service.verifyEvent("event-3");
+
+            assertTrue(result.isValid(), result.getReason());
+            assertEquals("seal-0", result.getSealId());
+        } finally {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Should report an event found in neither tier as missing")
+    void verifyEvent_shouldThrow_whenNotFound() {
+        assertThrows(EntityNotFoundException.class, () -> verificationService.verifyEvent("event-9"));
+        verifyNoInteractions(auditArchive);
+    }
+}
@@ -0,0 +1,147 @@
+package com.tech.service;
+
+import com.tech.dto.DashboardDTO;
+import com.tech.dto.ProjectDTO;
+import com.tech.dto.ProjectTaskStats;
+import com.tech.model.Project;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("DashboardService Unit Tests")
+class DashboardServiceTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private ReadModelAssembler readModelAssembler;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DashboardService dashboardService;
+
+    private DashboardService service(int maxConnections, long timeoutMs) {
+        dashboardService = new DashboardService(projectRepository, taskRepository, developerRepository,
+                readModelAssembler, taskStatusCounters, transactionManager, maxConnections, timeoutMs);
+        return dashboardService;
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardService.shutdown();
+    }
+
+    private static <T> Page<T> empty(long total) {
+        return new PageImpl<>(List.of(), Pageable.ofSize(10), total);
+    }
+
+    private void stubSections() {
+        Project active = new Project();
+        active.setId(4L);
+        ProjectDTO activeDto = new ProjectDTO();
+        activeDto.setId(4L);
+        when(projectRepository.findByStatus(eq(Project.ProjectStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(active), Pageable.ofSize(10), 1));
+        when(readModelAssembler.toProjectDtos(List.of(active))).thenReturn(List.of(activeDto));
+        when(projectRepository.findOverdueProjects(any(Pageable.class))).thenReturn(empty(0));
+        when(readModelAssembler.toProjectDtos(List.of())).thenReturn(List.of());
+        when(readModelAssembler.toTaskDtos(List.of())).thenReturn(List.of());
+        when(developerRepository.findDevelopersWithoutTasks(any(Pageable.class))).thenReturn(empty(2));
+        when(readModelAssembler.toDeveloperDtos(List.of())).thenReturn(List.of());
+        when(taskStatusCounters.stats(List.of(4L))).thenReturn(List.of(new ProjectTaskStats(4L, Map.of("TODO", 1L), 1)));
+    }
+
+    @Test
+    @DisplayName("Should return every section when all queries finish in time")
+    void getDashboard_shouldReturnAllSections() {
+        stubSections();
+        when(taskRepository.findOverdueTasks(any(Pageable.class))).thenReturn(empty(7));
+        when(taskRepository.findUnassignedTasks(any(Pageable.class))).thenReturn(empty(3));
+
+        DashboardDTO dashboard = service(3, 5_000).getDashboard(10);
+
+        assertTrue(dashboard.isComplete());
+        assertEquals(4L, dashboard.getActiveProjects().getItems().get(0).getId());
+        assertEquals(7, dashboard.getOverdueTasks().getTotal());
+        assertEquals(3, dashboard.getUnassignedTasks().getTotal());
+        assertEquals(2, dashboard.getDevelopersWithoutTasks().getTotal());
+        assertEquals(4L, dashboard.getActiveProjectStats().get(0).getProjectId());
+    }
+
+    @Test
+    @DisplayName("Should return the other sections when one query misses the deadline")
+    void getDashboard_shouldReturnPartialResults_whenSectionTimesOut() {
+        stubSections();
+        when(taskRepository.findOverdueTasks(any(Pageable.class))).thenAnswer(invocation -> {
+            Thread.sleep(10_000);
+            return empty(0);
+        });
+        when(taskRepository.findUnassignedTasks(any(Pageable.class))).thenReturn(empty(3));
+
+        long start = System.nanoTime();
+        DashboardDTO dashboard = service(6, 300).getDashboard(10);
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertFalse(dashboard.isComplete());
+        assertEquals(List.of("overdueTasks"), dashboard.getTimedOut());
+        assertNull(dashboard.getOverdueTasks());
+        assertNotNull(dashboard.getActiveProjects());
+        assertNotNull(dashboard.getUnassignedTasks());
+        assertTrue(elapsedMs < 5_000, "should not wait for the slow section, took " + elapsedMs + " ms");
+    }
+
+    @Test
+    @DisplayName("Should not run more sections at once than the connection bound")
+    void getDashboard_shouldBoundConcurrentQueries() {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        stubSections();
+        when(taskRepository.findOverdueTasks(any(Pageable.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return empty(0);
+        });
+        when(taskRepository.findUnassignedTasks(any(Pageable.class))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(50);
+            running.decrementAndGet();
+            return empty(0);
+        });
+
+        DashboardDTO dashboard = service(1, 5_000).getDashboard(10);
+
+        assertTrue(dashboard.isComplete());
+        assertEquals(1, maxRunning.get());
+    }
+}
@@ -2,9 +2,11 @@ package com.tech.service;
 
 import com.tech.dto.CreateDeveloperDTO;
 import com.tech.dto.DeveloperDTO;
+import com.tech.dto.fields.FieldSet;
 import com.tech.mapper.DeveloperMapper;
 import com.tech.model.Developer;
 import com.tech.repository.DeveloperRepository;
+import com.tech.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import java.util.ArrayList; // Added for mutable list
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +43,15 @@ class DeveloperServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private ReadModelAssembler readModelAssembler;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Spy
+    private PageCounts pageCounts = new PageCounts(null, 30_000);
+
     @InjectMocks
     private DeveloperService developerService;
 
@@ -75,29 +88,30 @@ class DeveloperServiceTest {
         Page<Developer> developerPage = new PageImpl<>(Arrays.asList(developer1), pageable, 1);
 
         when(developerRepository.findAll(pageable)).thenReturn(developerPage);
-        when(developerMapper.toDto(any(Developer.class))).thenReturn(developerDTO1);
+        when(readModelAssembler.toDeveloperSlice(developerPage, FieldSet.ALL)).thenReturn(new PageImpl<>(List.of(developerDTO1), pageable, 1));
 
-        Page<DeveloperDTO> result = developerService.getAllDevelopers(pageable);
+        Page<DeveloperDTO> result = (Page<DeveloperDTO>) developerService.getAllDevelopers(pageable, CountMode.EXACT, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(developerDTO1.getId(), result.getContent().get(0).getId());
         verify(developerRepository, times(1)).findAll(pageable);
-        verify(developerMapper, times(1)).toDto(developer1);
+        verify(readModelAssembler, times(1)).toDeveloperSlice(developerPage, FieldSet.ALL);
+        verifyNoInteractions(developerMapper);
     }
 
     @Test
     @DisplayName("Should return developer by ID when found")
     void getDeveloperById_shouldReturnDeveloper_whenFound() {
         when(developerRepository.findById(1L)).thenReturn(Optional.of(developer1));
-        when(developerMapper.toDto(developer1)).thenReturn(developerDTO1);
+        when(readModelAssembler.toDeveloperDtos(List.of(developer1))).thenReturn(List.of(developerDTO1));
 
         DeveloperDTO result = developerService.getDeveloperById(1L);
 
         assertNotNull(result);
         assertEquals(developerDTO1.getId(), result.getId());
         verify(developerRepository, times(1)).findById(1L);
-        verify(developerMapper, times(1)).toDto(developer1);
+        verify(readModelAssembler, times(1)).toDeveloperDtos(List.of(developer1));
     }
 
     @Test
@@ -167,10 +181,12 @@ class DeveloperServiceTest {
         updatedDeveloperDTOExpected.setSkills("Java, Spring, Microservices");
 
         when(developerRepository.findById(1L)).thenReturn(Optional.of(developer1));
+        // same(): both entities have id 1 and so are equal; the mapper must see the pre-update one first
+        when(developerMapper.toDto(same(developer1))).thenReturn(developerDTO1);
         doNothing().when(developerMapper).updateEntityFromDto(updateDeveloperDTO, developer1);
         when(developerRepository.save(developer1)).thenReturn(updatedDeveloperEntity);
-        when(developerMapper.toDto(updatedDeveloperEntity)).thenReturn(updatedDeveloperDTOExpected);
-        doNothing().when(auditLogService).logDeveloperAction(anyString(), any(DeveloperDTO.class));
+        when(developerMapper.toDto(same(updatedDeveloperEntity))).thenReturn(updatedDeveloperDTOExpected);
+        doNothing().when(auditLogService).logDeveloperUpdate(any(DeveloperDTO.class), any(DeveloperDTO.class));
 
         DeveloperDTO result = developerService.updateDeveloper(1L, updateDeveloperDTO);
 
@@ -179,8 +195,8 @@ class DeveloperServiceTest {
         verify(developerRepository, times(1)).findById(1L);
         verify(developerMapper, times(1)).updateEntityFromDto(updateDeveloperDTO, developer1);
         verify(developerRepository, times(1)).save(developer1);
-        verify(developerMapper, times(1)).toDto(updatedDeveloperEntity);
-        verify(auditLogService, times(1)).logDeveloperAction("UPDATE", updatedDeveloperDTOExpected);
+        verify(developerMapper, times(1)).toDto(same(updatedDeveloperEntity));
+        verify(auditLogService, times(1)).logDeveloperUpdate(developerDTO1, updatedDeveloperDTOExpected);
     }
 
     @Test
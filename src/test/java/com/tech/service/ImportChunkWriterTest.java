@@ -0,0 +1,212 @@
+package com.tech.service;
+
+import com.tech.imports.ImportRow;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.ImportJob;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.KeyIdRow;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportChunkWriter Unit Tests")
+class ImportChunkWriterTest {
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    private ImportChunkWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new ImportChunkWriter(projectRepository, developerRepository, taskRepository,
+                new ProjectMapper(), new DeveloperMapper(), new TaskMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                entityManager, auditLogService, taskStatusCounters, searchIndexer);
+    }
+
+    private static ImportRow row(long number, String... columns) {
+        Map<String, String> values = new HashMap<>();
+        for (int i = 0; i < columns.length; i += 2) {
+            values.put(columns[i], columns[i + 1]);
+        }
+        return new ImportRow(number, values, null);
+    }
+
+    private static Project project(Long id) {
+        Project project = new Project();
+        project.setId(id);
+        return project;
+    }
+
+    private static Developer developer(Long id) {
+        return Developer.builder().id(id).name("Dev " + id).email("dev" + id + "@example.com").build();
+    }
+
+    @Test
+    @DisplayName("Should reject external keys already stored or repeated within the chunk")
+    void write_projects_shouldRejectDuplicateExternalKeys() {
+        when(projectRepository.findIdsByExternalKeyIn(anyCollection())).thenReturn(List.of(new KeyIdRow("P-1", 7L)));
+        List<ImportRow> rows = List.of(
+                row(1, "name", "Existing", "deadline", "2026-01-01", "externalKey", "P-1"),
+                row(2, "name", "First", "deadline", "2026-01-01", "externalKey", "P-2"),
+                row(3, "name", "Repeat", "deadline", "2026-01-01", "externalKey", "P-2"),
+                row(4, "name", "Keyless", "deadline", "2026-01-01"));
+
+        ImportChunkWriter.ChunkResult result = writer.write(ImportJob.EntityType.PROJECT, rows, writer.lookups(10));
+
+        assertEquals(2, result.imported());
+        assertEquals(List.of(1L, 3L), result.errors().stream().map(ImportChunkWriter.RowError::rowNumber).toList());
+        assertTrue(result.errors().get(0).message().contains("P-1"));
+        ArgumentCaptor<List<Project>> saved = ArgumentCaptor.forClass(List.class);
+        verify(projectRepository).saveAll(saved.capture());
+        assertEquals(List.of("First", "Keyless"), saved.getValue().stream().map(Project::getName).toList());
+        verify(entityManager).flush();
+        verify(entityManager).clear();
+    }
+
+    @Test
+    @DisplayName("Should reject emails already stored or repeated within the chunk")
+    void write_developers_shouldRejectDuplicateEmails() {
+        when(developerRepository.findIdsByEmailIn(anyCollection())).thenReturn(List.of(new KeyIdRow("taken@example.com", 3L)));
+        List<ImportRow> rows = List.of(
+                row(1, "name", "Ann", "email", "ann@example.com"),
+                row(2, "name", "Bob", "email", "taken@example.com"),
+                row(3, "name", "Ann again", "email", "ann@example.com"),
+                row(4, "name", "No mail"));
+
+        ImportChunkWriter.ChunkResult result = writer.write(ImportJob.EntityType.DEVELOPER, rows, writer.lookups(10));
+
+        assertEquals(1, result.imported());
+        assertEquals(List.of(2L, 3L, 4L), result.errors().stream().map(ImportChunkWriter.RowError::rowNumber).toList());
+        verify(auditLogService).logBulkAction(eq(AuditLogService.ENTITY_DEVELOPER), eq(ImportChunkWriter.IMPORT_ACTION), anyList());
+    }
+
+    @Test
+    @DisplayName("Should report unreadable rows without looking at them further")
+    void write_shouldReportUnreadableRows() {
+        List<ImportRow> rows = List.of(ImportRow.invalid(1, "expected 3 columns, got 2"));
+
+        ImportChunkWriter.ChunkResult result = writer.write(ImportJob.EntityType.DEVELOPER, rows, writer.lookups(10));
+
+        assertEquals(0, result.imported());
+        assertEquals(List.of(new ImportChunkWriter.RowError(1, "expected 3 columns, got 2")), result.errors());
+        verify(developerRepository, never()).saveAll(any());
+        verifyNoInteractions(auditLogService);
+    }
+
+    @Test
+    @DisplayName("Should resolve projects by key or name and assignees by email, reporting what does not resolve")
+    void write_tasks_shouldResolveReferences() {
+        when(projectRepository.findIdsByExternalKeyIn(anyCollection())).thenReturn(List.of(new KeyIdRow("P-1", 1L)));
+        when(projectRepository.findIdsByNameIn(anyCollection()))
+                .thenReturn(List.of(new KeyIdRow("Alpha", 2L), new KeyIdRow("Twin", 3L), new KeyIdRow("Twin", 4L)));
+        when(developerRepository.findIdsByEmailIn(anyCollection())).thenReturn(List.of(new KeyIdRow("dev10@example.com", 10L)));
+        when(developerRepository.findAllById(anyCollection())).thenReturn(List.of(developer(10L)));
+        when(entityManager.getReference(eq(Project.class), anyLong()))
+                .thenAnswer(invocation -> project(invocation.getArgument(1)));
+        List<ImportRow> rows = List.of(
+                row(1, "title", "By key", "projectKey", "P-1", "assignees", "dev10@example.com"),
+                row(2, "title", "By name", "project", "Alpha"),
+                row(3, "title", "Ambiguous", "project", "Twin"),
+                row(4, "title", "Unknown key", "projectKey", "P-9"),
+                row(5, "title", "Unknown assignee", "projectKey", "P-1", "assignees", "nobody@example.com"),
+                row(6, "title", "No project"));
+
+        ImportChunkWriter.ChunkResult result = writer.write(ImportJob.EntityType.TASK, rows, writer.lookups(10));
+
+        assertEquals(2, result.imported());
+        assertEquals(List.of(3L, 4L, 5L, 6L), result.errors().stream().map(ImportChunkWriter.RowError::rowNumber).toList());
+        assertTrue(result.errors().get(0).message().contains("use projectKey"));
+        ArgumentCaptor<List<Task>> saved = ArgumentCaptor.forClass(List.class);
+        verify(taskRepository).saveAll(saved.capture());
+        Task byKey = saved.getValue().get(0);
+        assertEquals(1L, byKey.getProject().getId());
+        assertEquals(List.of(10L), byKey.getAssignedDevelopers().stream().map(Developer::getId).toList());
+        assertEquals(2L, saved.getValue().get(1).getProject().getId());
+    }
+
+    @Test
+    @DisplayName("Should reuse references resolved by an earlier chunk of the same run")
+    void write_tasks_shouldCacheLookupsAcrossChunks() {
+        when(projectRepository.findIdsByExternalKeyIn(anyCollection())).thenReturn(List.of(new KeyIdRow("P-1", 1L)));
+        when(entityManager.getReference(eq(Project.class), anyLong())).thenReturn(project(1L));
+        ImportChunkWriter.Lookups lookups = writer.lookups(10);
+
+        writer.write(ImportJob.EntityType.TASK, List.of(row(1, "title", "One", "projectKey", "P-1")), lookups);
+        writer.write(ImportJob.EntityType.TASK, List.of(row(2, "title", "Two", "projectKey", "P-1")), lookups);
+
+        verify(projectRepository, times(1)).findIdsByExternalKeyIn(anyCollection());
+        verify(taskRepository, times(2)).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("Should adjust the status counters by the chunk's imported tasks per project and status")
+    void write_tasks_shouldAdjustStatusCounters() {
+        when(projectRepository.findIdsByExternalKeyIn(anyCollection()))
+                .thenReturn(List.of(new KeyIdRow("P-1", 1L), new KeyIdRow("P-2", 2L)));
+        when(entityManager.getReference(eq(Project.class), anyLong()))
+                .thenAnswer(invocation -> project(invocation.getArgument(1)));
+        List<ImportRow> rows = new ArrayList<>(List.of(
+                row(1, "title", "a", "projectKey", "P-1", "status", "TODO"),
+                row(2, "title", "b", "projectKey", "P-1", "status", "todo"),
+                row(3, "title", "c", "projectKey", "P-1", "status", "DONE"),
+                row(4, "title", "d", "projectKey", "P-2", "status", "IN_PROGRESS"),
+                row(5, "title", "e", "projectKey", "P-2", "status", "SOMEDAY")));
+
+        ImportChunkWriter.ChunkResult result = writer.write(ImportJob.EntityType.TASK, rows, writer.lookups(10));
+
+        assertEquals(4, result.imported());
+        assertEquals(List.of(5L), result.errors().stream().map(ImportChunkWriter.RowError::rowNumber).toList());
+        verify(taskStatusCounters).adjust(1L, Task.TaskStatus.TODO, 2);
+        verify(taskStatusCounters).adjust(1L, Task.TaskStatus.DONE, 1);
+        verify(taskStatusCounters).adjust(2L, Task.TaskStatus.IN_PROGRESS, 1);
+        verifyNoMoreInteractions(taskStatusCounters);
+    }
+}
@@ -0,0 +1,146 @@
+package com.tech.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.tech.imports.ImportRow;
+import com.tech.model.ImportJob;
+import com.tech.repository.ImportJobRepository;
+import com.tech.repository.ImportRowErrorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ImportService Unit Tests")
+class ImportServiceTest {
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private ImportRowErrorRepository importRowErrorRepository;
+
+    @Mock
+    private ImportChunkWriter chunkWriter;
+
+    @Mock
+    private PageCounts pageCounts;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    private Path directory;
+
+    private ImportService importService;
+    private ImportJob job;
+
+    // the rows of every chunk handed to the writer, by row number
+    private final List<List<Long>> chunks = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        importService = new ImportService(importJobRepository, importRowErrorRepository, chunkWriter, pageCounts,
+                transactionTemplate, new ObjectMapper(), directory.toString(), 2, 10, 100, 1);
+
+        Path upload = directory.resolve("developers.csv");
+        Files.writeString(upload, """
+                name,email
+                Dev 1,dev1@example.com
+                Dev 2,dev2@example.com
+                Dev 3,dev3@example.com
+                Dev 4,dev4@example.com
+                Dev 5,dev5@example.com
+                """);
+        job = ImportJob.builder().id(1L).entityType(ImportJob.EntityType.DEVELOPER).format(ImportJob.Format.CSV)
+                .status(ImportJob.Status.QUEUED).storedPath(upload.toString()).createdAt(Instant.now()).build();
+
+        when(importJobRepository.findById(1L)).thenAnswer(invocation -> Optional.of(job));
+        when(importJobRepository.save(any(ImportJob.class))).then(returnsFirstArg());
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<ImportJob>>getArgument(0).doInTransaction(null));
+        when(chunkWriter.lookups(10)).thenReturn(new ImportChunkWriter.Lookups(null, null, null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        importService.shutdown();
+    }
+
+    private void writeChunks(int failingChunk) {
+        doAnswer(invocation -> {
+            List<ImportRow> rows = invocation.getArgument(1);
+            chunks.add(rows.stream().map(ImportRow::number).toList());
+            if (chunks.size() == failingChunk) {
+                throw new IllegalStateException("connection reset");
+            }
+            return new ImportChunkWriter.ChunkResult(rows.size(), List.of());
+        }).when(chunkWriter).write(eq(ImportJob.EntityType.DEVELOPER), anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Should import the file chunk by chunk, checkpointing after each")
+    void run_shouldImportEveryChunk() {
+        writeChunks(0);
+
+        importService.run(1L);
+
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L, 4L), List.of(5L)), chunks);
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getCheckpointRow());
+        assertEquals(5, job.getRowsImported());
+        assertFalse(Files.exists(Path.of(job.getStoredPath())));
+        verify(pageCounts).invalidate(DeveloperService.DEVELOPERS_TABLE);
+    }
+
+    @Test
+    @DisplayName("Should keep the last committed checkpoint when a chunk fails")
+    void run_shouldFailAtLastCommittedChunk() {
+        writeChunks(2);
+
+        importService.run(1L);
+
+        assertEquals(ImportJob.Status.FAILED, job.getStatus());
+        assertEquals("connection reset", job.getError());
+        assertEquals(2, job.getCheckpointRow());
+        assertEquals(2, job.getRowsImported());
+        assertTrue(Files.exists(Path.of(job.getStoredPath())));
+    }
+
+    @Test
+    @DisplayName("Should resume a failed import after its last committed chunk")
+    void run_shouldResumeAfterCheckpoint() {
+        writeChunks(2);
+        importService.run(1L);
+        chunks.clear();
+        writeChunks(0);
+
+        importService.run(1L);
+
+        assertEquals(List.of(List.of(3L, 4L), List.of(5L)), chunks);
+        assertEquals(ImportJob.Status.COMPLETED, job.getStatus());
+        assertEquals(5, job.getCheckpointRow());
+        assertEquals(5, job.getRowsImported());
+    }
+}
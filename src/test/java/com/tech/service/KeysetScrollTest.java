@@ -0,0 +1,97 @@
+package com.tech.service;
+
+import com.tech.dto.CursorPage;
+import com.tech.exception.InvalidCursorException;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.Task;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("KeysetScroll Unit Tests")
+class KeysetScrollTest {
+
+    private final KeysetScroll scroll = KeysetScroll.of("tasks")
+            .sortKey("title", value -> value)
+            .sortKey("status", Task.TaskStatus::valueOf);
+
+    private record Row(Long id, String title) {
+    }
+
+    private static final Function<List<Row>, List<Row>> AS_IS = rows -> rows;
+
+    @Test
+    @DisplayName("Should seek the next page from the last row's sort key and id")
+    void scroll_shouldRoundTripCursor() {
+        List<Row> rows = List.of(new Row(7L, "alpha"), new Row(3L, "beta"));
+        List<ScrollPosition> seen = new ArrayList<>();
+        List<Sort> sorts = new ArrayList<>();
+        KeysetScroll.Query<Row> query = (position, sort, limit) -> {
+            seen.add(position);
+            sorts.add(sort);
+            return Window.from(rows, i -> ScrollPosition.forward(Map.of("title", rows.get(i).title(), "id", rows.get(i).id())), true);
+        };
+
+        CursorPage<Row> first = scroll.scroll("title,desc", "", 2, query, AS_IS);
+        scroll.scroll("title,desc", first.getNextCursor(), 2, query, AS_IS);
+
+        assertTrue(first.isHasNext());
+        assertTrue(seen.get(0).isInitial());
+        KeysetScrollPosition next = (KeysetScrollPosition) seen.get(1);
+        assertEquals(Map.of("title", "beta", "id", 3L), next.getKeys());
+        assertEquals(Sort.by(Sort.Order.desc("title"), Sort.Order.desc("id")), sorts.get(0));
+    }
+
+    @Test
+    @DisplayName("Should not issue a cursor on the last page")
+    void scroll_shouldEndWithoutCursor() {
+        KeysetScroll.Query<Row> query = (position, sort, limit) -> Window.from(List.of(new Row(1L, "a")), i -> ScrollPosition.keyset(), false);
+
+        CursorPage<Row> page = scroll.scroll(null, null, 50, query, AS_IS);
+
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should clamp the page size")
+    void scroll_shouldClampLimit() {
+        List<Limit> limits = new ArrayList<>();
+        KeysetScroll.Query<Row> query = (position, sort, limit) -> {
+            limits.add(limit);
+            return Window.from(List.of(), i -> ScrollPosition.keyset(), false);
+        };
+
+        scroll.scroll("id", null, 100_000, query, AS_IS);
+
+        assertEquals(KeysetScroll.MAX_PAGE_SIZE, limits.get(0).max());
+    }
+
+    @Test
+    @DisplayName("Should reject sort keys that are not allowed")
+    void scroll_shouldRejectNullableSortKey() {
+        KeysetScroll.Query<Row> query = (position, sort, limit) -> fail("should not query");
+
+        assertThrows(InvalidQueryException.class, () -> scroll.scroll("dueDate", null, 10, query, AS_IS));
+    }
+
+    @Test
+    @DisplayName("Should reject a cursor issued for a different sort")
+    void scroll_shouldRejectCursorForOtherSort() {
+        String cursor = CursorCodec.encode("title", "ASC", "beta", "3");
+        KeysetScroll.Query<Row> query = (position, sort, limit) -> fail("should not query");
+
+        assertThrows(InvalidCursorException.class, () -> scroll.scroll("status", cursor, 10, query, AS_IS));
+    }
+}
@@ -0,0 +1,54 @@
+package com.tech.service;
+
+import com.tech.dto.MultiGetResponse;
+import com.tech.exception.InvalidQueryException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("MultiGet Unit Tests")
+class MultiGetTest {
+
+    private record Item(Long id) {
+    }
+
+    @Test
+    @DisplayName("Should keep request order, drop duplicates and report missing ids")
+    void load_shouldOrderAndReportMissing() {
+        MultiGetResponse<Item> response = MultiGet.load(List.of(3L, 1L, 3L, 99L),
+                chunk -> chunk.stream().filter(id -> id != 99L).map(Item::new).toList(), Item::id);
+
+        assertEquals(List.of(new Item(3L), new Item(1L)), response.getItems());
+        assertEquals(List.of(99L), response.getMissingIds());
+    }
+
+    @Test
+    @DisplayName("Should split large id lists into bounded IN queries")
+    void load_shouldChunkLargeLists() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        MultiGetResponse<Item> response = MultiGet.load(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk.stream().map(Item::new).toList();
+        }, Item::id);
+
+        assertEquals(List.of(1000, 1000, 500), chunkSizes);
+        assertEquals(2500, response.getItems().size());
+        assertTrue(response.getMissingIds().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized requests")
+    void load_shouldRejectBadSizes() {
+        List<Long> tooMany = LongStream.rangeClosed(1, MultiGet.MAX_IDS + 1).boxed().toList();
+
+        assertThrows(InvalidQueryException.class, () -> MultiGet.load(List.of(), chunk -> List.of(), Item::id));
+        assertThrows(InvalidQueryException.class, () -> MultiGet.load(tooMany, chunk -> List.of(), Item::id));
+    }
+}
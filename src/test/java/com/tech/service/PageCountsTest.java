@@ -0,0 +1,136 @@
+package com.tech.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PageCounts Unit Tests")
+class PageCountsTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PageCounts pageCounts;
+
+    private final Pageable pageable = PageRequest.of(0, 2);
+    private final AtomicInteger pageQueries = new AtomicInteger();
+    private final AtomicInteger countQueries = new AtomicInteger();
+
+    private final Function<Pageable, Page<String>> pageQuery = page -> {
+        pageQueries.incrementAndGet();
+        return new PageImpl<>(List.of("a", "b"), page, 40);
+    };
+    private final Function<Pageable, Slice<String>> sliceQuery = page -> new SliceImpl<>(List.of("a", "b"), page, true);
+    private final LongSupplier countQuery = () -> {
+        countQueries.incrementAndGet();
+        return 40;
+    };
+
+    @BeforeEach
+    void setUp() {
+        pageCounts = new PageCounts(jdbcTemplate, 60_000);
+    }
+
+    @Test
+    @DisplayName("EXACT should run the repository page query with its count")
+    void fetch_exact_shouldUsePageQuery() {
+        Slice<String> result = pageCounts.fetch(CountMode.EXACT, "tasks", null, pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(40, ((Page<String>) result).getTotalElements());
+        assertEquals(1, pageQueries.get());
+        assertEquals(0, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("NONE should return a slice without counting")
+    void fetch_none_shouldSkipCount() {
+        Slice<String> result = pageCounts.fetch(CountMode.NONE, "tasks", null, pageable, pageQuery, sliceQuery, countQuery);
+
+        assertFalse(result instanceof Page);
+        assertTrue(result.hasNext());
+        assertEquals(0, pageQueries.get());
+        assertEquals(0, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("CACHED should count once per predicate until the table is written to")
+    void fetch_cached_shouldReuseCountUntilInvalidated() {
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=1", pageable, pageQuery, sliceQuery, countQuery);
+        Slice<String> second = pageCounts.fetch(CountMode.CACHED, "tasks", "project=1", pageable, pageQuery, sliceQuery, countQuery);
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=2", pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(40, ((Page<String>) second).getTotalElements());
+        assertEquals(2, countQueries.get());
+
+        pageCounts.invalidate("tasks");
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=1", pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(3, countQueries.get());
+        assertEquals(0, pageQueries.get());
+    }
+
+    @Test
+    @DisplayName("Scoped invalidation should only drop the listed predicates")
+    void invalidate_scoped_shouldKeepOtherPredicates() {
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=1", pageable, pageQuery, sliceQuery, countQuery);
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=2", pageable, pageQuery, sliceQuery, countQuery);
+
+        pageCounts.invalidate("tasks", List.of("project=1"));
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=1", pageable, pageQuery, sliceQuery, countQuery);
+        pageCounts.fetch(CountMode.CACHED, "tasks", "project=2", pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(3, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("ESTIMATE should use planner statistics for unfiltered listings")
+    void fetch_estimate_shouldUseReltuples() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("tasks"))).thenReturn(1_000_000L);
+
+        Slice<String> result = pageCounts.fetch(CountMode.ESTIMATE, "tasks", null, pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(1_000_000L, ((Page<String>) result).getTotalElements());
+        assertEquals(0, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("ESTIMATE should count when the table has no statistics yet")
+    void fetch_estimate_shouldFallBack_whenNeverAnalyzed() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("tasks"))).thenReturn(-1L);
+
+        Slice<String> result = pageCounts.fetch(CountMode.ESTIMATE, "tasks", null, pageable, pageQuery, sliceQuery, countQuery);
+
+        assertEquals(40, ((Page<String>) result).getTotalElements());
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("ESTIMATE should fall back to the cached count for filtered listings")
+    void fetch_estimate_shouldNotEstimateFilteredListings() {
+        pageCounts.fetch(CountMode.ESTIMATE, "tasks", "developer=3", pageable, pageQuery, sliceQuery, countQuery);
+
+        verifyNoInteractions(jdbcTemplate);
+        assertEquals(1, countQueries.get());
+    }
+}
@@ -2,9 +2,11 @@ package com.tech.service;
 
 import com.tech.dto.CreateProjectDTO;
 import com.tech.dto.ProjectDTO;
+import com.tech.dto.fields.FieldSet;
 import com.tech.mapper.ProjectMapper;
 import com.tech.model.Project;
 import com.tech.repository.ProjectRepository;
+import com.tech.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -12,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -21,6 +24,7 @@ import org.springframework.data.domain.Pageable;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -39,6 +43,18 @@ class ProjectServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private ReadModelAssembler readModelAssembler;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Spy
+    private PageCounts pageCounts = new PageCounts(null, 30_000);
+
     @InjectMocks
     private ProjectService projectService;
 
@@ -78,29 +94,30 @@ class ProjectServiceTest {
         Page<Project> projectPage = new PageImpl<>(Arrays.asList(project1), pageable, 1);
 
         when(projectRepository.findAll(pageable)).thenReturn(projectPage);
-        when(projectMapper.toDto(any(Project.class))).thenReturn(projectDTO1);
+        when(readModelAssembler.toProjectSlice(projectPage, FieldSet.ALL)).thenReturn(new PageImpl<>(List.of(projectDTO1), pageable, 1));
 
-        Page<ProjectDTO> result = projectService.getAllProjects(pageable);
+        Page<ProjectDTO> result = (Page<ProjectDTO>) projectService.getAllProjects(pageable, CountMode.EXACT, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(projectDTO1.getId(), result.getContent().get(0).getId());
         verify(projectRepository, times(1)).findAll(pageable);
-        verify(projectMapper, times(1)).toDto(project1);
+        verify(readModelAssembler, times(1)).toProjectSlice(projectPage, FieldSet.ALL);
+        verifyNoInteractions(projectMapper);
     }
 
     @Test
     @DisplayName("Should return project by ID when found")
     void getProjectById_shouldReturnProject_whenFound() {
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project1));
-        when(projectMapper.toDto(project1)).thenReturn(projectDTO1);
+        when(readModelAssembler.toProjectDtos(List.of(project1), FieldSet.ALL)).thenReturn(List.of(projectDTO1));
 
-        ProjectDTO result = projectService.getProjectById(1L);
+        ProjectDTO result = projectService.getProjectById(1L, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(projectDTO1.getId(), result.getId());
         verify(projectRepository, times(1)).findById(1L);
-        verify(projectMapper, times(1)).toDto(project1);
+        verify(readModelAssembler, times(1)).toProjectDtos(List.of(project1), FieldSet.ALL);
     }
 
     @Test
@@ -108,7 +125,7 @@ class ProjectServiceTest {
     void getProjectById_shouldThrowException_whenNotFound() {
         when(projectRepository.findById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(EntityNotFoundException.class, () -> projectService.getProjectById(99L));
+        assertThrows(EntityNotFoundException.class, () -> projectService.getProjectById(99L, FieldSet.ALL));
         verify(projectRepository, times(1)).findById(99L);
         verifyNoInteractions(projectMapper);
     }
@@ -177,10 +194,11 @@ class ProjectServiceTest {
         updatedProjectDTO.setStatus("DONE");
 
         when(projectRepository.findById(1L)).thenReturn(Optional.of(project1));
+        when(projectMapper.toDto(project1)).thenReturn(projectDTO1);
         doNothing().when(projectMapper).updateEntityFromDto(updateProjectDTO, project1);
         when(projectRepository.save(project1)).thenReturn(updatedProject);
         when(projectMapper.toDto(updatedProject)).thenReturn(updatedProjectDTO);
-        doNothing().when(auditLogService).logProjectAction(anyString(), any(ProjectDTO.class));
+        doNothing().when(auditLogService).logProjectUpdate(any(ProjectDTO.class), any(ProjectDTO.class));
 
         ProjectDTO result = projectService.updateProject(1L, updateProjectDTO);
 
@@ -191,7 +209,7 @@ class ProjectServiceTest {
         verify(projectMapper, times(1)).updateEntityFromDto(updateProjectDTO, project1);
         verify(projectRepository, times(1)).save(project1);
         verify(projectMapper, times(1)).toDto(updatedProject);
-        verify(auditLogService, times(1)).logProjectAction("UPDATE", updatedProjectDTO);
+        verify(auditLogService, times(1)).logProjectUpdate(projectDTO1, updatedProjectDTO);
     }
 
     @Test
@@ -219,6 +237,7 @@ class ProjectServiceTest {
 
         verify(projectRepository, times(1)).findById(1L);
         verify(projectRepository, times(1)).deleteById(1L);
+        verify(taskStatusCounters, times(1)).projectDeleted(1L);
         verify(auditLogService, times(1)).logProjectAction("DELETE", projectDTO1);
     }
 
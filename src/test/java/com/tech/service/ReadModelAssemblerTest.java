@@ -0,0 +1,124 @@
+package com.tech.service;
+
+import com.tech.dto.DeveloperDTO;
+import com.tech.dto.ProjectDTO;
+import com.tech.dto.TaskDTO;
+import com.tech.dto.fields.DtoSchemas;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.AssigneeRow;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ReadModelAssembler Unit Tests")
+class ReadModelAssemblerTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private ReadModelAssembler assembler;
+
+    @BeforeEach
+    void setUp() {
+        assembler = new ReadModelAssembler(taskRepository, new TaskMapper(), new ProjectMapper(), new DeveloperMapper());
+    }
+
+    private List<TaskRow> taskRows(int count) {
+        List<TaskRow> rows = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            rows.add(new TaskRow(id, "Task " + id, null, Task.TaskStatus.TODO, null, 1L, "Project Alpha"));
+        }
+        return rows;
+    }
+
+    @Test
+    @DisplayName("Tasks without assignees should not trigger the developer task-id query")
+    void toTaskDtos_shouldSkipDeveloperQuery_whenNoAssignees() {
+        when(taskRepository.findAssigneesByTaskIds(anyCollection())).thenReturn(List.of());
+
+        List<TaskDTO> tasks = assembler.toTaskDtos(taskRows(3));
+
+        assertEquals(3, tasks.size());
+        assertTrue(tasks.get(0).getAssignedDevelopers().isEmpty());
+        verify(taskRepository, never()).findTaskIdsByDeveloperIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Tasks should not load assignees when the field set leaves them out")
+    void toTaskDtos_shouldSkipAssigneeQuery_whenNotRequested() {
+        List<TaskDTO> tasks = assembler.toTaskDtos(taskRows(3), DtoSchemas.TASK.parse("id,title,projectName"));
+
+        assertEquals(3, tasks.size());
+        assertNull(tasks.get(0).getAssignedDevelopers());
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Assignees should not load their task ids unless requested")
+    void toTaskDtos_shouldSkipDeveloperQuery_whenTaskIdsNotRequested() {
+        when(taskRepository.findAssigneesByTaskIds(anyCollection()))
+                .thenReturn(List.of(new AssigneeRow(1L, 4L, "Dev 4", "dev4@example.com", "Java")));
+
+        List<TaskDTO> tasks = assembler.toTaskDtos(taskRows(1), DtoSchemas.TASK.parse("id,assignedDevelopers.name"));
+
+        assertEquals("Dev 4", tasks.get(0).getAssignedDevelopers().get(0).getName());
+        verify(taskRepository, never()).findTaskIdsByDeveloperIds(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Projects should get their task ids from one batched query")
+    void toProjectDtos_shouldBatchTaskIds() {
+        List<Project> projects = new ArrayList<>();
+        for (long id = 1; id <= 20; id++) {
+            Project project = new Project();
+            project.setId(id);
+            project.setName("Project " + id);
+            projects.add(project);
+        }
+        when(taskRepository.findTaskIdsByProjectIds(anyCollection()))
+                .thenReturn(List.of(new IdPairRow(1L, 10L), new IdPairRow(1L, 11L), new IdPairRow(2L, 12L)));
+
+        List<ProjectDTO> result = assembler.toProjectDtos(projects);
+
+        assertEquals(List.of(10L, 11L), result.get(0).getTaskIds());
+        assertEquals(List.of(12L), result.get(1).getTaskIds());
+        assertEquals(List.of(), result.get(2).getTaskIds());
+        verify(taskRepository, times(1)).findTaskIdsByProjectIds(anyCollection());
+        verifyNoMoreInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Developers should get their task ids from one batched query")
+    void toDeveloperDtos_shouldBatchTaskIds() {
+        List<Developer> developers = List.of(
+                Developer.builder().id(1L).name("Alice").email("alice@example.com").build(),
+                Developer.builder().id(2L).name("Bob").email("bob@example.com").build());
+        when(taskRepository.findTaskIdsByDeveloperIds(anyCollection())).thenReturn(List.of(new IdPairRow(2L, 5L)));
+
+        List<DeveloperDTO> result = assembler.toDeveloperDtos(developers);
+
+        assertEquals(List.of(), result.get(0).getTaskIds());
+        assertEquals(List.of(5L), result.get(1).getTaskIds());
+        verify(taskRepository, times(1)).findTaskIdsByDeveloperIds(anyCollection());
+        verifyNoMoreInteractions(taskRepository);
+    }
+}
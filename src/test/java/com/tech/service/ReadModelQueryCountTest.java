@@ -0,0 +1,259 @@
+package com.tech.service;
+
+import com.tech.dto.BulkTaskUpdateDTO;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.validation.beanvalidation.LocalValidatorFactoryBean;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Counts the SQL statements Hibernate prepares for a page of tasks, projects
+ * and developers, read and mapped the way the list endpoints do it, and checks
+ * that a page of 50 costs the same as a page of 5. A bulk update is counted on
+ * the connections instead, since its join-table writes go through a
+ * {@link JdbcTemplate}: updating 50 tasks must cost the same as updating 5.
+ * Skipped when Docker is not available.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ReadModelAssembler.class, TaskMapper.class, ProjectMapper.class, DeveloperMapper.class,
+        TaskBulkService.class, LocalValidatorFactoryBean.class, ReadModelQueryCountTest.StatementCounting.class})
+@DisplayName("Read model query counts")
+class ReadModelQueryCountTest {
+
+    private static final int ROWS = 60;
+
+    @Container
+    @ServiceConnection
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private DeveloperRepository developerRepository;
+
+    @Autowired
+    private ReadModelAssembler readModelAssembler;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TaskBulkService taskBulkService;
+
+    @MockitoBean
+    private AuditLogService auditLogService;
+
+    @MockitoBean
+    private TaskStatusCounters taskStatusCounters;
+
+    @MockitoBean
+    private PageCounts pageCounts;
+
+    @MockitoBean
+    private SearchIndexer searchIndexer;
+
+    // every project has one task, every task two developers and every developer two tasks
+    @BeforeEach
+    void setUp() {
+        List<Developer> developers = new ArrayList<>();
+        for (int i = 0; i < ROWS; i++) {
+            developers.add(developerRepository.save(
+                    Developer.builder().name("Dev " + i).email("dev" + i + "@example.com").skills("Java").build()));
+        }
+        for (int i = 0; i < ROWS; i++) {
+            Project project = new Project();
+            project.setName("Project " + i);
+            project.setDeadline(LocalDate.now().plusMonths(1));
+            project = projectRepository.save(project);
+
+            Task task = new Task();
+            task.setTitle("Task " + i);
+            task.setProject(project);
+            task.setAssignedDevelopers(new HashSet<>(Set.of(developers.get(i), developers.get((i + 1) % ROWS))));
+            taskRepository.save(task);
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM task_developers");
+        taskRepository.deleteAll();
+        developerRepository.deleteAll();
+        projectRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("A page of tasks should cost the same number of statements whatever its size")
+    void taskPage_shouldUseFixedStatementCount() {
+        assertFixedStatementCount(size -> readModelAssembler
+                .toTaskSlice(taskRepository.findTaskRows(PageRequest.of(0, size))).getContent().size());
+    }
+
+    @Test
+    @DisplayName("A page of projects should cost the same number of statements whatever its size")
+    void projectPage_shouldUseFixedStatementCount() {
+        assertFixedStatementCount(size -> readModelAssembler
+                .toProjectSlice(projectRepository.findAll(PageRequest.of(0, size))).getContent().size());
+    }
+
+    @Test
+    @DisplayName("A page of developers should cost the same number of statements whatever its size")
+    void developerPage_shouldUseFixedStatementCount() {
+        assertFixedStatementCount(size -> readModelAssembler
+                .toDeveloperSlice(developerRepository.findAll(PageRequest.of(0, size))).getContent().size());
+    }
+
+    @Test
+    @DisplayName("A bulk update that reassigns every task should cost the same number of statements whatever its size")
+    void bulkUpdate_shouldUseFixedStatementCount() {
+        List<BulkTaskUpdateDTO> items = jdbcTemplate.query("SELECT id, project_id FROM tasks ORDER BY id", (rs, rowNum) -> {
+            BulkTaskUpdateDTO item = new BulkTaskUpdateDTO();
+            item.setId(rs.getLong("id"));
+            item.setTitle("Task " + rowNum);
+            item.setProjectId(rs.getLong("project_id"));
+            return item;
+        });
+        List<Long> developerIds = jdbcTemplate.queryForList("SELECT id FROM developers ORDER BY id", Long.class);
+        // every task keeps one of its two developers and swaps the other for a third
+        for (int i = 0; i < items.size(); i++) {
+            items.get(i).setAssignedDeveloperIds(List.of(developerIds.get(i), developerIds.get((i + 2) % ROWS)));
+        }
+
+        long small = bulkStatementsFor(items.subList(0, 5));
+        long large = bulkStatementsFor(items.subList(5, 55));
+        assertEquals(small, large, "statements for a bulk update of 5 vs 50 tasks");
+        assertEquals(2 * ROWS, jdbcTemplate.queryForObject("SELECT count(*) FROM task_developers", Long.class));
+    }
+
+    private long bulkStatementsFor(List<BulkTaskUpdateDTO> items) {
+        StatementCounting.PREPARED.set(0);
+        assertEquals(items.size(), taskBulkService.updateTasks(items).succeeded());
+        return StatementCounting.PREPARED.get();
+    }
+
+    private void assertFixedStatementCount(IntFunction<Integer> readPage) {
+        long small = statementsFor(5, readPage);
+        long large = statementsFor(50, readPage);
+        assertEquals(small, large, "statements for a page of 5 vs a page of 50");
+    }
+
+    // runs one page read in its own read-only transaction, as the services do, and counts its statements
+    private long statementsFor(int size, IntFunction<Integer> readPage) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setReadOnly(true);
+        statistics.clear();
+        int read = tx.execute(status -> readPage.apply(size));
+        assertEquals(size, read);
+        return statistics.getPrepareStatementCount();
+    }
+
+    /** Counts the statements prepared on any connection of the test's data source. */
+    @TestConfiguration
+    static class StatementCounting {
+
+        static final AtomicLong PREPARED = new AtomicLong();
+
+        @Bean
+        static BeanPostProcessor countingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? new CountingDataSource(dataSource) : bean;
+                }
+            };
+        }
+
+        private static final class CountingDataSource extends DelegatingDataSource {
+
+            CountingDataSource(DataSource target) {
+                super(target);
+            }
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(String username, String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+
+            private static Connection counting(Connection connection) {
+                return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                        (proxy, method, args) -> {
+                            if (method.getName().startsWith("prepare")) {
+                                PREPARED.incrementAndGet();
+                            }
+                            try {
+                                return method.invoke(connection, args);
+                            } catch (InvocationTargetException e) {
+                                throw e.getCause();
+                            }
+                        });
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.tech.service;
+
+import com.tech.dto.BoardColumn;
+import com.tech.dto.BoardDTO;
+import com.tech.exception.InvalidCursorException;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Task.TaskStatus;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.BoardRow;
+import com.tech.repository.projection.TaskRow;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskBoardService Unit Tests")
+class TaskBoardServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    private TaskBoardService boardService;
+
+    @BeforeEach
+    void setUp() {
+        boardService = new TaskBoardService(taskRepository, projectRepository, new TaskMapper());
+    }
+
+    private static BoardRow row(long id, TaskStatus status, long columnTotal) {
+        return new BoardRow(new TaskRow(id, "Task " + id, null, status, null, 1L, "Project Alpha"), columnTotal);
+    }
+
+    @Test
+    @DisplayName("Should build every column from one query, with totals and per-column cursors")
+    void getBoard_shouldBuildAllColumns() {
+        List<BoardRow> rows = new ArrayList<>();
+        rows.add(row(1, TaskStatus.TODO, 5));
+        rows.add(row(2, TaskStatus.TODO, 5));
+        rows.add(row(3, TaskStatus.TODO, 5));
+        rows.add(row(9, TaskStatus.DONE, 1));
+        when(taskRepository.findBoardRows(eq(1L), anyMap(), eq(3))).thenReturn(rows);
+
+        BoardDTO board = boardService.getBoard(1L, null, 2);
+
+        assertEquals(List.of("TODO", "IN_PROGRESS", "REVIEW", "DONE"),
+                board.getColumns().stream().map(BoardColumn::getStatus).toList());
+        BoardColumn todo = board.getColumns().get(0);
+        assertEquals(2, todo.getTasks().size());
+        assertEquals(5L, todo.getTotal());
+        assertTrue(todo.isHasNext());
+        assertEquals(List.of("TODO", "2"), CursorCodec.decode(todo.getNextCursor(), 2));
+        assertEquals(0L, board.getColumns().get(1).getTotal());
+        assertFalse(board.getColumns().get(3).isHasNext());
+        verify(taskRepository, times(1)).findBoardRows(eq(1L), anyMap(), eq(3));
+        verifyNoInteractions(projectRepository);
+    }
+
+    @Test
+    @DisplayName("A cursor should page only its own column, after its last task")
+    void getBoard_shouldPageOneColumn() {
+        String cursor = CursorCodec.encode("REVIEW", "40");
+        when(taskRepository.findBoardRows(1L, Map.of(TaskStatus.REVIEW, 40L), 21)).thenReturn(List.of(row(41, TaskStatus.REVIEW, 12)));
+
+        BoardDTO board = boardService.getBoard(1L, List.of(cursor), 20);
+
+        assertEquals(1, board.getColumns().size());
+        assertEquals("REVIEW", board.getColumns().get(0).getStatus());
+        assertEquals(12L, board.getColumns().get(0).getTotal());
+        assertNull(board.getColumns().get(0).getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should reject two cursors for the same column")
+    void getBoard_shouldRejectDuplicateColumnCursor() {
+        List<String> cursors = List.of(CursorCodec.encode("TODO", "1"), CursorCodec.encode("TODO", "5"));
+
+        assertThrows(InvalidCursorException.class, () -> boardService.getBoard(1L, cursors, 20));
+        verifyNoInteractions(taskRepository);
+    }
+
+    @Test
+    @DisplayName("Should throw EntityNotFoundException for an unknown project")
+    void getBoard_shouldThrow_whenProjectNotFound() {
+        when(taskRepository.findBoardRows(eq(99L), anyMap(), anyInt())).thenReturn(List.of());
+        when(projectRepository.existsById(99L)).thenReturn(false);
+
+        assertThrows(EntityNotFoundException.class, () -> boardService.getBoard(99L, null, 20));
+    }
+}
@@ -0,0 +1,162 @@
+package com.tech.service;
+
+import com.tech.dto.BulkOperationResult;
+import com.tech.dto.BulkTaskOperationDTO;
+import com.tech.dto.TaskBulkFilterDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.model.Developer;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.TaskBulkFilter;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.TaskStateRow;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskBulkOperationService Unit Tests")
+class TaskBulkOperationServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private PageCounts pageCounts;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskBulkOperationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaskBulkOperationService(taskRepository, developerRepository, auditLogService, taskStatusCounters,
+                pageCounts, searchIndexer, transactionTemplate);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+    }
+
+    private void runTransactionsInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static BulkTaskOperationDTO setStatus(Task.TaskStatus status) {
+        BulkTaskOperationDTO operation = new BulkTaskOperationDTO();
+        operation.setProjectIds(Set.of(4L));
+        operation.setStatuses(Set.of(Task.TaskStatus.REVIEW));
+        operation.setAction(BulkTaskOperationDTO.Action.SET_STATUS);
+        operation.setStatus(status);
+        return operation;
+    }
+
+    @Test
+    @DisplayName("Should walk the matching tasks in chunks, one audit event and one transaction per chunk")
+    void updateByFilter_shouldSetStatusChunkByChunk() {
+        runTransactionsInline();
+        when(taskRepository.lockNextChunk(any(TaskBulkFilter.class), eq(0L), eq(2))).thenReturn(List.of(
+                new TaskStateRow(3L, 4L, Task.TaskStatus.REVIEW), new TaskStateRow(8L, 4L, Task.TaskStatus.REVIEW)));
+        when(taskRepository.lockNextChunk(any(TaskBulkFilter.class), eq(8L), eq(2))).thenReturn(List.of(
+                new TaskStateRow(9L, 4L, Task.TaskStatus.REVIEW)));
+
+        BulkOperationResult result = service.updateByFilter(setStatus(Task.TaskStatus.DONE));
+
+        assertEquals(3, result.affected());
+        assertEquals(2, result.chunks());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(taskRepository).updateStatus(List.of(3L, 8L), Task.TaskStatus.DONE);
+        verify(taskRepository).updateStatus(List.of(9L), Task.TaskStatus.DONE);
+        verify(taskStatusCounters).adjust(4L, Task.TaskStatus.REVIEW, -2);
+        verify(taskStatusCounters).adjust(4L, Task.TaskStatus.DONE, 2);
+        verify(auditLogService).logBulkAction(eq(AuditLogService.ENTITY_TASK), eq(TaskBulkOperationService.SET_STATUS_ACTION),
+                eq(List.of(3L, 8L)), anyMap());
+        verify(auditLogService).logBulkAction(eq(AuditLogService.ENTITY_TASK), eq(TaskBulkOperationService.SET_STATUS_ACTION),
+                eq(List.of(9L)), anyMap());
+        verifyNoInteractions(pageCounts);
+    }
+
+    @Test
+    @DisplayName("Tasks already in the target status should be neither written nor logged")
+    void updateByFilter_shouldSkipTasksAlreadyInStatus() {
+        runTransactionsInline();
+        when(taskRepository.lockNextChunk(any(TaskBulkFilter.class), eq(0L), eq(2)))
+                .thenReturn(List.of(new TaskStateRow(3L, 4L, Task.TaskStatus.DONE)));
+
+        BulkOperationResult result = service.updateByFilter(setStatus(Task.TaskStatus.DONE));
+
+        assertEquals(0, result.affected());
+        verify(taskRepository, never()).updateStatus(anyCollection(), any());
+        verifyNoInteractions(auditLogService, taskStatusCounters);
+    }
+
+    @Test
+    @DisplayName("Deleting should adjust counters, the search index and the affected listings' counts")
+    void deleteByFilter_shouldMaintainCountersAndCaches() {
+        runTransactionsInline();
+        TaskBulkFilterDTO filter = new TaskBulkFilterDTO();
+        filter.setProjectIds(Set.of(4L));
+        when(taskRepository.lockNextChunk(any(TaskBulkFilter.class), eq(0L), eq(2))).thenReturn(List.of(
+                new TaskStateRow(3L, 4L, Task.TaskStatus.TODO), new TaskStateRow(8L, 4L, Task.TaskStatus.DONE)));
+        when(taskRepository.lockNextChunk(any(TaskBulkFilter.class), eq(8L), eq(2))).thenReturn(List.of());
+        when(taskRepository.findAssigneeIds(List.of(3L, 8L))).thenReturn(List.of(7L));
+
+        BulkOperationResult result = service.deleteByFilter(filter);
+
+        assertEquals(2, result.affected());
+        assertEquals(1, result.chunks());
+        verify(taskRepository).deleteTasks(List.of(3L, 8L));
+        verify(taskStatusCounters).adjust(4L, Task.TaskStatus.TODO, -1);
+        verify(taskStatusCounters).adjust(4L, Task.TaskStatus.DONE, -1);
+        verify(searchIndexer).tasksDeleted(List.of(3L, 8L));
+        verify(pageCounts).invalidate(eq(TaskService.TASKS_TABLE),
+                argThat(listings -> listings.contains(null) && listings.contains("project=4") && listings.contains("developer=7")));
+    }
+
+    @Test
+    @DisplayName("Reassigning should reject developers that do not exist before writing anything")
+    void updateByFilter_shouldRejectUnknownDevelopers() {
+        BulkTaskOperationDTO operation = new BulkTaskOperationDTO();
+        operation.setStatuses(Set.of(Task.TaskStatus.TODO));
+        operation.setAction(BulkTaskOperationDTO.Action.REASSIGN);
+        operation.setDeveloperIds(Set.of(5L, 6L));
+        when(developerRepository.findAllById(anyIterable()))
+                .thenReturn(List.of(Developer.builder().id(5L).name("Alice").email("alice@example.com").build()));
+
+        assertThrows(EntityNotFoundException.class, () -> service.updateByFilter(operation));
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("Should refuse a filter that matches every task")
+    void deleteByFilter_shouldRejectEmptyFilter() {
+        assertThrows(InvalidQueryException.class, () -> service.deleteByFilter(new TaskBulkFilterDTO()));
+        verifyNoInteractions(transactionTemplate, taskRepository);
+    }
+}
@@ -0,0 +1,211 @@
+package com.tech.service;
+
+import com.tech.dto.BulkItemResult;
+import com.tech.dto.BulkResponse;
+import com.tech.dto.BulkTaskUpdateDTO;
+import com.tech.dto.CreateTaskDTO;
+import com.tech.exception.InvalidQueryException;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Developer;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.DeveloperRepository;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.search.SearchIndexer;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskBulkService Unit Tests")
+class TaskBulkServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private DeveloperRepository developerRepository;
+
+    @Mock
+    private AuditLogService auditLogService;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private PageCounts pageCounts;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private TaskBulkService bulkService;
+
+    private Project project;
+
+    @BeforeEach
+    void setUp() {
+        TaskMapper taskMapper = new TaskMapper();
+        bulkService = new TaskBulkService(taskRepository, projectRepository, developerRepository, taskMapper,
+                auditLogService, taskStatusCounters, pageCounts, searchIndexer,
+                Validation.buildDefaultValidatorFactory().getValidator(), entityManager);
+        ReflectionTestUtils.setField(bulkService, "chunkSize", 2);
+        project = new Project();
+        project.setId(1L);
+        project.setName("Project Alpha");
+    }
+
+    private static CreateTaskDTO item(String title, Long projectId, Long... developerIds) {
+        CreateTaskDTO item = new CreateTaskDTO();
+        item.setTitle(title);
+        item.setProjectId(projectId);
+        item.setAssignedDeveloperIds(developerIds.length == 0 ? null : List.of(developerIds));
+        return item;
+    }
+
+    private void assignIdsOnSave() {
+        AtomicLong ids = new AtomicLong(100);
+        when(taskRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Task> tasks = invocation.getArgument(0);
+            tasks.forEach(task -> task.setId(ids.getAndIncrement()));
+            return tasks;
+        });
+    }
+
+    @Test
+    @DisplayName("Should resolve references once and write valid items in flushed chunks")
+    void createTasks_shouldBatchLookupsAndChunkWrites() {
+        Developer developer = Developer.builder().id(5L).name("Alice").email("alice@example.com").build();
+        when(projectRepository.findAllById(anyIterable())).thenReturn(List.of(project));
+        when(developerRepository.findAllById(anyIterable())).thenReturn(List.of(developer));
+        assignIdsOnSave();
+
+        BulkResponse response = bulkService.createTasks(List.of(
+                item("One", 1L, 5L), item("Two", 1L), item("", 1L), item("Four", 2L), item("Five", 1L, 9L), item("Six", 1L)));
+
+        assertEquals(3, response.succeeded());
+        assertEquals(3, response.failed());
+        List<Integer> statuses = response.items().stream().map(BulkItemResult::status).toList();
+        assertEquals(List.of(201, 201, 400, 404, 404, 201), statuses);
+        assertEquals(List.of(100L, 101L, 102L), response.items().stream()
+                .filter(BulkItemResult::succeeded).map(BulkItemResult::id).toList());
+        assertTrue(response.items().get(2).error().startsWith("title"));
+        verify(projectRepository, times(1)).findAllById(anyIterable());
+        verify(developerRepository, times(1)).findAllById(anyIterable());
+        // three valid items in chunks of two
+        verify(taskRepository, times(2)).saveAll(anyList());
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(auditLogService, times(2)).logBulkAction(eq(AuditLogService.ENTITY_TASK), eq("BULK_CREATE"), anyList());
+        verify(taskStatusCounters, times(1)).adjust(1L, Task.TaskStatus.TODO, 3);
+        verify(pageCounts, times(1)).invalidate(TaskService.TASKS_TABLE);
+    }
+
+    @Test
+    @DisplayName("Should update existing tasks, move their counters and report missing ones")
+    void updateTasks_shouldApplyChangesAndReportMissing() {
+        Task existing = new Task();
+        existing.setId(10L);
+        existing.setTitle("Old");
+        existing.setStatus(Task.TaskStatus.TODO);
+        existing.setProject(project);
+        existing.setAssignedDevelopers(new HashSet<>());
+        when(projectRepository.findAllById(anyIterable())).thenReturn(List.of(project));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(existing));
+
+        BulkTaskUpdateDTO done = new BulkTaskUpdateDTO();
+        done.setId(10L);
+        done.setTitle("New");
+        done.setStatus("DONE");
+        done.setProjectId(1L);
+        BulkTaskUpdateDTO missing = new BulkTaskUpdateDTO();
+        missing.setId(11L);
+        missing.setTitle("Gone");
+        missing.setProjectId(1L);
+        BulkTaskUpdateDTO duplicate = new BulkTaskUpdateDTO();
+        duplicate.setId(10L);
+        duplicate.setTitle("Again");
+        duplicate.setProjectId(1L);
+
+        BulkResponse response = bulkService.updateTasks(List.of(done, missing, duplicate));
+
+        assertEquals(List.of(200, 404, 400), response.items().stream().map(BulkItemResult::status).toList());
+        assertEquals("New", existing.getTitle());
+        assertEquals(Task.TaskStatus.DONE, existing.getStatus());
+        verify(taskStatusCounters).adjust(1L, Task.TaskStatus.TODO, -1);
+        verify(taskStatusCounters).adjust(1L, Task.TaskStatus.DONE, 1);
+        verify(auditLogService, times(1)).logBulkAction(AuditLogService.ENTITY_TASK, "BULK_UPDATE", List.of(10L));
+        verify(searchIndexer, times(1)).tasksSaved(List.of(existing));
+    }
+
+    @Test
+    @DisplayName("Should diff the assignees of a whole chunk by id without loading any assignee set")
+    void updateTasks_shouldDiffAssigneesPerChunk() {
+        Task first = new Task();
+        first.setId(10L);
+        first.setTitle("First");
+        first.setProject(project);
+        Task second = new Task();
+        second.setId(11L);
+        second.setTitle("Second");
+        second.setProject(project);
+        when(projectRepository.findAllById(anyIterable())).thenReturn(List.of(project));
+        when(developerRepository.findAllById(anyIterable())).thenReturn(List.of(
+                Developer.builder().id(5L).build(), Developer.builder().id(6L).build(), Developer.builder().id(7L).build()));
+        when(taskRepository.findAllById(anyIterable())).thenReturn(List.of(first, second));
+        when(taskRepository.findAssignments(Set.of(10L, 11L))).thenReturn(List.of(
+                new IdPairRow(5L, 10L), new IdPairRow(6L, 10L), new IdPairRow(7L, 11L)));
+
+        BulkTaskUpdateDTO keepOneAddOne = new BulkTaskUpdateDTO();
+        keepOneAddOne.setId(10L);
+        keepOneAddOne.setTitle("First");
+        keepOneAddOne.setProjectId(1L);
+        keepOneAddOne.setAssignedDeveloperIds(List.of(5L, 7L));
+        BulkTaskUpdateDTO unassign = new BulkTaskUpdateDTO();
+        unassign.setId(11L);
+        unassign.setTitle("Second");
+        unassign.setProjectId(1L);
+        unassign.setAssignedDeveloperIds(List.of());
+
+        BulkResponse response = bulkService.updateTasks(List.of(keepOneAddOne, unassign));
+
+        assertEquals(2, response.succeeded());
+        verify(taskRepository, times(1)).findAssignments(anyCollection());
+        verify(taskRepository).removeAssignments(List.of(new IdPairRow(6L, 10L), new IdPairRow(7L, 11L)));
+        verify(taskRepository).addAssignments(Set.of(new IdPairRow(7L, 10L)));
+        // the developers are loaded once, to check they exist
+        verify(developerRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    @DisplayName("Should reject empty and oversized batches")
+    void createTasks_shouldRejectBatchSize() {
+        assertThrows(InvalidQueryException.class, () -> bulkService.createTasks(List.of()));
+        assertThrows(InvalidQueryException.class, () -> bulkService.createTasks(
+                Collections.nCopies(TaskBulkService.MAX_ITEMS + 1, item("Task", 1L))));
+        verifyNoInteractions(taskRepository);
+    }
+}
@@ -0,0 +1,124 @@
+package com.tech.service;
+
+import com.tech.dto.TaskFacets;
+import com.tech.dto.TaskSearchResponse;
+import com.tech.exception.InvalidQueryException;
+import com.tech.mapper.DeveloperMapper;
+import com.tech.mapper.ProjectMapper;
+import com.tech.mapper.TaskMapper;
+import com.tech.model.Project;
+import com.tech.model.Task;
+import com.tech.repository.TaskFilter;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.TaskSearchRepository;
+import com.tech.repository.projection.FacetCountRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskSearchService Unit Tests")
+class TaskSearchServiceTest {
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    private TaskSearchService searchService;
+
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @BeforeEach
+    void setUp() {
+        ReadModelAssembler assembler = new ReadModelAssembler(taskRepository, new TaskMapper(), new ProjectMapper(), new DeveloperMapper());
+        searchService = new TaskSearchService(taskRepository, assembler);
+    }
+
+    private static Task task(long id, Task.TaskStatus status) {
+        Project project = new Project();
+        project.setId(1L);
+        project.setName("Project Alpha");
+        Task task = new Task();
+        task.setId(id);
+        task.setTitle("Task " + id);
+        task.setStatus(status);
+        task.setProject(project);
+        return task;
+    }
+
+    @Test
+    @DisplayName("Should return the filtered page without facet counts unless asked for")
+    @SuppressWarnings("unchecked")
+    void search_shouldSkipFacets_whenNotRequested() {
+        when(taskRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(task(1, Task.TaskStatus.TODO)), pageable, 1));
+        when(taskRepository.findAssigneesByTaskIds(anyCollection())).thenReturn(List.of());
+
+        TaskSearchResponse response = searchService.search(List.of("todo"), Set.of(1L), null, null, "task", pageable, false);
+
+        assertEquals(1, response.getResults().getTotalElements());
+        assertEquals("Project Alpha", response.getResults().getContent().get(0).getProjectName());
+        assertNull(response.getFacets());
+        verify(taskRepository, never()).findFacetCounts(any());
+    }
+
+    @Test
+    @DisplayName("Should count facets with one query over the same filter as the page")
+    @SuppressWarnings("unchecked")
+    void search_shouldCountFacetsForSameFilter() {
+        when(taskRepository.findAll(any(Specification.class), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+        when(taskRepository.findFacetCounts(any())).thenReturn(List.of());
+
+        searchService.search(List.of("TODO", "review"), null, Set.of(4L), List.of("overdue"), "  fix  ", pageable, true);
+
+        ArgumentCaptor<TaskFilter> filter = ArgumentCaptor.forClass(TaskFilter.class);
+        verify(taskRepository, times(1)).findFacetCounts(filter.capture());
+        assertEquals(Set.of(Task.TaskStatus.TODO, Task.TaskStatus.REVIEW), filter.getValue().statuses());
+        assertEquals(Set.of(4L), filter.getValue().assigneeIds());
+        assertEquals(Set.of(TaskFilter.DueBucket.OVERDUE), filter.getValue().dueBuckets());
+        assertEquals("fix", filter.getValue().text());
+    }
+
+    @Test
+    @DisplayName("Should zero-fill status and due-date facets and keep unassigned tasks apart")
+    void toFacets_shouldShapeRows() {
+        TaskFacets facets = TaskSearchService.toFacets(List.of(
+                new FacetCountRow(TaskSearchRepository.STATUS_FACET, "TODO", 3),
+                new FacetCountRow(TaskSearchRepository.PROJECT_FACET, "7", 1),
+                new FacetCountRow(TaskSearchRepository.PROJECT_FACET, "2", 2),
+                new FacetCountRow(TaskSearchRepository.ASSIGNEE_FACET, "5", 2),
+                new FacetCountRow(TaskSearchRepository.ASSIGNEE_FACET, null, 1),
+                new FacetCountRow(TaskSearchRepository.DUE_DATE_FACET, "NONE", 3)));
+
+        assertEquals(Map.of("TODO", 3L, "IN_PROGRESS", 0L, "REVIEW", 0L, "DONE", 0L), facets.getStatus());
+        assertEquals(List.of(2L, 7L), List.copyOf(facets.getProject().keySet()));
+        assertEquals(Map.of(5L, 2L), facets.getAssignee());
+        assertEquals(1, facets.getUnassigned());
+        assertEquals(0L, facets.getDueDate().get("OVERDUE"));
+        assertEquals(3L, facets.getDueDate().get("NONE"));
+    }
+
+    @Test
+    @DisplayName("Should reject unknown filter values")
+    void search_shouldRejectUnknownStatus() {
+        assertThrows(InvalidQueryException.class,
+                () -> searchService.search(List.of("ARCHIVED"), null, null, null, null, pageable, false));
+        verifyNoInteractions(taskRepository);
+    }
+}
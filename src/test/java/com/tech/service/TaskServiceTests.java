@@ -1,8 +1,12 @@
 package com.tech.service;
 
+import com.tech.dto.BatchAssignRequest;
+import com.tech.dto.BatchAssignResult;
 import com.tech.dto.CreateTaskDTO;
 import com.tech.dto.DeveloperDTO;
 import com.tech.dto.TaskDTO;
+import com.tech.dto.fields.FieldSet;
+import com.tech.exception.InvalidQueryException;
 import com.tech.mapper.TaskMapper;
 import com.tech.model.Developer;
 import com.tech.model.Project;
@@ -11,6 +15,9 @@ import com.tech.model.Task.TaskStatus;
 import com.tech.repository.DeveloperRepository;
 import com.tech.repository.ProjectRepository;
 import com.tech.repository.TaskRepository;
+import com.tech.repository.projection.IdPairRow;
+import com.tech.repository.projection.TaskRow;
+import com.tech.search.SearchIndexer;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,6 +25,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -28,8 +36,12 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -53,6 +65,18 @@ class TaskServiceTest {
     @Mock
     private AuditLogService auditLogService;
 
+    @Mock
+    private ReadModelAssembler readModelAssembler;
+
+    @Mock
+    private TaskStatusCounters taskStatusCounters;
+
+    @Mock
+    private SearchIndexer searchIndexer;
+
+    @Spy
+    private PageCounts pageCounts = new PageCounts(null, 30_000);
+
     @InjectMocks
     private TaskService taskService;
 
@@ -60,6 +84,7 @@ class TaskServiceTest {
     private Developer developer1;
     private DeveloperDTO developerDTO1;
     private Task task1;
+    private TaskRow taskRow1;
     private TaskDTO taskDTO1;
     private CreateTaskDTO createTaskDTO;
 
@@ -97,7 +122,9 @@ class TaskServiceTest {
         task1.setStatus(TaskStatus.TODO);
         task1.setDueDate(LocalDate.now().plusDays(7));
         task1.setProject(project);
-        task1.setAssignedDevelopers(Collections.singletonList(developer1)); // Immutable for initial setup
+        task1.setAssignedDevelopers(new HashSet<>(Set.of(developer1))); // Mutable: updates change it in place
+
+        taskRow1 = new TaskRow(1L, "Task 1", "Desc 1", TaskStatus.TODO, task1.getDueDate(), 1L, "Project Alpha");
 
         taskDTO1 = new TaskDTO();
         taskDTO1.setId(1L);
@@ -122,78 +149,79 @@ class TaskServiceTest {
     @DisplayName("Should return all tasks with pagination")
     void getAllTasks_shouldReturnAllTasks() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(task1), pageable, 1);
+        Page<TaskRow> rowPage = new PageImpl<>(Collections.singletonList(taskRow1), pageable, 1);
 
-        when(taskRepository.findAll(pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDTO1);
+        when(taskRepository.findTaskRows(pageable)).thenReturn(rowPage);
+        when(readModelAssembler.toTaskSlice(rowPage, FieldSet.ALL)).thenReturn(new PageImpl<>(List.of(taskDTO1), pageable, 1));
 
-        Page<TaskDTO> result = taskService.getAllTasks(pageable);
+        Page<TaskDTO> result = (Page<TaskDTO>) taskService.getAllTasks(pageable, CountMode.EXACT, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDTO1.getId(), result.getContent().get(0).getId());
-        verify(taskRepository, times(1)).findAll(pageable);
-        verify(taskMapper, times(1)).toDto(task1);
+        verify(taskRepository, times(1)).findTaskRows(pageable);
+        verify(readModelAssembler, times(1)).toTaskSlice(rowPage, FieldSet.ALL);
+        verifyNoInteractions(taskMapper);
     }
 
     @Test
     @DisplayName("Should return task by ID when found")
     void getTaskById_shouldReturnTask_whenFound() {
-        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        when(taskMapper.toDto(task1)).thenReturn(taskDTO1);
+        when(taskRepository.findTaskRowById(1L)).thenReturn(Optional.of(taskRow1));
+        when(readModelAssembler.toTaskDtos(List.of(taskRow1), FieldSet.ALL)).thenReturn(List.of(taskDTO1));
 
-        TaskDTO result = taskService.getTaskById(1);
+        TaskDTO result = taskService.getTaskById(1, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(taskDTO1.getId(), result.getId());
-        verify(taskRepository, times(1)).findById(1L);
-        verify(taskMapper, times(1)).toDto(task1);
+        verify(taskRepository, times(1)).findTaskRowById(1L);
+        verify(readModelAssembler, times(1)).toTaskDtos(List.of(taskRow1), FieldSet.ALL);
     }
 
     @Test
     @DisplayName("Should throw EntityNotFoundException when task not found by ID")
     void getTaskById_shouldThrowException_whenNotFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.findTaskRowById(anyLong())).thenReturn(Optional.empty());
 
-        assertThrows(EntityNotFoundException.class, () -> taskService.getTaskById(99));
-        verify(taskRepository, times(1)).findById(99L);
-        verifyNoInteractions(taskMapper);
+        assertThrows(EntityNotFoundException.class, () -> taskService.getTaskById(99, FieldSet.ALL));
+        verify(taskRepository, times(1)).findTaskRowById(99L);
+        verifyNoInteractions(taskMapper, readModelAssembler);
     }
 
     @Test
     @DisplayName("Should return tasks by project ID with pagination")
     void getTasksByProjectId_shouldReturnTasks() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(task1), pageable, 1);
+        Page<TaskRow> rowPage = new PageImpl<>(Collections.singletonList(taskRow1), pageable, 1);
 
-        when(taskRepository.findByProjectId(project.getId(), pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDTO1);
+        when(taskRepository.findTaskRowsByProjectId(project.getId(), pageable)).thenReturn(rowPage);
+        when(readModelAssembler.toTaskSlice(rowPage, FieldSet.ALL)).thenReturn(new PageImpl<>(List.of(taskDTO1), pageable, 1));
 
-        Page<TaskDTO> result = taskService.getTasksByProjectId(project.getId().intValue(), pageable);
+        Page<TaskDTO> result = (Page<TaskDTO>) taskService.getTasksByProjectId(project.getId().intValue(), pageable, CountMode.EXACT, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDTO1.getId(), result.getContent().get(0).getId());
-        verify(taskRepository, times(1)).findByProjectId(project.getId(), pageable);
-        verify(taskMapper, times(1)).toDto(task1);
+        verify(taskRepository, times(1)).findTaskRowsByProjectId(project.getId(), pageable);
+        verify(readModelAssembler, times(1)).toTaskSlice(rowPage, FieldSet.ALL);
     }
 
     @Test
     @DisplayName("Should return tasks by developer ID with pagination")
     void getTasksByDeveloperId_shouldReturnTasks() {
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Task> taskPage = new PageImpl<>(Collections.singletonList(task1), pageable, 1);
+        Page<TaskRow> rowPage = new PageImpl<>(Collections.singletonList(taskRow1), pageable, 1);
 
-        when(taskRepository.findByAssignedDevelopersId(developer1.getId(), pageable)).thenReturn(taskPage);
-        when(taskMapper.toDto(any(Task.class))).thenReturn(taskDTO1);
+        when(taskRepository.findTaskRowsByDeveloperId(developer1.getId(), pageable)).thenReturn(rowPage);
+        when(readModelAssembler.toTaskSlice(rowPage, FieldSet.ALL)).thenReturn(new PageImpl<>(List.of(taskDTO1), pageable, 1));
 
-        Page<TaskDTO> result = taskService.getTasksByDeveloperId(developer1.getId().intValue(), pageable);
+        Page<TaskDTO> result = (Page<TaskDTO>) taskService.getTasksByDeveloperId(developer1.getId().intValue(), pageable, CountMode.EXACT, FieldSet.ALL);
 
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(taskDTO1.getId(), result.getContent().get(0).getId());
-        verify(taskRepository, times(1)).findByAssignedDevelopersId(developer1.getId(), pageable);
-        verify(taskMapper, times(1)).toDto(task1);
+        verify(taskRepository, times(1)).findTaskRowsByDeveloperId(developer1.getId(), pageable);
+        verify(readModelAssembler, times(1)).toTaskSlice(rowPage, FieldSet.ALL);
     }
 
     @Test
@@ -213,7 +241,7 @@ class TaskServiceTest {
         savedTask.setStatus(TaskStatus.valueOf(createTaskDTO.getStatus())); // Convert string to enum
         savedTask.setDueDate(createTaskDTO.getDueDate());
         savedTask.setProject(project);
-        savedTask.setAssignedDevelopers(Collections.singletonList(developer1));
+        savedTask.setAssignedDevelopers(Set.of(developer1));
 
         TaskDTO savedTaskDTO = new TaskDTO();
         savedTaskDTO.setId(2L);
@@ -244,6 +272,8 @@ class TaskServiceTest {
         verify(taskMapper, times(1)).toEntity(createTaskDTO); // Mapper creates entity
         verify(taskRepository, times(1)).save(newTask);
         verify(taskMapper, times(1)).toDto(savedTask);
+        verify(taskStatusCounters, times(1)).taskCreated(1L, TaskStatus.IN_PROGRESS);
+        verify(searchIndexer, times(1)).taskSaved(savedTask);
         verify(auditLogService, times(1)).logTaskAction("CREATE", savedTaskDTO);
     }
 
@@ -276,7 +306,6 @@ class TaskServiceTest {
         updatedTaskEntity.setStatus(TaskStatus.DONE);
         updatedTaskEntity.setDueDate(LocalDate.now().plusDays(15));
         updatedTaskEntity.setProject(project);
-        updatedTaskEntity.setAssignedDevelopers(Collections.singletonList(developer1));
 
         TaskDTO updatedTaskDTOExpected = new TaskDTO();
         updatedTaskDTOExpected.setId(1L);
@@ -289,13 +318,14 @@ class TaskServiceTest {
 
 
         when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
-        when(developerRepository.findAllById(updateTaskDTO.getAssignedDeveloperIds())).thenReturn(Collections.singletonList(developer1));
+        when(taskRepository.findAssigneeIds(List.of(1L))).thenReturn(List.of(1L));
+        when(taskMapper.toDto(eq(taskRow1), anyList())).thenReturn(taskDTO1); // Pre-update state used for the audit diff
         // Mock the mapper's update method
         doNothing().when(taskMapper).updateEntityFromDto(updateTaskDTO, task1);
         when(taskRepository.save(task1)).thenReturn(updatedTaskEntity); // Return the updated entity
-        when(taskMapper.toDto(updatedTaskEntity)).thenReturn(updatedTaskDTOExpected); // Mapper converts the updated entity
+        when(readModelAssembler.toTaskDtos(List.of(TaskRow.of(updatedTaskEntity)))).thenReturn(List.of(updatedTaskDTOExpected));
 
-        doNothing().when(auditLogService).logTaskAction(anyString(), any(TaskDTO.class));
+        doNothing().when(auditLogService).logTaskUpdate(any(TaskDTO.class), any(TaskDTO.class));
 
         TaskDTO result = taskService.updateTask(1, updateTaskDTO);
 
@@ -303,11 +333,13 @@ class TaskServiceTest {
         assertEquals(updatedTaskDTOExpected.getTitle(), result.getTitle());
         assertEquals(updatedTaskDTOExpected.getStatus(), result.getStatus());
         verify(taskRepository, times(1)).findById(1L);
-        verify(developerRepository, times(1)).findAllById(updateTaskDTO.getAssignedDeveloperIds());
+        verify(taskRepository, never()).assignAll(anyCollection(), anyCollection()); // Assignees unchanged: nothing to write
+        verify(taskRepository, never()).removeAssignees(anyLong(), anyCollection());
         verify(taskMapper, times(1)).updateEntityFromDto(updateTaskDTO, task1); // Verify mapper update
         verify(taskRepository, times(1)).save(task1); // Verify save on the existing entity
-        verify(taskMapper, times(1)).toDto(updatedTaskEntity);
-        verify(auditLogService, times(1)).logTaskAction("UPDATE", updatedTaskDTOExpected);
+        verify(taskMapper, never()).toDto(any(Task.class)); // The assignee set is never mapped, so never loaded
+        verify(taskStatusCounters, times(1)).taskMoved(1L, TaskStatus.TODO, 1L, TaskStatus.DONE);
+        verify(auditLogService, times(1)).logTaskUpdate(taskDTO1, updatedTaskDTOExpected);
     }
 
     @Test
@@ -323,10 +355,63 @@ class TaskServiceTest {
         verifyNoInteractions(auditLogService);
     }
 
+    @Test
+    @DisplayName("Should write only the assignee diff, by id, without loading the assignee set")
+    void updateTask_shouldApplyAssigneeDiff() {
+        CreateTaskDTO updateTaskDTO = new CreateTaskDTO();
+        updateTaskDTO.setAssignedDeveloperIds(List.of(2L, 3L));
+
+        when(taskRepository.findById(1L)).thenReturn(Optional.of(task1));
+        when(taskRepository.findAssigneeIds(List.of(1L))).thenReturn(List.of(1L));
+        when(taskRepository.save(task1)).thenReturn(task1);
+        when(readModelAssembler.toTaskDtos(anyList())).thenReturn(List.of(taskDTO1));
+
+        taskService.updateTask(1, updateTaskDTO);
+
+        verify(taskRepository, times(1)).removeAssignees(1L, Set.of(1L));
+        verify(taskRepository, times(1)).assignAll(Set.of(1L), Set.of(2L, 3L));
+        verify(developerRepository, never()).findAllById(any());
+        verify(auditLogService, times(1)).logTaskUpdate(any(), eq(taskDTO1));
+    }
+
+    @Test
+    @DisplayName("Should add an assignee with one join-table insert, without loading the task")
+    void addAssignee_shouldInsertJoinRow() {
+        when(taskRepository.addAssignee(1L, 2L)).thenReturn(1);
+
+        assertTrue(taskService.addAssignee(1L, 2L));
+        verify(taskRepository, never()).findById(anyLong());
+        verify(pageCounts, times(1)).invalidate(TaskService.TASKS_TABLE, List.of("developer=2"));
+        verify(auditLogService, times(1)).logTaskAssignment(TaskService.ASSIGN_ACTION, 1L, 2L);
+    }
+
+    @Test
+    @DisplayName("Adding an assignee twice should be a no-op")
+    void addAssignee_shouldBeIdempotent() {
+        when(taskRepository.addAssignee(1L, 1L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(developerRepository.existsById(1L)).thenReturn(true);
+
+        assertFalse(taskService.addAssignee(1L, 1L));
+        verifyNoInteractions(pageCounts);
+        verifyNoInteractions(auditLogService);
+    }
+
+    @Test
+    @DisplayName("Should remove an assignee with one join-table delete")
+    void removeAssignee_shouldDeleteJoinRow() {
+        when(taskRepository.removeAssignee(1L, 1L)).thenReturn(1);
+
+        assertTrue(taskService.removeAssignee(1L, 1L));
+        verify(pageCounts, times(1)).invalidate(TaskService.TASKS_TABLE, List.of("developer=1"));
+        verify(auditLogService, times(1)).logTaskAssignment(TaskService.UNASSIGN_ACTION, 1L, 1L);
+    }
+
     @Test
     @DisplayName("Should throw EntityNotFoundException when assigning developer to non-existent task")
     void assignDeveloperToTask_shouldThrowException_whenTaskNotFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.addAssignee(99L, 1L)).thenReturn(0);
+        when(taskRepository.existsById(99L)).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> taskService.assignDeveloperToTask(99, 1));
         verifyNoInteractions(developerRepository);
@@ -337,14 +422,66 @@ class TaskServiceTest {
     @Test
     @DisplayName("Should throw EntityNotFoundException when assigning non-existent developer to task")
     void assignDeveloperToTask_shouldThrowException_whenDeveloperNotFound() {
-        when(taskRepository.findById(anyLong())).thenReturn(Optional.of(task1));
-        when(developerRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(taskRepository.addAssignee(1L, 99L)).thenReturn(0);
+        when(taskRepository.existsById(1L)).thenReturn(true);
+        when(developerRepository.existsById(99L)).thenReturn(false);
 
         assertThrows(EntityNotFoundException.class, () -> taskService.assignDeveloperToTask(1, 99));
-        verify(taskRepository, times(1)).findById(1L);
-        verify(developerRepository, times(1)).findById(99L);
-        verifyNoMoreInteractions(taskRepository);
+        verify(taskRepository, times(1)).addAssignee(1L, 99L);
+        verify(developerRepository, times(1)).existsById(99L);
+        verify(taskRepository, never()).findById(anyLong());
         verifyNoInteractions(taskMapper);
         verifyNoInteractions(auditLogService);
     }
+
+    private static BatchAssignRequest batchAssign(List<Long> taskIds, List<Long> developerIds) {
+        BatchAssignRequest request = new BatchAssignRequest();
+        request.setTaskIds(new LinkedHashSet<>(taskIds));
+        request.setDeveloperIds(new LinkedHashSet<>(developerIds));
+        return request;
+    }
+
+    @Test
+    @DisplayName("Batch assign should insert only the missing pairs and report unknown ids")
+    void assignDevelopers_shouldSkipAssignedPairs_andReportMissingIds() {
+        BatchAssignRequest request = batchAssign(List.of(1L, 2L, 99L), List.of(5L, 6L));
+        when(taskRepository.findIdsByIdIn(request.getTaskIds())).thenReturn(List.of(1L, 2L));
+        when(developerRepository.findIdsByIdIn(request.getDeveloperIds())).thenReturn(List.of(5L, 6L));
+        when(taskRepository.assignAll(request.getTaskIds(), request.getDeveloperIds()))
+                .thenReturn(List.of(new IdPairRow(5L, 1L), new IdPairRow(6L, 1L), new IdPairRow(6L, 2L)));
+
+        BatchAssignResult result = taskService.assignDevelopers(request);
+
+        assertEquals(new BatchAssignResult(3, 1, List.of(99L), List.of()), result);
+        verify(taskRepository, times(1)).assignAll(request.getTaskIds(), request.getDeveloperIds());
+        verify(pageCounts, times(1)).invalidate(TaskService.TASKS_TABLE, List.of("developer=5", "developer=6"));
+        verify(auditLogService, times(1)).logBulkAction(AuditLogService.ENTITY_TASK, TaskService.BULK_ASSIGN_ACTION,
+                List.of(1L, 2L), Map.of("developerIds", Set.of(5L, 6L)));
+    }
+
+    @Test
+    @DisplayName("Batch assign of pairs that are all assigned already should change nothing")
+    void assignDevelopers_shouldBeIdempotent() {
+        BatchAssignRequest request = batchAssign(List.of(1L), List.of(5L));
+        when(taskRepository.findIdsByIdIn(request.getTaskIds())).thenReturn(List.of(1L));
+        when(developerRepository.findIdsByIdIn(request.getDeveloperIds())).thenReturn(List.of(5L));
+        when(taskRepository.assignAll(request.getTaskIds(), request.getDeveloperIds())).thenReturn(List.of());
+
+        assertEquals(new BatchAssignResult(0, 1, List.of(), List.of()), taskService.assignDevelopers(request));
+        verifyNoInteractions(pageCounts);
+        verifyNoInteractions(auditLogService);
+    }
+
+    @Test
+    @DisplayName("Batch assign should reject more pairs than the limit before touching the database")
+    void assignDevelopers_shouldRejectTooManyPairs() {
+        List<Long> taskIds = new ArrayList<>();
+        for (long id = 1; id <= TaskService.MAX_ASSIGNMENTS; id++) {
+            taskIds.add(id);
+        }
+        BatchAssignRequest request = batchAssign(taskIds, List.of(1L, 2L));
+
+        assertThrows(InvalidQueryException.class, () -> taskService.assignDevelopers(request));
+        verifyNoInteractions(taskRepository);
+    }
 }
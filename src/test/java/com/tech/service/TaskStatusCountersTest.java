@@ -0,0 +1,105 @@
+package com.tech.service;
+
+import com.tech.dto.ProjectTaskStats;
+import com.tech.model.Task.TaskStatus;
+import com.tech.model.TaskStatusCounter;
+import com.tech.repository.ProjectRepository;
+import com.tech.repository.TaskRepository;
+import com.tech.repository.TaskStatusCounterRepository;
+import com.tech.repository.projection.StatusCountRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TaskStatusCounters Unit Tests")
+class TaskStatusCountersTest {
+
+    @Mock
+    private TaskStatusCounterRepository counterRepository;
+
+    @Mock
+    private TaskRepository taskRepository;
+
+    @Mock
+    private ProjectRepository projectRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private TaskStatusCounters counters;
+
+    @BeforeEach
+    void setUp() {
+        counters = new TaskStatusCounters(counterRepository, taskRepository, projectRepository, transactionTemplate);
+    }
+
+    @Test
+    @DisplayName("A status change should move one task between counters")
+    void taskMoved_shouldApplyOppositeDeltas() {
+        counters.taskMoved(1L, TaskStatus.TODO, 1L, TaskStatus.DONE);
+
+        verify(counterRepository).addDelta(eq(TaskStatusCounters.LOCK_CLASS), anyInt(), eq(1L), eq("TODO"), eq(-1L));
+        verify(counterRepository).addDelta(eq(TaskStatusCounters.LOCK_CLASS), anyInt(), eq(1L), eq("DONE"), eq(1L));
+    }
+
+    @Test
+    @DisplayName("An update that keeps project and status should not touch the counters")
+    void taskMoved_shouldSkipUnchanged() {
+        counters.taskMoved(1L, TaskStatus.REVIEW, 1L, TaskStatus.REVIEW);
+
+        verifyNoInteractions(counterRepository);
+    }
+
+    @Test
+    @DisplayName("Stats should list every status, in request order, with zeros for unknown projects")
+    void stats_shouldFillMissingStatuses() {
+        when(counterRepository.findByProjectIdIn(List.of(2L, 1L))).thenReturn(List.of(
+                new TaskStatusCounter(1L, TaskStatus.TODO, 3),
+                new TaskStatusCounter(1L, TaskStatus.DONE, 2)));
+
+        List<ProjectTaskStats> stats = counters.stats(List.of(2L, 1L));
+
+        assertEquals(2L, stats.get(0).getProjectId());
+        assertEquals(0, stats.get(0).getTotal());
+        assertEquals(List.of("TODO", "IN_PROGRESS", "REVIEW", "DONE"), List.copyOf(stats.get(1).getCountsByStatus().keySet()));
+        assertEquals(3L, stats.get(1).getCountsByStatus().get("TODO"));
+        assertEquals(0L, stats.get(1).getCountsByStatus().get("REVIEW"));
+        assertEquals(5, stats.get(1).getTotal());
+    }
+
+    @Test
+    @DisplayName("Reconciliation should overwrite only the counters that drifted")
+    void reconcileAll_shouldRepairDrift() {
+        when(projectRepository.findAllIds()).thenReturn(List.of(1L));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(taskRepository.countByStatusForProject(1L)).thenReturn(List.of(
+                new StatusCountRow(1L, TaskStatus.TODO, 4L),
+                new StatusCountRow(1L, TaskStatus.DONE, 1L)));
+        when(counterRepository.findByProjectId(1L)).thenReturn(List.of(
+                new TaskStatusCounter(1L, TaskStatus.TODO, 4),
+                new TaskStatusCounter(1L, TaskStatus.DONE, 3),
+                new TaskStatusCounter(1L, TaskStatus.REVIEW, 2)));
+
+        int drifted = counters.reconcileAll();
+
+        assertEquals(2, drifted);
+        verify(counterRepository).lockExclusive(eq(TaskStatusCounters.LOCK_CLASS), anyInt());
+        verify(counterRepository).setCount(1L, "DONE", 1L);
+        verify(counterRepository).setCount(1L, "REVIEW", 0L);
+        verify(counterRepository, never()).setCount(eq(1L), eq("TODO"), anyLong());
+        verify(counterRepository).deleteOrphans();
+    }
+}